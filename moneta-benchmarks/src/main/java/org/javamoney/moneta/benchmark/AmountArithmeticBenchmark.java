@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.benchmark;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryAmount;
+
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.Money;
+import org.javamoney.moneta.RoundedMoney;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the basic arithmetic and comparison operations of {@link Money}, {@link FastMoney} and
+ * {@link RoundedMoney}. Each fork runs with a single amount type, so the call sites stay monomorphic as
+ * they would in an application using one amount implementation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AmountArithmeticBenchmark {
+
+    @Param({"Money", "FastMoney", "RoundedMoney"})
+    public String amountType;
+
+    private MonetaryAmount amount;
+
+    private MonetaryAmount other;
+
+    private Comparable<MonetaryAmount> comparable;
+
+    private final BigDecimal factor = new BigDecimal("3.4");
+
+    private final BigDecimal divisor = new BigDecimal("5.456");
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        CurrencyUnit euro = Monetary.getCurrency("EUR");
+        amount = create(new BigDecimal("1234567.3444"), euro);
+        other = create(new BigDecimal("232323.12"), euro);
+        comparable = (Comparable<MonetaryAmount>) amount;
+    }
+
+    private MonetaryAmount create(BigDecimal number, CurrencyUnit currency) {
+        switch (amountType) {
+            case "FastMoney":
+                return FastMoney.of(number, currency);
+            case "RoundedMoney":
+                return RoundedMoney.of(number, currency);
+            default:
+                return Money.of(number, currency);
+        }
+    }
+
+    @Benchmark
+    public MonetaryAmount add() {
+        return amount.add(other);
+    }
+
+    @Benchmark
+    public MonetaryAmount subtract() {
+        return amount.subtract(other);
+    }
+
+    @Benchmark
+    public MonetaryAmount multiply() {
+        return amount.multiply(factor);
+    }
+
+    @Benchmark
+    public MonetaryAmount multiplyLong() {
+        return amount.multiply(3L);
+    }
+
+    @Benchmark
+    public MonetaryAmount divide() {
+        return amount.divide(divisor);
+    }
+
+    @Benchmark
+    public MonetaryAmount divideLong() {
+        return amount.divide(7L);
+    }
+
+    @Benchmark
+    public int compareTo() {
+        return comparable.compareTo(other);
+    }
+
+    @Benchmark
+    public boolean isEqualTo() {
+        return amount.isEqualTo(other);
+    }
+
+    @Benchmark
+    public boolean isGreaterThan() {
+        return amount.isGreaterThan(other);
+    }
+
+    /**
+     * The loop body of {@code PerformanceTest} in {@code moneta-core}, for comparison with its numbers.
+     */
+    @Benchmark
+    public MonetaryAmount mixedPipeline() {
+        return amount.add(other).subtract(other).multiply(factor).divide(divisor);
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.benchmark;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryAmount;
+import javax.money.convert.CurrencyConversion;
+import javax.money.convert.ExchangeRate;
+import javax.money.convert.ExchangeRateProvider;
+import javax.money.convert.MonetaryConversions;
+
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures rate lookup and currency conversion through the ECB providers. The providers are initialized
+ * from the rate files bundled with {@code moneta-convert-ecb}, so no network access is required for
+ * the measured operations. {@code USD -> JPY} is triangulated over {@code EUR}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConversionBenchmark {
+
+    @Param({"ECB", "ECB-HIST90"})
+    public String provider;
+
+    private ExchangeRateProvider rateProvider;
+
+    private CurrencyUnit euro;
+
+    private CurrencyUnit dollar;
+
+    private CurrencyUnit yen;
+
+    private CurrencyConversion toDollar;
+
+    private MonetaryAmount money;
+
+    private MonetaryAmount fastMoney;
+
+    @Setup
+    public void setup() {
+        rateProvider = MonetaryConversions.getExchangeRateProvider(provider);
+        euro = Monetary.getCurrency("EUR");
+        dollar = Monetary.getCurrency("USD");
+        yen = Monetary.getCurrency("JPY");
+        toDollar = rateProvider.getCurrencyConversion(dollar);
+        money = Money.of(new BigDecimal("1234.56"), euro);
+        fastMoney = FastMoney.of(new BigDecimal("1234.56"), euro);
+    }
+
+    @Benchmark
+    public ExchangeRate directRate() {
+        return rateProvider.getExchangeRate(euro, dollar);
+    }
+
+    @Benchmark
+    public ExchangeRate triangulatedRate() {
+        return rateProvider.getExchangeRate(dollar, yen);
+    }
+
+    @Benchmark
+    public MonetaryAmount convertMoney() {
+        return money.with(toDollar);
+    }
+
+    @Benchmark
+    public MonetaryAmount convertFastMoney() {
+        return fastMoney.with(toDollar);
+    }
+}
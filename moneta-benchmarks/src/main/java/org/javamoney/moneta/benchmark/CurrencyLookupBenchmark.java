@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.benchmark;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the currency lookups done by {@link Monetary}, which sit on the hot path of amount creation
+ * and parsing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CurrencyLookupBenchmark {
+
+    @Param({"EUR", "CHF", "JPY"})
+    public String currencyCode;
+
+    private final Locale locale = Locale.GERMANY;
+
+    @Benchmark
+    public CurrencyUnit getCurrencyByCode() {
+        return Monetary.getCurrency(currencyCode);
+    }
+
+    @Benchmark
+    public CurrencyUnit getCurrencyByLocale() {
+        return Monetary.getCurrency(locale);
+    }
+
+    @Benchmark
+    public boolean isCurrencyAvailable() {
+        return Monetary.isCurrencyAvailable(currencyCode);
+    }
+}
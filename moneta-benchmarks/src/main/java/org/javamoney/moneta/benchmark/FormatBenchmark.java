@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.benchmark;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import javax.money.MonetaryAmount;
+import javax.money.format.MonetaryAmountFormat;
+import javax.money.format.MonetaryFormats;
+
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures formatting and parsing through the default {@link MonetaryAmountFormat} as well as
+ * {@link Money#toString()} and {@link Money#parse(CharSequence)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FormatBenchmark {
+
+    private MonetaryAmountFormat format;
+
+    private MonetaryAmount money;
+
+    private MonetaryAmount fastMoney;
+
+    private String formatted;
+
+    private String toStringFormatted;
+
+    private final StringBuilder buffer = new StringBuilder(64);
+
+    @Setup
+    public void setup() {
+        format = MonetaryFormats.getAmountFormat(Locale.GERMANY);
+        money = Money.of(new BigDecimal("1234567.34"), "EUR");
+        fastMoney = FastMoney.of(new BigDecimal("1234567.34"), "EUR");
+        formatted = format.format(money);
+        toStringFormatted = money.toString();
+    }
+
+    @Benchmark
+    public String formatMoney() {
+        return format.format(money);
+    }
+
+    @Benchmark
+    public String formatFastMoney() {
+        return format.format(fastMoney);
+    }
+
+    @Benchmark
+    public StringBuilder printMoney() throws IOException {
+        buffer.setLength(0);
+        format.print(buffer, money);
+        return buffer;
+    }
+
+    @Benchmark
+    public MonetaryAmount parse() {
+        return format.parse(formatted);
+    }
+
+    @Benchmark
+    public String toStringMoney() {
+        return money.toString();
+    }
+
+    @Benchmark
+    public Money parseToString() {
+        return Money.parse(toStringFormatted);
+    }
+}
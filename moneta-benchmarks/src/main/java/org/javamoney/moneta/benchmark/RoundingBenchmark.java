@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.benchmark;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryAmount;
+import javax.money.MonetaryRounding;
+
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures rounding lookup and application on {@link Money} and {@link FastMoney}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RoundingBenchmark {
+
+    private CurrencyUnit currency;
+
+    private MonetaryRounding rounding;
+
+    private MonetaryAmount money;
+
+    private MonetaryAmount fastMoney;
+
+    @Setup
+    public void setup() {
+        currency = Monetary.getCurrency("CHF");
+        rounding = Monetary.getDefaultRounding();
+        money = Money.of(new BigDecimal("1234567.34449"), currency);
+        fastMoney = FastMoney.of(new BigDecimal("1234567.34449"), currency);
+    }
+
+    @Benchmark
+    public MonetaryRounding getDefaultRounding() {
+        return Monetary.getDefaultRounding();
+    }
+
+    @Benchmark
+    public MonetaryRounding getCurrencyRounding() {
+        return Monetary.getRounding(currency);
+    }
+
+    @Benchmark
+    public MonetaryAmount roundMoney() {
+        return money.with(rounding);
+    }
+
+    @Benchmark
+    public MonetaryAmount roundFastMoney() {
+        return fastMoney.with(rounding);
+    }
+}
@@ -0,0 +1,318 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.convert;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+import javax.money.convert.ConversionQuery;
+import javax.money.convert.ConversionQueryBuilder;
+import javax.money.convert.ExchangeRate;
+import javax.money.convert.ExchangeRateProvider;
+import javax.money.spi.Bootstrap;
+
+import org.javamoney.moneta.spi.LoaderService;
+import org.javamoney.moneta.spi.MonetaryConfig;
+
+/**
+ * Non blocking facade of an {@link ExchangeRateProvider}. While the provider loads its data, e.g. a provider
+ * with a {@code LAZY} update policy on its first access, the futures returned are chained on that load, so no
+ * thread is blocked waiting for it. Once the data is loaded, the provider is called directly and the futures
+ * returned are already completed.
+ * <p>
+ * If the ids of the {@link LoaderService} resources read by the provider are passed, these are loaded when the
+ * facade is created, and the provider is called on their completion. Otherwise the first call is run on the
+ * {@link Executor} and further calls are chained on it, until the provider answered once.
+ * </p>
+ * <p>
+ * As the provider may block on IO, it is never called on the
+ * {@link java.util.concurrent.ForkJoinPool#commonPool()}. Unless an executor is passed, a shared pool of daemon
+ * threads dedicated to these calls is used, its size is read from the configuration entry
+ * {@code conversion.async.threads}, by default 4, the number of calls waiting for a thread from
+ * {@code conversion.async.queue}, by default 1024. Calls exceeding it complete exceptionally with a
+ * {@link RejectedExecutionException}.
+ * </p>
+ * <pre>
+ * {@code
+ * AsyncExchangeRateProvider provider = AsyncExchangeRateProvider.of(
+ *         MonetaryConversions.getExchangeRateProvider("ECB"), "ECB");
+ * provider.getExchangeRateAsync(euro, dollar).thenAccept(rate -> ...);
+ * }
+ * </pre>
+ * This class is thread-safe.
+ * @since 1.2
+ */
+public final class AsyncExchangeRateProvider {
+
+    private static final Logger LOG = Logger.getLogger(AsyncExchangeRateProvider.class.getName());
+
+    /**
+     * Configuration key for the number of threads of the shared default executor.
+     */
+    public static final String THREADS_KEY = "conversion.async.threads";
+
+    /**
+     * Configuration key for the number of calls queued by the shared default executor.
+     */
+    public static final String QUEUE_KEY = "conversion.async.queue";
+
+    private static final int DEFAULT_THREADS = 4;
+
+    private static final int DEFAULT_QUEUE = 1024;
+
+    private final ExchangeRateProvider provider;
+
+    private final Executor executor;
+
+    /**
+     * The load, the calls are chained on, completed once the provider answered, or null before the first call,
+     * if no resources are known.
+     */
+    private final AtomicReference<CompletableFuture<?>> loaded;
+
+    private AsyncExchangeRateProvider(ExchangeRateProvider provider, Executor executor, CompletableFuture<?> loaded) {
+        this.provider = Objects.requireNonNull(provider, "Provider required.");
+        this.executor = Objects.requireNonNull(executor, "Executor required.");
+        this.loaded = new AtomicReference<>(loaded);
+    }
+
+    /**
+     * Creates a facade calling the provider on the shared pool of daemon threads dedicated to loading rates.
+     *
+     * @param provider    the provider, not null.
+     * @param resourceIds the ids of the resources read by the provider, loaded before the provider is called.
+     * @return the facade, never null.
+     */
+    public static AsyncExchangeRateProvider of(ExchangeRateProvider provider, String... resourceIds) {
+        return of(provider, DefaultExecutorHolder.EXECUTOR, resourceIds);
+    }
+
+    /**
+     * Creates a facade calling the provider on the given executor, e.g. a pool dedicated to blocking IO.
+     *
+     * @param provider    the provider, not null.
+     * @param executor    the executor, not null.
+     * @param resourceIds the ids of the resources read by the provider, loaded before the provider is called.
+     * @return the facade, never null.
+     */
+    public static AsyncExchangeRateProvider of(ExchangeRateProvider provider, Executor executor,
+                                               String... resourceIds) {
+        return of(provider, executor, load(executor, resourceIds));
+    }
+
+    static AsyncExchangeRateProvider of(ExchangeRateProvider provider, Executor executor, CompletableFuture<?> loaded) {
+        return new AsyncExchangeRateProvider(provider, executor, loaded);
+    }
+
+    private static CompletableFuture<?> load(Executor executor, String... resourceIds) {
+        if (resourceIds.length == 0) {
+            return null;
+        }
+        LoaderService loader = Bootstrap.getService(LoaderService.class);
+        if (Objects.isNull(loader)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<?>[] loads = new CompletableFuture<?>[resourceIds.length];
+        for (int i = 0; i < resourceIds.length; i++) {
+            Future<Boolean> load = loader.loadDataAsync(resourceIds[i]);
+            if (load instanceof CompletableFuture) {
+                loads[i] = (CompletableFuture<Boolean>) load;
+            } else {
+                loads[i] = submit(executor, () -> {
+                    try {
+                        return load.get();
+                    } catch (InterruptedException | ExecutionException e) {
+                        throw new CompletionException(e);
+                    }
+                });
+            }
+        }
+        return CompletableFuture.allOf(loads);
+    }
+
+    /**
+     * Access the provider called.
+     *
+     * @return the provider, never null.
+     */
+    public ExchangeRateProvider getExchangeRateProvider() {
+        return provider;
+    }
+
+    /**
+     * Access the rate matching the query asynchronously.
+     *
+     * @param conversionQuery the query, not null.
+     * @return the future rate, completing with null, if the provider has no rate for the query.
+     * @see ExchangeRateProvider#getExchangeRate(ConversionQuery)
+     */
+    public CompletableFuture<ExchangeRate> getExchangeRateAsync(ConversionQuery conversionQuery) {
+        Objects.requireNonNull(conversionQuery);
+        return call(() -> provider.getExchangeRate(conversionQuery));
+    }
+
+    /**
+     * Access the current rate between the currencies asynchronously.
+     *
+     * @param base the base currency, not null.
+     * @param term the term currency, not null.
+     * @return the future rate.
+     */
+    public CompletableFuture<ExchangeRate> getExchangeRateAsync(CurrencyUnit base, CurrencyUnit term) {
+        return getExchangeRateAsync(ConversionQueryBuilder.of().setBaseCurrency(base).setTermCurrency(term).build());
+    }
+
+    /**
+     * Access the rates matching the queries asynchronously. All queries are evaluated in a row, without
+     * scheduling a task per query.
+     *
+     * @param conversionQueries the queries, not null.
+     * @return the future rates, in the order of the queries.
+     */
+    public CompletableFuture<List<ExchangeRate>> getExchangeRatesAsync(Collection<ConversionQuery> conversionQueries) {
+        List<ConversionQuery> queries = new ArrayList<>(Objects.requireNonNull(conversionQueries));
+        return call(() -> {
+            List<ExchangeRate> rates = new ArrayList<>(queries.size());
+            for (ConversionQuery query : queries) {
+                rates.add(provider.getExchangeRate(query));
+            }
+            return rates;
+        });
+    }
+
+    /**
+     * Converts the amount to the given currency asynchronously.
+     *
+     * @param amount the amount, not null.
+     * @param term   the term currency, not null.
+     * @return the future amount converted.
+     */
+    public CompletableFuture<MonetaryAmount> convertAsync(MonetaryAmount amount, CurrencyUnit term) {
+        Objects.requireNonNull(amount);
+        Objects.requireNonNull(term);
+        return call(() -> amount.with(provider.getCurrencyConversion(term)));
+    }
+
+    /**
+     * Calls the provider directly, once loaded, otherwise chains the call on the load, or starts the first call
+     * on the executor, if no load is known.
+     */
+    private <T> CompletableFuture<T> call(Supplier<T> call) {
+        CompletableFuture<?> load = loaded.get();
+        if (Objects.isNull(load)) {
+            CompletableFuture<T> first = new CompletableFuture<>();
+            if (loaded.compareAndSet(null, first)) {
+                submit(executor, call).whenComplete((value, e) -> {
+                    if (Objects.isNull(e)) {
+                        first.complete(value);
+                        return;
+                    }
+                    if (e instanceof RejectedExecutionException) {
+                        // not called at all, so the next call starts over
+                        loaded.compareAndSet(first, null);
+                    }
+                    first.completeExceptionally(e);
+                });
+                return first;
+            }
+            load = loaded.get();
+        }
+        if (load.isDone()) {
+            try {
+                return CompletableFuture.completedFuture(call.get());
+            } catch (RuntimeException e) {
+                return failed(e);
+            }
+        }
+        // the load may fail, the provider is called anyway, e.g. falling back to data loaded before
+        return load.handle((value, e) -> null).thenCompose(ignored -> submit(executor, call));
+    }
+
+    private static <T> CompletableFuture<T> submit(Executor executor, Supplier<T> call) {
+        try {
+            return CompletableFuture.supplyAsync(call, executor);
+        } catch (RejectedExecutionException e) {
+            return failed(e);
+        }
+    }
+
+    private static <T> CompletableFuture<T> failed(Throwable e) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        result.completeExceptionally(e);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncExchangeRateProvider [provider=" + provider + ", executor=" + executor + ']';
+    }
+
+    /**
+     * Holds the shared default executor, created on first use only.
+     */
+    private static final class DefaultExecutorHolder {
+
+        private static final Executor EXECUTOR = createExecutor();
+
+        private static Executor createExecutor() {
+            int threads = getConfigValue(THREADS_KEY, DEFAULT_THREADS);
+            AtomicInteger count = new AtomicInteger();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(getConfigValue(QUEUE_KEY, DEFAULT_QUEUE)), runnable -> {
+                        Thread thread = new Thread(runnable, "moneta-async-rates-" + count.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+
+        private static int getConfigValue(String key, int defaultValue) {
+            String value = MonetaryConfig.getConfig().get(key);
+            if (Objects.isNull(value) || value.trim().isEmpty()) {
+                return defaultValue;
+            }
+            try {
+                int result = Integer.parseInt(value.trim());
+                if (result > 0) {
+                    return result;
+                }
+            } catch (NumberFormatException e) {
+                LOG.log(Level.FINEST, "Invalid number: " + value, e);
+            }
+            LOG.warning("Invalid value for " + key + ": " + value + ", using " + defaultValue);
+            return defaultValue;
+        }
+    }
+}
@@ -15,77 +15,170 @@
  */
 package org.javamoney.moneta.convert;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 
 import javax.money.CurrencyUnit;
 import javax.money.MonetaryAmount;
 import javax.money.convert.CurrencyConversion;
+import javax.money.convert.ExchangeRate;
 import javax.money.convert.ExchangeRateProvider;
 
-import org.javamoney.moneta.function.DefaultMonetarySummaryStatistics;
+import org.javamoney.moneta.BoundCurrencyConversion;
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.function.FastMonetarySummaryStatistics;
 import org.javamoney.moneta.function.MonetarySummaryStatistics;
 
 /**
- * Summary statistics.
+ * Summary statistics, converting the amounts into the target currency. The amounts are summarized per
+ * source currency in their native currency and only converted, when a result is read. The exchange rate
+ * of each source currency is resolved once per statistics instance and reused afterwards, so the cost of
+ * conversion depends on the number of currencies, not on the number of amounts.
  */
-class ExchangeRateMonetarySummaryStatistics  extends DefaultMonetarySummaryStatistics {
+class ExchangeRateMonetarySummaryStatistics implements MonetarySummaryStatistics {
+
+	private final CurrencyUnit currencyUnit;
 
 	private final ExchangeRateProvider provider;
 
 	private final CurrencyConversion currencyConversion;
 
+	/**
+	 * The statistics per source currency, in native currency.
+	 */
+	private final Map<CurrencyUnit, MonetarySummaryStatistics> sources = new LinkedHashMap<>();
+
+	/**
+	 * The conversions per source currency, bound to the rate resolved.
+	 */
+	private final Map<CurrencyUnit, CurrencyConversion> conversions = new HashMap<>();
+
 	ExchangeRateMonetarySummaryStatistics(CurrencyUnit currencyUnit,
 			ExchangeRateProvider provider) {
-		super(currencyUnit);
-		this.provider = provider;
-		currencyConversion = provider.getCurrencyConversion(getCurrencyUnit());
+		this.currencyUnit = Objects.requireNonNull(currencyUnit);
+		this.provider = Objects.requireNonNull(provider);
+		currencyConversion = provider.getCurrencyConversion(currencyUnit);
 
 	}
 
 	@Override
 	public void accept(MonetaryAmount amount) {
-		super.accept(currencyConversion.apply(amount));
+		getSource(Objects.requireNonNull(amount).getCurrency()).accept(amount);
+	}
+
+	private MonetarySummaryStatistics getSource(CurrencyUnit unit) {
+		return sources.computeIfAbsent(unit, FastMonetarySummaryStatistics::of);
 	}
 
 	@Override
 	public MonetarySummaryStatistics combine(
 			MonetarySummaryStatistics summaryStatistics) {
+		Objects.requireNonNull(summaryStatistics);
+		if (summaryStatistics == this) {
+			return this;
+		}
+		if (summaryStatistics instanceof ExchangeRateMonetarySummaryStatistics) {
+			ExchangeRateMonetarySummaryStatistics other = (ExchangeRateMonetarySummaryStatistics) summaryStatistics;
+			for (Map.Entry<CurrencyUnit, MonetarySummaryStatistics> source : other.sources.entrySet()) {
+				getSource(source.getKey()).combine(source.getValue());
+			}
+		} else if (summaryStatistics.getCount() > 0) {
+			getSource(summaryStatistics.getCurrencyUnit()).combine(summaryStatistics);
+		}
+		return this;
+	}
 
-		if (isDifferentCurrency(Objects.requireNonNull(summaryStatistics)
-				.getCurrencyUnit())) {
-
-			return super.combine(convert(summaryStatistics));
-
-		} else {
-			return super.combine(summaryStatistics);
+	/**
+	 * Converts an amount of the given source currency, evaluating the rate only on first use.
+	 */
+	private MonetaryAmount convert(MonetaryAmount amount) {
+		CurrencyUnit source = amount.getCurrency();
+		if (currencyUnit.equals(source)) {
+			return amount;
 		}
+		CurrencyConversion conversion = conversions.get(source);
+		if (Objects.isNull(conversion)) {
+			ExchangeRate rate = currencyConversion.getExchangeRate(amount);
+			if (Objects.nonNull(rate) && source.equals(rate.getBaseCurrency())
+					&& currencyUnit.equals(rate.getCurrency())) {
+				conversion = BoundCurrencyConversion.of(rate);
+			} else {
+				// no rate exposed, convert using the provider's conversion
+				conversion = currencyConversion;
+			}
+			conversions.put(source, conversion);
+		}
+		return conversion.apply(amount);
 	}
 
-	private MonetarySummaryStatistics convert(
-			MonetarySummaryStatistics summaryStatistics) {
+	@Override
+	public long getCount() {
+		long count = 0L;
+		for (MonetarySummaryStatistics source : sources.values()) {
+			count += source.getCount();
+		}
+		return count;
+	}
 
-		if (summaryStatistics.isExchangeable()) {
-			return summaryStatistics.to(getCurrencyUnit());
+	@Override
+	public MonetaryAmount getMin() {
+		MonetaryAmount min = null;
+		for (MonetarySummaryStatistics source : sources.values()) {
+			if (source.getCount() > 0) {
+				MonetaryAmount amount = convert(source.getMin());
+				if (Objects.isNull(min) || amount.isLessThan(min)) {
+					min = amount;
+				}
+			}
 		}
-		return create(summaryStatistics);
+		return Objects.isNull(min) ? FastMoney.zero(currencyUnit) : min;
 	}
 
-	private MonetarySummaryStatistics create(MonetarySummaryStatistics summary) {
+	@Override
+	public MonetaryAmount getMax() {
+		MonetaryAmount max = null;
+		for (MonetarySummaryStatistics source : sources.values()) {
+			if (source.getCount() > 0) {
+				MonetaryAmount amount = convert(source.getMax());
+				if (Objects.isNull(max) || amount.isGreaterThan(max)) {
+					max = amount;
+				}
+			}
+		}
+		return Objects.isNull(max) ? FastMoney.zero(currencyUnit) : max;
+	}
 
-		ExchangeRateMonetarySummaryStatistics another = new ExchangeRateMonetarySummaryStatistics(
-				getCurrencyUnit(), provider);
+	@Override
+	public MonetaryAmount getSum() {
+		MonetaryAmount sum = null;
+		for (MonetarySummaryStatistics source : sources.values()) {
+			if (source.getCount() > 0) {
+				MonetaryAmount amount = convert(source.getSum());
+				if (Objects.isNull(sum)) {
+					sum = amount;
+				} else if (sum instanceof FastMoney) {
+					// the other amount may exceed the scale of FastMoney
+					sum = amount.add(sum);
+				} else {
+					sum = sum.add(amount);
+				}
+			}
+		}
+		return Objects.isNull(sum) ? FastMoney.zero(currencyUnit) : sum;
+	}
 
-		another.average = currencyConversion.apply(summary
-				.getAverage());
-		another.count = summary.getCount();
-		another.max = currencyConversion.apply(summary.getMax());
-		another.min = currencyConversion.apply(summary.getMin());
-		another.sum = currencyConversion.apply(summary.getSum());
-		return another;
+	@Override
+	public MonetaryAmount getAverage() {
+		long count = getCount();
+		MonetaryAmount sum = getSum();
+		return count == 0 ? sum : sum.divide(count);
 	}
 
-	private boolean isDifferentCurrency(CurrencyUnit unit) {
-		return !getCurrencyUnit().equals(unit);
+	@Override
+	public CurrencyUnit getCurrencyUnit() {
+		return currencyUnit;
 	}
 
 	@Override
@@ -95,15 +188,12 @@ class ExchangeRateMonetarySummaryStatistics  extends DefaultMonetarySummaryStati
 
 	@Override
 	public MonetarySummaryStatistics to(CurrencyUnit unit) {
-		CurrencyConversion currencyConversion = provider.getCurrencyConversion(unit);
-		ExchangeRateMonetarySummaryStatistics another = new ExchangeRateMonetarySummaryStatistics(
-				unit, provider);
-		another.average = currencyConversion.apply(average);
-		another.count = count;
-		another.max = currencyConversion.apply(max);
-		another.min = currencyConversion.apply(min);
-		another.sum = currencyConversion.apply(sum);
-		return another;
+		return new ExchangeRateMonetarySummaryStatistics(unit, provider).combine(this);
 	}
 
-}
\ No newline at end of file
+	@Override
+	public String toString() {
+		return "ExchangeRateMonetarySummaryStatistics [currency: " + currencyUnit + ", sources: "
+				+ sources.keySet() + ", count:" + getCount() + ']';
+	}
+}
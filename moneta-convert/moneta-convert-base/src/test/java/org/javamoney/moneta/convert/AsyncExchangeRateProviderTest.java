@@ -0,0 +1,243 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.convert;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryAmount;
+import javax.money.convert.ConversionContext;
+import javax.money.convert.ConversionQuery;
+import javax.money.convert.ConversionQueryBuilder;
+import javax.money.convert.CurrencyConversionException;
+import javax.money.convert.ExchangeRate;
+import javax.money.convert.ProviderContext;
+import javax.money.convert.RateType;
+
+import org.javamoney.moneta.Money;
+import org.javamoney.moneta.spi.AbstractRateProvider;
+import org.javamoney.moneta.spi.DefaultNumberValue;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class AsyncExchangeRateProviderTest {
+
+    private static final CurrencyUnit EURO = Monetary.getCurrency("EUR");
+    private static final CurrencyUnit DOLLAR = Monetary.getCurrency("USD");
+    private static final CurrencyUnit REAL = Monetary.getCurrency("BRL");
+
+    private ExecutorService executor;
+
+    @BeforeMethod
+    public void setup() {
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldNotBlockWhileProviderLoads() throws Exception {
+        LoadingRateProvider provider = new LoadingRateProvider();
+        AsyncExchangeRateProvider async = AsyncExchangeRateProvider.of(provider, executor);
+        CompletableFuture<ExchangeRate> rate = async.getExchangeRateAsync(EURO, DOLLAR);
+        assertFalse(rate.isDone());
+        provider.loaded.countDown();
+        assertEquals(rate.get(5, TimeUnit.SECONDS).getFactor().numberValue(BigDecimal.class), new BigDecimal("1.1"));
+        assertEquals(async.getExchangeRateProvider(), provider);
+    }
+
+    @Test
+    public void shouldAnswerDirectlyOnceLoaded() throws Exception {
+        LoadingRateProvider provider = new LoadingRateProvider();
+        provider.loaded.countDown();
+        AsyncExchangeRateProvider async = AsyncExchangeRateProvider.of(provider, executor);
+        async.getExchangeRateAsync(EURO, DOLLAR).get(5, TimeUnit.SECONDS);
+        CompletableFuture<ExchangeRate> rate = async.getExchangeRateAsync(DOLLAR, EURO);
+        assertTrue(rate.isDone());
+        assertEquals(provider.caller, Thread.currentThread());
+        assertEquals(rate.get().getCurrency(), EURO);
+    }
+
+    @Test
+    public void shouldChainCallsOnFirstCallWhileLoading() throws Exception {
+        LoadingRateProvider provider = new LoadingRateProvider();
+        AsyncExchangeRateProvider async = AsyncExchangeRateProvider.of(provider, executor);
+        CompletableFuture<ExchangeRate> first = async.getExchangeRateAsync(EURO, DOLLAR);
+        CompletableFuture<ExchangeRate> second = async.getExchangeRateAsync(DOLLAR, EURO);
+        provider.loaded.countDown();
+        assertEquals(second.get(5, TimeUnit.SECONDS).getCurrency(), EURO);
+        assertEquals(first.get(5, TimeUnit.SECONDS).getCurrency(), DOLLAR);
+        assertEquals(provider.maxCallers.get(), 1);
+    }
+
+    @Test
+    public void shouldCallProviderOnLoadCompletion() throws Exception {
+        LoadingRateProvider provider = new LoadingRateProvider();
+        provider.loaded.countDown();
+        CompletableFuture<Boolean> load = new CompletableFuture<>();
+        AsyncExchangeRateProvider async = AsyncExchangeRateProvider.of(provider, executor, load);
+        CompletableFuture<ExchangeRate> rate = async.getExchangeRateAsync(EURO, DOLLAR);
+        assertFalse(rate.isDone());
+        assertNull(provider.caller);
+        load.complete(Boolean.TRUE);
+        assertEquals(rate.get(5, TimeUnit.SECONDS).getCurrency(), DOLLAR);
+        assertTrue(async.getExchangeRateAsync(DOLLAR, EURO).isDone());
+    }
+
+    @Test
+    public void shouldCallProviderOnLoadFailure() throws Exception {
+        LoadingRateProvider provider = new LoadingRateProvider();
+        provider.loaded.countDown();
+        CompletableFuture<Boolean> load = new CompletableFuture<>();
+        CompletableFuture<ExchangeRate> rate = AsyncExchangeRateProvider.of(provider, executor, load)
+                .getExchangeRateAsync(EURO, DOLLAR);
+        load.completeExceptionally(new IllegalStateException("offline"));
+        assertEquals(rate.get(5, TimeUnit.SECONDS).getCurrency(), DOLLAR);
+    }
+
+    @Test
+    public void shouldCompleteExceptionallyWhenRejected() throws Exception {
+        LoadingRateProvider provider = new LoadingRateProvider();
+        provider.loaded.countDown();
+        AsyncExchangeRateProvider async = AsyncExchangeRateProvider.of(provider, runnable -> {
+            throw new RejectedExecutionException("saturated");
+        });
+        CompletableFuture<ExchangeRate> rate = async.getExchangeRateAsync(EURO, DOLLAR);
+        try {
+            rate.get(5, TimeUnit.SECONDS);
+            throw new AssertionError("Call should be rejected.");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+        assertTrue(async.getExchangeRateAsync(EURO, DOLLAR).isCompletedExceptionally());
+        assertNull(provider.caller);
+    }
+
+    @Test
+    public void shouldCallProviderOnDedicatedDaemonThreadsByDefault() throws Exception {
+        LoadingRateProvider provider = new LoadingRateProvider();
+        provider.loaded.countDown();
+        AsyncExchangeRateProvider.of(provider).getExchangeRateAsync(EURO, DOLLAR).get(5, TimeUnit.SECONDS);
+        assertTrue(provider.caller.isDaemon());
+        assertFalse(provider.caller instanceof ForkJoinWorkerThread);
+    }
+
+    @Test
+    public void shouldReturnRatesOfAllQueriesInOrder() throws Exception {
+        LoadingRateProvider provider = new LoadingRateProvider();
+        provider.loaded.countDown();
+        List<ConversionQuery> queries = Arrays.asList(query(EURO, DOLLAR), query(DOLLAR, EURO), query(EURO, REAL));
+        List<ExchangeRate> rates = AsyncExchangeRateProvider.of(provider, executor).getExchangeRatesAsync(queries)
+                .get(5, TimeUnit.SECONDS);
+        assertEquals(rates.size(), 3);
+        assertEquals(rates.get(0).getCurrency(), DOLLAR);
+        assertEquals(rates.get(1).getCurrency(), EURO);
+        assertNull(rates.get(2));
+    }
+
+    @Test
+    public void shouldConvertAmount() throws Exception {
+        LoadingRateProvider provider = new LoadingRateProvider();
+        provider.loaded.countDown();
+        MonetaryAmount result = AsyncExchangeRateProvider.of(provider, executor)
+                .convertAsync(Money.of(10, EURO), DOLLAR).get(5, TimeUnit.SECONDS);
+        assertEquals(result.getCurrency(), DOLLAR);
+        assertEquals(result.getNumber().numberValue(BigDecimal.class).compareTo(BigDecimal.valueOf(11)), 0);
+    }
+
+    @Test
+    public void shouldCompleteExceptionallyOnProviderFailure() throws Exception {
+        LoadingRateProvider provider = new LoadingRateProvider();
+        provider.loaded.countDown();
+        CompletableFuture<MonetaryAmount> result = AsyncExchangeRateProvider.of(provider, executor)
+                .convertAsync(Money.of(10, EURO), REAL);
+        try {
+            result.get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof CurrencyConversionException);
+            return;
+        }
+        throw new AssertionError("Conversion should fail without rate.");
+    }
+
+    private static ConversionQuery query(CurrencyUnit base, CurrencyUnit term) {
+        return ConversionQueryBuilder.of().setBaseCurrency(base).setTermCurrency(term).build();
+    }
+
+    /**
+     * Provider blocking until its data is loaded, knowing EUR/USD only.
+     */
+    private static final class LoadingRateProvider extends AbstractRateProvider {
+
+        private final CountDownLatch loaded = new CountDownLatch(1);
+
+        private volatile Thread caller;
+
+        private final AtomicInteger callers = new AtomicInteger();
+
+        private final AtomicInteger maxCallers = new AtomicInteger();
+
+        LoadingRateProvider() {
+            super(ProviderContext.of("loading", RateType.ANY));
+        }
+
+        @Override
+        public ExchangeRate getExchangeRate(ConversionQuery conversionQuery) {
+            caller = Thread.currentThread();
+            maxCallers.accumulateAndGet(callers.incrementAndGet(), Math::max);
+            try {
+                loaded.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            } finally {
+                callers.decrementAndGet();
+            }
+            BigDecimal factor;
+            if (EURO.equals(conversionQuery.getBaseCurrency()) && DOLLAR.equals(conversionQuery.getCurrency())) {
+                factor = new BigDecimal("1.1");
+            } else if (DOLLAR.equals(conversionQuery.getBaseCurrency()) && EURO.equals(conversionQuery.getCurrency())) {
+                factor = new BigDecimal("0.9");
+            } else {
+                return null;
+            }
+            return new ExchangeRateBuilder(ConversionContext.of("loading", RateType.ANY))
+                    .setBase(conversionQuery.getBaseCurrency()).setTerm(conversionQuery.getCurrency())
+                    .setFactor(DefaultNumberValue.of(factor)).build();
+        }
+    }
+}
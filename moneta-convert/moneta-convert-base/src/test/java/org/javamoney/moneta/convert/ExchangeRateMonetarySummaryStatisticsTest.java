@@ -22,11 +22,18 @@ import static org.javamoney.moneta.convert.ConversionConstants.DOLLAR;
 import static org.junit.Assert.assertNotNull;
 
 import javax.money.CurrencyUnit;
+import javax.money.convert.ConversionContext;
+import javax.money.convert.ConversionQuery;
+import javax.money.convert.ExchangeRate;
 import javax.money.convert.ExchangeRateProvider;
+import javax.money.convert.ProviderContext;
+import javax.money.convert.RateType;
 
 import org.javamoney.moneta.Money;
 import org.javamoney.moneta.function.DefaultMonetarySummaryStatistics;
 import org.javamoney.moneta.function.MonetarySummaryStatistics;
+import org.javamoney.moneta.spi.AbstractRateProvider;
+import org.javamoney.moneta.spi.DefaultNumberValue;
 import org.testng.annotations.BeforeTest;
 import org.testng.annotations.Test;
 
@@ -96,6 +103,24 @@ public class ExchangeRateMonetarySummaryStatisticsTest {
 		assertNotSame(70L, result.getAverage().getNumber().longValue());
 	}
 
+	@Test
+	public void shouldResolveRateOncePerCurrency() {
+		CountingRateProvider countingProvider = new CountingRateProvider();
+		MonetarySummaryStatistics summary = new ExchangeRateMonetarySummaryStatistics(
+				BRAZILIAN_REAL, countingProvider);
+		for (int i = 1; i <= 100; i++) {
+			summary.accept(Money.of(i, DOLLAR));
+			summary.accept(Money.of(i, BRAZILIAN_REAL));
+		}
+		assertEquals(0, countingProvider.calls);
+		assertEquals(Money.of(15150, BRAZILIAN_REAL), summary.getSum());
+		assertEquals(Money.of(1, BRAZILIAN_REAL), summary.getMin());
+		assertEquals(Money.of(200, BRAZILIAN_REAL), summary.getMax());
+		assertEquals(Money.of(75.75, BRAZILIAN_REAL), summary.getAverage());
+		assertEquals(200L, summary.getCount());
+		assertEquals(1, countingProvider.calls);
+	}
+
 	private MonetarySummaryStatistics createSummary(CurrencyUnit currencyUnit) {
 		MonetarySummaryStatistics summary = new ExchangeRateMonetarySummaryStatistics(
 				currencyUnit, provider);
@@ -114,4 +139,24 @@ public class ExchangeRateMonetarySummaryStatisticsTest {
 		summary.accept(Money.of(110, currencyUnit));
 		return summary;
 	}
+
+	/**
+	 * Provider converting by a factor of 2, counting the rates returned.
+	 */
+	private static final class CountingRateProvider extends AbstractRateProvider {
+
+		private int calls;
+
+		CountingRateProvider() {
+			super(ProviderContext.of("counting", RateType.ANY));
+		}
+
+		@Override
+		public ExchangeRate getExchangeRate(ConversionQuery conversionQuery) {
+			calls++;
+			return new ExchangeRateBuilder(ConversionContext.of("counting", RateType.ANY))
+					.setBase(conversionQuery.getBaseCurrency()).setTerm(conversionQuery.getCurrency())
+					.setFactor(DefaultNumberValue.of(2)).build();
+		}
+	}
 }
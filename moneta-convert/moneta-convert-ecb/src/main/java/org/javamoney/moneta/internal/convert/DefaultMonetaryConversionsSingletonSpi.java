@@ -16,12 +16,16 @@
 package org.javamoney.moneta.internal.convert;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -31,8 +35,10 @@ import javax.money.convert.ExchangeRateProvider;
 import javax.money.spi.Bootstrap;
 import javax.money.spi.MonetaryConversionsSingletonSpi;
 
+import org.javamoney.moneta.spi.CachingRateProvider;
 import org.javamoney.moneta.spi.CompoundRateProvider;
 import org.javamoney.moneta.spi.MonetaryConfig;
+import org.javamoney.moneta.spi.ProviderRegistry;
 
 /**
  * This is the default implementation of the {@link javax.money.spi.MonetaryConversionsSingletonSpi} interface, backing
@@ -49,6 +55,18 @@ public class DefaultMonetaryConversionsSingletonSpi implements MonetaryConversio
      */
     private Map<String, ExchangeRateProvider> conversionProviders = new ConcurrentHashMap<>();
 
+    /**
+     * The names of the default provider chain.
+     */
+    private final ProviderRegistry.Resolved<List<String>> defaultProviderChain =
+            ProviderRegistry.resolve(this::loadDefaultProviderChain);
+
+    /**
+     * The providers already created, by the names of the providers they consist of.
+     */
+    private final ProviderRegistry.Resolved<Map<List<String>, ExchangeRateProvider>> providerChains =
+            ProviderRegistry.resolve(ConcurrentHashMap::new);
+
     /**
      * Constructors, loads the providers from the {@link javax.money.spi.Bootstrap} component.
      */
@@ -57,18 +75,75 @@ public class DefaultMonetaryConversionsSingletonSpi implements MonetaryConversio
     }
 
     /**
-     * Reloads/reinitializes the providers found.
+     * Reloads/reinitializes the providers found. Caches of the providers replaced are closed, so they are not
+     * notified on loads anymore.
      */
     public void reload() {
         Map<String, ExchangeRateProvider> newProviders = new ConcurrentHashMap<>();
+        Set<String> cachedProviders = getCachedProviderNames();
         for (ExchangeRateProvider prov : Bootstrap.getServices(ExchangeRateProvider.class)) {
-            newProviders.put(prov.getContext().getProviderName(), prov);
+            String providerName = prov.getContext().getProviderName();
+            if (cachedProviders.contains(providerName)) {
+                prov = new CachingRateProvider(prov);
+            }
+            newProviders.put(providerName, prov);
         }
+        Map<String, ExchangeRateProvider> oldProviders = this.conversionProviders;
         this.conversionProviders = newProviders;
+        ProviderRegistry.invalidate();
+        for (ExchangeRateProvider prov : oldProviders.values()) {
+            if (prov instanceof CachingRateProvider) {
+                ((CachingRateProvider) prov).close();
+            }
+        }
+    }
+
+    /**
+     * Evaluates the names of the providers, whose rates should be cached.
+     *
+     * @return the provider names configured by {@link CachingRateProvider#CACHED_PROVIDERS_KEY}, never null.
+     */
+    private Set<String> getCachedProviderNames() {
+        Set<String> providerNames = new HashSet<>();
+        String cachedProviders = MonetaryConfig.getConfig().get(CachingRateProvider.CACHED_PROVIDERS_KEY);
+        if (cachedProviders != null) {
+            for (String item : cachedProviders.split(",")) {
+                if (!item.trim().isEmpty()) {
+                    providerNames.add(item.trim());
+                }
+            }
+        }
+        return providerNames;
     }
 
     @Override
     public ExchangeRateProvider getExchangeRateProvider(ConversionQuery conversionQuery) {
+        List<String> providerNames = conversionQuery.getProviderNames();
+        if (providerNames.isEmpty()) {
+            providerNames = getDefaultProviderChain();
+        }
+        return getProviderChain(providerNames, names -> createProvider(conversionQuery));
+    }
+
+    /**
+     * Access the provider created for the given provider names, creating it on first access. The names are
+     * copied when used as key, so a caller modifying its list or array afterwards cannot corrupt the map.
+     *
+     * @param providerNames the provider names, not null.
+     * @param factory       the function creating the provider.
+     * @return the provider, never null.
+     */
+    private ExchangeRateProvider getProviderChain(List<String> providerNames,
+                                                  Function<List<String>, ExchangeRateProvider> factory) {
+        Map<List<String>, ExchangeRateProvider> chains = providerChains.get();
+        ExchangeRateProvider provider = chains.get(providerNames);
+        if (provider == null) {
+            provider = chains.computeIfAbsent(Collections.unmodifiableList(new ArrayList<>(providerNames)), factory);
+        }
+        return provider;
+    }
+
+    private ExchangeRateProvider createProvider(ConversionQuery conversionQuery) {
         Collection<String> providers = getProvidersToUse(conversionQuery);
         List<ExchangeRateProvider> provInstances = new ArrayList<>();
         for (String provName : providers) {
@@ -109,6 +184,11 @@ public class DefaultMonetaryConversionsSingletonSpi implements MonetaryConversio
 
     @Override
     public ExchangeRateProvider getExchangeRateProvider(String... providers) {
+        return getProviderChain(Arrays.asList(providers),
+                names -> createProvider(names.toArray(new String[names.size()])));
+    }
+
+    private ExchangeRateProvider createProvider(String... providers) {
         List<ExchangeRateProvider> provInstances = new ArrayList<>();
         for (String provName : providers) {
             ExchangeRateProvider prov = Optional.ofNullable(
@@ -151,6 +231,10 @@ public class DefaultMonetaryConversionsSingletonSpi implements MonetaryConversio
 
     @Override
     public List<String> getDefaultProviderChain() {
+        return defaultProviderChain.get();
+    }
+
+    private List<String> loadDefaultProviderChain() {
         List<String> provList = new ArrayList<>();
         String defaultChain = MonetaryConfig.getConfig().get("conversion.default-chain");
         if(defaultChain!=null) {
@@ -168,7 +252,7 @@ public class DefaultMonetaryConversionsSingletonSpi implements MonetaryConversio
                     p -> provList.add(p.getContext().getProviderName())
             );
         }
-        return provList;
+        return Collections.unmodifiableList(provList);
     }
 
 
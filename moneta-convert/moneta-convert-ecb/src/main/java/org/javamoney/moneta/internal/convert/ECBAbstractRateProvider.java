@@ -15,14 +15,19 @@
  */
 package org.javamoney.moneta.internal.convert;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.math.BigDecimal;
 import java.math.MathContext;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -36,7 +41,6 @@ import javax.money.convert.CurrencyConversionException;
 import javax.money.convert.ExchangeRate;
 import javax.money.convert.ProviderContext;
 import javax.money.spi.Bootstrap;
-import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
 
 import org.javamoney.moneta.convert.ExchangeRateBuilder;
@@ -44,6 +48,8 @@ import org.javamoney.moneta.spi.AbstractRateProvider;
 import org.javamoney.moneta.spi.DefaultNumberValue;
 import org.javamoney.moneta.spi.LoaderService;
 import org.javamoney.moneta.spi.LoaderService.LoaderListener;
+import org.javamoney.moneta.spi.MonetaryConfig;
+import org.javamoney.moneta.spi.RateSnapshot;
 
 /**
  * Base to all Europe Central Bank implementation.
@@ -57,15 +63,77 @@ abstract class ECBAbstractRateProvider extends AbstractRateProvider implements
 
     private static final String BASE_CURRENCY_CODE = "EUR";
 
+    /**
+     * Configuration key to enable or disable the per day cross rate matrix, enabled by default.
+     */
+    static final String CROSS_RATE_MATRIX_KEY = "ecb.crossrate.matrix";
+
+    /**
+     * Configuration key for the number of most recent days loaded, whose cross rates are kept as matrix,
+     * by default 10. Cross rates of earlier days are triangulated on each query.
+     */
+    static final String CROSS_RATE_DAYS_KEY = "ecb.crossrate.days";
+
+    private static final int DEFAULT_CROSS_RATE_DAYS = 10;
+
+    /**
+     * Configuration key to enable or disable restoring the parsed rates from a binary snapshot, enabled by default.
+     */
+    static final String SNAPSHOT_KEY = "ecb.snapshot";
+
+    private static final String SNAPSHOT_SUFFIX = "-snapshot";
+
+    /**
+     * Configuration key to enable or disable delta reloads, enabled by default.
+     */
+    static final String DELTA_KEY = "ecb.delta";
+
     /**
      * Base currency of the loaded rates is always EUR.
      */
     public static final CurrencyUnit BASE_CURRENCY = Monetary.getCurrency(BASE_CURRENCY_CODE);
 
     /**
-     * Historic exchange rates, rate timestamp as UTC long.
+     * Historic exchange rates by day, kept sorted by date, so the most recent day and any given day
+     * are found without iterating or sorting all days loaded.
+     */
+    protected final ConcurrentNavigableMap<LocalDate, Map<String, ExchangeRate>> rates = new ConcurrentSkipListMap<>();
+    /**
+     * Cross rates between non EUR currencies by day, only used if {@link #crossRateMatrixEnabled} is set.
+     * Only kept for the days from {@link #crossRatesFrom} on, so the memory used is bounded, even if
+     * arbitrary historic days are queried.
+     */
+    private final Map<LocalDate, CrossRateMatrix> crossRates = new ConcurrentHashMap<>();
+
+    /**
+     * The number of most recent days loaded, whose cross rates are kept in {@link #crossRates}.
+     */
+    private final int crossRateDays;
+
+    /**
+     * The first day, whose cross rates are kept in {@link #crossRates}, updated on each load.
+     */
+    private volatile LocalDate crossRatesFrom;
+
+    /**
+     * Flag, if cross rates are taken from {@link #crossRates}, configured by {@link #CROSS_RATE_MATRIX_KEY}.
+     */
+    private final boolean crossRateMatrixEnabled;
+
+    /**
+     * Flag, if the parsed rates are kept as {@link RateSnapshot}, configured by {@link #SNAPSHOT_KEY}.
      */
-    protected final Map<LocalDate, Map<String, ExchangeRate>> rates = new ConcurrentHashMap<>();
+    private final boolean snapshotEnabled;
+
+    /**
+     * Flag, if reloads only read the days after the most recent day loaded, configured by {@link #DELTA_KEY}.
+     */
+    private final boolean deltaEnabled;
+
+    /**
+     * The resources fully loaded at least once, so further loads of them only need to read the days added.
+     */
+    private final Set<String> loadedResources = ConcurrentHashMap.newKeySet();
     /**
      * Parser factory.
      */
@@ -76,28 +144,155 @@ abstract class ECBAbstractRateProvider extends AbstractRateProvider implements
     ECBAbstractRateProvider(ProviderContext context) {
         super(context);
 		this.context = context;
+        this.crossRateMatrixEnabled = Boolean.parseBoolean(
+                MonetaryConfig.getConfig().getOrDefault(CROSS_RATE_MATRIX_KEY, "true"));
+        this.crossRateDays = getCrossRateDays();
+        this.snapshotEnabled = Boolean.parseBoolean(
+                MonetaryConfig.getConfig().getOrDefault(SNAPSHOT_KEY, "true"));
+        this.deltaEnabled = Boolean.parseBoolean(
+                MonetaryConfig.getConfig().getOrDefault(DELTA_KEY, "true"));
         saxParserFactory.setNamespaceAware(false);
         saxParserFactory.setValidating(false);
         LoaderService loader = Bootstrap.getService(LoaderService.class);
         loader.addLoaderListener(this, getDataId());
+        if (deltaEnabled && getDeltaDataIds().length > 0) {
+            loader.addLoaderListener(this, getDeltaDataIds());
+        }
         loader.loadDataAsync(getDataId());
     }
 
+    private static int getCrossRateDays() {
+        String value = MonetaryConfig.getConfig().get(CROSS_RATE_DAYS_KEY);
+        if (Objects.isNull(value) || value.trim().isEmpty()) {
+            return DEFAULT_CROSS_RATE_DAYS;
+        }
+        try {
+            return Math.max(0, Integer.parseInt(value.trim()));
+        } catch (NumberFormatException e) {
+            LOG.log(Level.WARNING, "Invalid value for " + CROSS_RATE_DAYS_KEY + ": " + value + ", using "
+                    + DEFAULT_CROSS_RATE_DAYS, e);
+            return DEFAULT_CROSS_RATE_DAYS;
+        }
+    }
+
+    /**
+     * Evaluates the first of the {@link #crossRateDays} most recent days loaded.
+     *
+     * @return the day, or null, if no cross rates are kept.
+     */
+    private LocalDate getCrossRatesFrom() {
+        if (crossRateDays == 0) {
+            return null;
+        }
+        LocalDate from = null;
+        int days = 0;
+        for (LocalDate day : rates.descendingKeySet()) {
+            from = day;
+            if (++days == crossRateDays) {
+                break;
+            }
+        }
+        return from;
+    }
+
     protected abstract String getDataId();
 
+    /**
+     * Access the ids of further resources, whose days are merged into the rates of this provider, e.g. the
+     * daily feed for the historic providers. These resources are always loaded as delta.
+     *
+     * @return the resource ids, by default none.
+     */
+    protected String[] getDeltaDataIds() {
+        return new String[0];
+    }
+
     @Override
     public void newDataLoaded(String resourceId, InputStream is) {
         final int oldSize = this.rates.size();
         try {
-            SAXParser parser = saxParserFactory.newSAXParser();
-            parser.parse(is, new ECBRateReadingHandler(rates, getContext()));
+            if (deltaEnabled && (loadedResources.contains(resourceId) || !getDataId().equals(resourceId))) {
+                loadDelta(is);
+            } else {
+                load(resourceId, is);
+                loadedResources.add(resourceId);
+            }
         } catch (Exception e) {
         	LOG.log(Level.FINEST, "Error during data load.", e);
+        } finally {
+            this.crossRatesFrom = getCrossRatesFrom();
+            this.crossRates.clear();
         }
         int newSize = this.rates.size();
         LOG.info("Loaded " + resourceId + " exchange rates for days:" + (newSize - oldSize));
     }
 
+    private void load(String resourceId, InputStream is) throws Exception {
+        ECBRateReadingHandler handler = new ECBRateReadingHandler(rates, getContext());
+        if (snapshotEnabled) {
+            byte[] data = RateSnapshot.readFully(is);
+            long checksum = RateSnapshot.checksum(data);
+            if (!loadSnapshot(resourceId, checksum, handler)) {
+                saxParserFactory.newSAXParser().parse(new ByteArrayInputStream(data), handler);
+                storeSnapshot(resourceId, checksum);
+            }
+        } else {
+            saxParserFactory.newSAXParser().parse(is, handler);
+        }
+    }
+
+    /**
+     * Reads only the days from the most recent day loaded on, stopping the parser on the first day before.
+     * The most recent day is read again, so rates loaded as {@link javax.money.convert.RateType#DEFERRED} on
+     * the current day become {@link javax.money.convert.RateType#HISTORIC}, once the date rolled over.
+     */
+    private void loadDelta(InputStream is) throws Exception {
+        Map.Entry<LocalDate, Map<String, ExchangeRate>> latest = this.rates.lastEntry();
+        ECBRateReadingHandler handler = new ECBRateReadingHandler(rates, getContext(),
+                Objects.isNull(latest) ? null : latest.getKey());
+        try {
+            saxParserFactory.newSAXParser().parse(is, handler);
+        } catch (ECBRateReadingHandler.DeltaCompleteException e) {
+            LOG.finest(() -> "Delta load complete, days loaded until " + latest.getKey());
+        }
+    }
+
+    /**
+     * Restores the rates from the snapshot of the given resource, if it was created from the same data.
+     *
+     * @return true, if the rates were read from the snapshot.
+     */
+    private boolean loadSnapshot(String resourceId, long checksum, ECBRateReadingHandler handler) {
+        RateSnapshot snapshot = RateSnapshot.load(getSnapshotId(resourceId));
+        if (Objects.isNull(snapshot) || snapshot.getSourceChecksum() != checksum) {
+            return false;
+        }
+        try {
+            snapshot.forEach((date, base, term, factor) -> handler.addRate(Monetary.getCurrency(term), date, factor));
+            return true;
+        } catch (RuntimeException e) {
+            LOG.log(Level.FINE, "Ignoring snapshot of " + resourceId, e);
+            return false;
+        }
+    }
+
+    private void storeSnapshot(String resourceId, long checksum) {
+        RateSnapshot.Writer writer = new RateSnapshot.Writer(checksum);
+        try {
+            rates.forEach((date, dayRates) -> dayRates.values().forEach(rate -> writer.add(date,
+                    rate.getBaseCurrency().getCurrencyCode(), rate.getCurrency().getCurrencyCode(),
+                    rate.getFactor().numberValue(BigDecimal.class))));
+        } catch (IllegalArgumentException e) {
+            LOG.log(Level.FINE, "Rates of " + resourceId + " cannot be stored as snapshot.", e);
+            return;
+        }
+        RateSnapshot.store(getSnapshotId(resourceId), writer);
+    }
+
+    private static String getSnapshotId(String resourceId) {
+        return resourceId + SNAPSHOT_SUFFIX;
+    }
+
     @Override
     public ExchangeRate getExchangeRate(ConversionQuery conversionQuery) {
         Objects.requireNonNull(conversionQuery);
@@ -105,6 +300,14 @@ abstract class ECBAbstractRateProvider extends AbstractRateProvider implements
             return null;
         }
         RateResult result = findExchangeRate(conversionQuery);
+        if (crossRateMatrixEnabled && isCrossRate(conversionQuery) && isCrossRateDay(result.date)) {
+            ExchangeRate crossRate = crossRates.computeIfAbsent(result.date, d -> new CrossRateMatrix(result.targets))
+                    .get(conversionQuery.getBaseCurrency().getCurrencyCode(),
+                            conversionQuery.getCurrency().getCurrencyCode());
+            if (Objects.nonNull(crossRate)) {
+                return crossRate;
+            }
+        }
 
         ExchangeRateBuilder builder = getBuilder(conversionQuery, result.date);
         ExchangeRate sourceRate = result.targets.get(conversionQuery.getBaseCurrency()
@@ -114,13 +317,20 @@ abstract class ECBAbstractRateProvider extends AbstractRateProvider implements
         return createExchangeRate(conversionQuery, builder, sourceRate, target);
     }
 
+    private boolean isCrossRateDay(LocalDate date) {
+        LocalDate from = crossRatesFrom;
+        return Objects.nonNull(from) && !date.isBefore(from);
+    }
+
 	private RateResult findExchangeRate(ConversionQuery conversionQuery) {
 		LocalDate[] dates = getQueryDates(conversionQuery);
 
         if (dates == null) {
-        	Comparator<LocalDate> comparator = Comparator.naturalOrder();
-    		LocalDate date = this.rates.keySet().stream().sorted(comparator.reversed()).findFirst().orElseThrow(() -> new MonetaryException("There is not more recent exchange rate to  rate on ECBRateProvider."));
-        	return new RateResult(date, this.rates.get(date));
+        	Map.Entry<LocalDate, Map<String, ExchangeRate>> latest = this.rates.lastEntry();
+        	if (Objects.isNull(latest)) {
+        		throw new MonetaryException("There is not more recent exchange rate to  rate on ECBRateProvider.");
+        	}
+        	return new RateResult(latest.getKey(), latest.getValue());
         } else {
         	for (LocalDate localDate : dates) {
         		Map<String, ExchangeRate> targets = this.rates.get(localDate);
@@ -161,15 +371,24 @@ abstract class ECBAbstractRateProvider extends AbstractRateProvider implements
                     query.toBuilder().setBaseCurrency(Monetary.getCurrency(BASE_CURRENCY_CODE))
                             .setTermCurrency(query.getCurrency()).build());
             if (Objects.nonNull(rate1) && Objects.nonNull(rate2)) {
-                builder.setFactor(multiply(rate1.getFactor(), rate2.getFactor()));
-                builder.setRateChain(rate1, rate2);
-                return builder.build();
+                return createCrossRate(builder, rate1, rate2);
             }
             throw new CurrencyConversionException(query.getBaseCurrency(),
                     query.getCurrency(), sourceRate.getContext());
         }
     }
 
+    private ExchangeRate createCrossRate(ExchangeRateBuilder builder, ExchangeRate rate1, ExchangeRate rate2) {
+        builder.setFactor(multiply(rate1.getFactor(), rate2.getFactor()));
+        builder.setRateChain(rate1, rate2);
+        return builder.build();
+    }
+
+    private boolean isCrossRate(ConversionQuery query) {
+        return !BASE_CURRENCY_CODE.equals(query.getBaseCurrency().getCurrencyCode()) &&
+                !BASE_CURRENCY_CODE.equals(query.getCurrency().getCurrencyCode());
+    }
+
     private boolean areBothBaseCurrencies(ConversionQuery query) {
         return BASE_CURRENCY_CODE.equals(query.getBaseCurrency().getCurrencyCode()) &&
                 BASE_CURRENCY_CODE.equals(query.getCurrency().getCurrencyCode());
@@ -177,9 +396,13 @@ abstract class ECBAbstractRateProvider extends AbstractRateProvider implements
 
 
     private ExchangeRateBuilder getBuilder(ConversionQuery query, LocalDate localDate) {
+        return getBuilder(query.getBaseCurrency(), query.getCurrency());
+    }
+
+    private ExchangeRateBuilder getBuilder(CurrencyUnit base, CurrencyUnit term) {
         ExchangeRateBuilder builder = new ExchangeRateBuilder(getExchangeContext("ecb.digit.fraction"));
-        builder.setBase(query.getBaseCurrency());
-        builder.setTerm(query.getCurrency());
+        builder.setBase(base);
+        builder.setTerm(term);
 
         return builder;
     }
@@ -200,6 +423,58 @@ abstract class ECBAbstractRateProvider extends AbstractRateProvider implements
     	return sb.toString();
     }
 
+    /**
+     * Dense matrix of the cross rates of one day, between all currencies quoted against EUR on this day.
+     * The rates are equal to the ones triangulated by {@link #createExchangeRate}, including their rate
+     * chain, but each one is only created once, when first requested.
+     */
+    private final class CrossRateMatrix {
+
+        private final Map<String, Integer> indices = new HashMap<>();
+
+        private final ExchangeRate[] eurRates;
+
+        private final ExchangeRate[] reversedRates;
+
+        private final ExchangeRate[] matrix;
+
+        CrossRateMatrix(Map<String, ExchangeRate> targets) {
+            this.eurRates = targets.values().toArray(new ExchangeRate[targets.size()]);
+            for (int i = 0; i < eurRates.length; i++) {
+                indices.put(eurRates[i].getCurrency().getCurrencyCode(), i);
+            }
+            this.reversedRates = new ExchangeRate[eurRates.length];
+            this.matrix = new ExchangeRate[eurRates.length * eurRates.length];
+        }
+
+        /**
+         * Access the cross rate, creating it, if not yet done.
+         *
+         * @return the rate, or null, if either currency is not quoted on this day.
+         */
+        ExchangeRate get(String baseCode, String termCode) {
+            Integer base = indices.get(baseCode);
+            Integer term = indices.get(termCode);
+            if (Objects.isNull(base) || Objects.isNull(term)) {
+                return null;
+            }
+            int index = base * eurRates.length + term;
+            // rates are immutable, so racing threads at worst create the same rate twice
+            ExchangeRate rate = matrix[index];
+            if (Objects.isNull(rate)) {
+                ExchangeRate reversed = reversedRates[base];
+                if (Objects.isNull(reversed)) {
+                    reversed = reverse(eurRates[base]);
+                    reversedRates[base] = reversed;
+                }
+                rate = createCrossRate(getBuilder(eurRates[base].getCurrency(), eurRates[term].getCurrency()),
+                        reversed, eurRates[term]);
+                matrix[index] = rate;
+            }
+            return rate;
+        }
+    }
+
     private class RateResult {
     	private final LocalDate date;
 
@@ -43,6 +43,11 @@ public class ECBHistoric90RateProvider extends ECBAbstractRateProvider {
 
     private static final String DATA_ID = ECBHistoric90RateProvider.class.getSimpleName();
 
+    /**
+     * The data ids merged as delta.
+     */
+    private static final String[] DELTA_DATA_IDS = {ECBCurrentRateProvider.class.getSimpleName()};
+
     private static final ProviderContext CONTEXT =
             ProviderContextBuilder.of("ECB-HIST90", RateType.HISTORIC, RateType.DEFERRED)
                     .set("providerDescription", "European Central Bank (last 90 days)").set("days", 90).build();
@@ -56,5 +61,13 @@ public class ECBHistoric90RateProvider extends ECBAbstractRateProvider {
         return DATA_ID;
     }
 
+    /**
+     * Merges the days of the daily feed, so new days are available without reloading the whole feed.
+     */
+    @Override
+    protected String[] getDeltaDataIds() {
+        return DELTA_DATA_IDS;
+    }
+
 
 }
\ No newline at end of file
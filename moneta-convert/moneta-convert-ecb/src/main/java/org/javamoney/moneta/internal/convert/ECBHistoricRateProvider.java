@@ -46,6 +46,11 @@ public class ECBHistoricRateProvider extends ECBAbstractRateProvider {
      */
     private static final String DATA_ID = ECBHistoricRateProvider.class.getSimpleName();
 
+    /**
+     * The data ids merged as delta.
+     */
+    private static final String[] DELTA_DATA_IDS = {ECBCurrentRateProvider.class.getSimpleName()};
+
     /**
      * The {@link ConversionContext} of this provider.
      */
@@ -63,5 +68,13 @@ public class ECBHistoricRateProvider extends ECBAbstractRateProvider {
         return DATA_ID;
     }
 
+    /**
+     * Merges the days of the daily feed, so new days are available without reloading the whole feed.
+     */
+    @Override
+    protected String[] getDeltaDataIds() {
+        return DELTA_DATA_IDS;
+    }
+
 
 }
\ No newline at end of file
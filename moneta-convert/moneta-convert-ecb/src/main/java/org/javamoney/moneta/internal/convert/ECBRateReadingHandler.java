@@ -63,14 +63,35 @@ class ECBRateReadingHandler extends DefaultHandler {
 
     private final ProviderContext context;
 
+    /**
+     * The most recent day already loaded, or null, if all days should be read.
+     */
+    private final LocalDate loadedUntil;
+
     /**
      * Creates a new handler.
      * @param historicRates the rates, not null.
      * @param context the context, not null.
      */
     ECBRateReadingHandler(Map<LocalDate, Map<String, ExchangeRate>> historicRates, ProviderContext context) {
+        this(historicRates, context, null);
+    }
+
+    /**
+     * Creates a new handler, only reading the days from the given day on. Since the ECB feeds list the most
+     * recent day first, parsing is stopped with a {@link DeltaCompleteException} on the first day before
+     * {@code loadedUntil}. The day already loaded is read again, so its rates, tagged as
+     * {@link RateType#DEFERRED} while it was the current day, are replaced by {@link RateType#HISTORIC} ones
+     * after the date rolled over.
+     * @param historicRates the rates, not null.
+     * @param context the context, not null.
+     * @param loadedUntil the most recent day already loaded, or null, to read all days.
+     */
+    ECBRateReadingHandler(Map<LocalDate, Map<String, ExchangeRate>> historicRates, ProviderContext context,
+                          LocalDate loadedUntil) {
         this.historicRates = historicRates;
         this.context = context;
+        this.loadedUntil = loadedUntil;
     }
 
     @Override
@@ -80,6 +101,9 @@ class ECBRateReadingHandler extends DefaultHandler {
             if (Objects.nonNull(attributes.getValue("time"))) {
 
                 this.localDate = LocalDate.parse(attributes.getValue("time")).atStartOfDay().toLocalDate();
+                if (Objects.nonNull(loadedUntil) && localDate.isBefore(loadedUntil)) {
+                    throw new DeltaCompleteException();
+                }
             } else if (Objects.nonNull(attributes.getValue("currency"))) {
                 // read data <Cube currency="USD" rate="1.3349"/>
                 CurrencyUnit tgtCurrency = Monetary
@@ -125,4 +149,16 @@ class ECBRateReadingHandler extends DefaultHandler {
         rateMap.put(term.getCurrencyCode(), exchangeRate);
     }
 
+    /**
+     * Signals, that all days from the day already loaded on have been read.
+     */
+    static final class DeltaCompleteException extends SAXException {
+
+        private static final long serialVersionUID = 1L;
+
+        DeltaCompleteException() {
+            super("All new days read.");
+        }
+    }
+
 }
\ No newline at end of file
@@ -27,6 +27,7 @@ import javax.money.CurrencyUnit;
 import javax.money.MonetaryAmount;
 import javax.money.Monetary;
 import javax.money.convert.CurrencyConversion;
+import javax.money.convert.ExchangeRate;
 import javax.money.convert.ExchangeRateProvider;
 
 import org.javamoney.moneta.Money;
@@ -148,4 +149,19 @@ public class ECBCurrentRateProviderTest {
         assertTrue(result.getNumber().doubleValue() > 0);
 
     }
+
+    @Test
+    public void shouldReturnTriangulatedCrossRate() {
+        ExchangeRate rate = provider.getExchangeRate(DOLLAR, BRAZILIAN_REAL);
+        assertNotNull(rate);
+        assertEquals(rate.getBaseCurrency(), DOLLAR);
+        assertEquals(rate.getCurrency(), BRAZILIAN_REAL);
+        assertEquals(rate.getExchangeRateChain().size(), 2);
+        assertEquals(rate.getExchangeRateChain().get(0).getCurrency(), EURO);
+        assertEquals(rate.getExchangeRateChain().get(1).getBaseCurrency(), EURO);
+        BigDecimal expected = provider.getExchangeRate(DOLLAR, EURO).getFactor().numberValue(BigDecimal.class)
+                .multiply(provider.getExchangeRate(EURO, BRAZILIAN_REAL).getFactor().numberValue(BigDecimal.class));
+        assertEquals(rate.getFactor().numberValue(BigDecimal.class), expected);
+        assertEquals(provider.getExchangeRate(DOLLAR, BRAZILIAN_REAL), rate);
+    }
 }
@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.internal.convert;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import javax.money.Monetary;
+import javax.money.convert.ConversionContextBuilder;
+import javax.money.convert.ExchangeRate;
+import javax.money.convert.ProviderContext;
+import javax.money.convert.RateType;
+import javax.xml.parsers.SAXParserFactory;
+
+import org.javamoney.moneta.convert.ExchangeRateBuilder;
+import org.javamoney.moneta.spi.DefaultNumberValue;
+import org.testng.annotations.Test;
+
+public class ECBRateReadingHandlerTest {
+
+    private static final String FEED = "<Envelope><Cube>"
+            + "<Cube time=\"2016-01-12\"><Cube currency=\"USD\" rate=\"1.0858\"/></Cube>"
+            + "<Cube time=\"2016-01-11\"><Cube currency=\"USD\" rate=\"1.0887\"/></Cube>"
+            + "<Cube time=\"2016-01-08\"><Cube currency=\"USD\" rate=\"1.0861\"/></Cube>"
+            + "</Cube></Envelope>";
+
+    private static final ProviderContext CONTEXT = ProviderContext.of("ECB-TEST", RateType.HISTORIC);
+
+    @Test
+    public void shouldReadAllDays() throws Exception {
+        Map<LocalDate, Map<String, ExchangeRate>> rates = new ConcurrentSkipListMap<>();
+        parse(new ECBRateReadingHandler(rates, CONTEXT));
+        assertEquals(rates.size(), 3);
+    }
+
+    @Test
+    public void shouldStopOnFirstDayBeforeDayLoaded() throws Exception {
+        Map<LocalDate, Map<String, ExchangeRate>> rates = new ConcurrentSkipListMap<>();
+        try {
+            parse(new ECBRateReadingHandler(rates, CONTEXT, LocalDate.of(2016, 1, 11)));
+            fail("Parsing should stop on the first day before the day loaded.");
+        } catch (ECBRateReadingHandler.DeltaCompleteException e) {
+            assertEquals(rates.keySet().toString(), "[2016-01-11, 2016-01-12]");
+            assertEquals(rates.get(LocalDate.of(2016, 1, 12)).get("USD").getFactor().doubleValueExact(), 1.0858);
+        }
+    }
+
+    @Test
+    public void shouldRetagDayLoadedAsHistoric() throws Exception {
+        Map<LocalDate, Map<String, ExchangeRate>> rates = new ConcurrentSkipListMap<>();
+        LocalDate loadedUntil = LocalDate.of(2016, 1, 11);
+        ECBRateReadingHandler handler = new ECBRateReadingHandler(rates, CONTEXT, loadedUntil);
+        Map<String, ExchangeRate> deferred = new ConcurrentSkipListMap<>();
+        deferred.put("USD", new ExchangeRateBuilder(ConversionContextBuilder.create(CONTEXT, RateType.DEFERRED)
+                .set(loadedUntil).build()).setBase(ECBHistoricRateProvider.BASE_CURRENCY)
+                .setTerm(Monetary.getCurrency("USD")).setFactor(DefaultNumberValue.of(1.0887)).build());
+        rates.put(loadedUntil, deferred);
+        try {
+            parse(handler);
+            fail("Parsing should stop on the first day before the day loaded.");
+        } catch (ECBRateReadingHandler.DeltaCompleteException e) {
+            assertEquals(rates.get(loadedUntil).get("USD").getContext().getRateType(), RateType.HISTORIC);
+        }
+    }
+
+    private static void parse(ECBRateReadingHandler handler) throws Exception {
+        SAXParserFactory.newInstance().newSAXParser()
+                .parse(new ByteArrayInputStream(FEED.getBytes(StandardCharsets.US_ASCII)), handler);
+    }
+}
@@ -15,19 +15,19 @@
  */
 package org.javamoney.moneta.internal.convert;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.text.ParseException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.Currency;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.function.Predicate;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -47,32 +47,51 @@ import org.javamoney.moneta.convert.ExchangeRateBuilder;
 import org.javamoney.moneta.internal.convert.IMFRateReadingHandler.RateIMFResult;
 import org.javamoney.moneta.spi.AbstractRateProvider;
 import org.javamoney.moneta.spi.LoaderService.LoaderListener;
+import org.javamoney.moneta.spi.MonetaryConfig;
+import org.javamoney.moneta.spi.RateSnapshot;
 
 abstract class IMFAbstractRateProvider extends AbstractRateProvider implements LoaderListener {
 
 
     private static final Logger LOG = Logger.getLogger(IMFAbstractRateProvider.class.getName());
 
-    static final Comparator<ExchangeRate> COMPARATOR_EXCHANGE_BY_LOCAL_DATE = Comparator.comparing(c -> c.getContext().get(LocalDate.class));
-
 	protected static final Map<String, CurrencyUnit> CURRENCIES_BY_NAME = new HashMap<>();
 
+    /**
+     * Configuration key to enable or disable restoring the parsed rates from a binary snapshot, enabled by default.
+     */
+    static final String SNAPSHOT_KEY = "imf.snapshot";
+
+    private static final String SNAPSHOT_SUFFIX = "-snapshot";
+
 	protected static final CurrencyUnit SDR =
             CurrencyUnitBuilder.of("SDR", CurrencyContextBuilder.of(IMFRateProvider.class.getSimpleName()).build())
                     .setDefaultFractionDigits(3).build(true);
 
-	protected Map<CurrencyUnit, List<ExchangeRate>> currencyToSdr = Collections.emptyMap();
+	/**
+	 * Rates from the currencies to SDR, by currency and date.
+	 */
+	protected Map<CurrencyUnit, NavigableMap<LocalDate, ExchangeRate>> currencyToSdr = new ConcurrentHashMap<>();
 
-	protected Map<CurrencyUnit, List<ExchangeRate>> sdrToCurrency = Collections.emptyMap();
+	/**
+	 * Rates from SDR to the currencies, by currency and date.
+	 */
+	protected Map<CurrencyUnit, NavigableMap<LocalDate, ExchangeRate>> sdrToCurrency = new ConcurrentHashMap<>();
 
 	protected final IMFRateReadingHandler handler;
 
+	/**
+	 * Flag, if the parsed rates are kept as {@link RateSnapshot}, configured by {@link #SNAPSHOT_KEY}.
+	 */
+	private final boolean snapshotEnabled;
+
 	private final ProviderContext context;
 
 	public IMFAbstractRateProvider(ProviderContext providerContext) {
 		super(providerContext);
 		this.context = providerContext;
 		handler = new IMFRateReadingHandler(CURRENCIES_BY_NAME, context);
+		this.snapshotEnabled = Boolean.parseBoolean(MonetaryConfig.getConfig().getOrDefault(SNAPSHOT_KEY, "true"));
 	}
 
 
@@ -103,7 +122,7 @@ abstract class IMFAbstractRateProvider extends AbstractRateProvider implements L
     @Override
     public void newDataLoaded(String resourceId, InputStream is) {
         try {
-        	 RateIMFResult result = handler.read(is);
+        	 RateIMFResult result = read(resourceId, is);
         	 this.sdrToCurrency = result.getSdrToCurrency();
              this.currencyToSdr = result.getCurrencyToSdr();
         } catch (Exception e) {
@@ -111,6 +130,35 @@ abstract class IMFAbstractRateProvider extends AbstractRateProvider implements L
         }
     }
 
+    /**
+     * Reads the rates, restoring them from the snapshot of the resource, if it was created from the same data.
+     */
+    private RateIMFResult read(String resourceId, InputStream is) throws IOException, ParseException {
+        if (!snapshotEnabled) {
+            return handler.read(is);
+        }
+        byte[] data = RateSnapshot.readFully(is);
+        long checksum = RateSnapshot.checksum(data);
+        String snapshotId = resourceId + SNAPSHOT_SUFFIX;
+        RateSnapshot snapshot = RateSnapshot.load(snapshotId);
+        if (Objects.nonNull(snapshot) && snapshot.getSourceChecksum() == checksum) {
+            try {
+                return handler.read(snapshot);
+            } catch (RuntimeException e) {
+                LOG.log(Level.FINE, "Ignoring snapshot of " + resourceId, e);
+            }
+        }
+        RateIMFResult result = handler.read(new ByteArrayInputStream(data));
+        RateSnapshot.Writer writer = new RateSnapshot.Writer(checksum);
+        try {
+            handler.write(result, writer);
+            RateSnapshot.store(snapshotId, writer);
+        } catch (IllegalArgumentException e) {
+            LOG.log(Level.FINE, "Rates of " + resourceId + " cannot be stored as snapshot.", e);
+        }
+        return result;
+    }
+
     @Override
     public ExchangeRate getExchangeRate(ConversionQuery conversionQuery) {
         if (!isAvailable(conversionQuery)) {
@@ -142,18 +190,21 @@ abstract class IMFAbstractRateProvider extends AbstractRateProvider implements L
         return builder.build();
     }
 
-    private ExchangeRate getExchangeRate(List<ExchangeRate> rates,final LocalDate[] dates) {
+    private ExchangeRate getExchangeRate(NavigableMap<LocalDate, ExchangeRate> rates, final LocalDate[] dates) {
         if (Objects.isNull(rates) ) {
             return null;
         }
         if (Objects.isNull(dates)) {
-        	return rates.stream().sorted(COMPARATOR_EXCHANGE_BY_LOCAL_DATE.reversed()).findFirst().orElseThrow(() -> new MonetaryException("There is not more recent exchange rate to  rate on IMFRateProvider."));
+        	Map.Entry<LocalDate, ExchangeRate> latest = rates.lastEntry();
+        	if (Objects.isNull(latest)) {
+        		throw new MonetaryException("There is not more recent exchange rate to  rate on IMFRateProvider.");
+        	}
+        	return latest.getValue();
         } else {
         	for (LocalDate localDate : dates) {
-        		Predicate<ExchangeRate> filter = rate -> rate.getContext().get(LocalDate.class).equals(localDate);
-        		Optional<ExchangeRate> exchangeRateOptional = rates.stream().filter(filter).findFirst();
-        		if(exchangeRateOptional.isPresent()) {
-        			return exchangeRateOptional.get();
+        		ExchangeRate rate = rates.get(localDate);
+        		if(Objects.nonNull(rate)) {
+        			return rate;
         		}
 			}
           	String datesOnErros = Stream.of(dates).map(date -> date.format(DateTimeFormatter.ISO_LOCAL_DATE)).collect(Collectors.joining(","));
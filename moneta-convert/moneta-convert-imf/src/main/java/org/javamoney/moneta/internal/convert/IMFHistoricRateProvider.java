@@ -20,9 +20,12 @@ import java.io.InputStream;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -38,6 +41,7 @@ import javax.money.spi.Bootstrap;
 
 import org.javamoney.moneta.internal.convert.IMFRateReadingHandler.RateIMFResult;
 import org.javamoney.moneta.spi.LoaderService;
+import org.javamoney.moneta.spi.MonetaryConfig;
 
 /**
  * Find by historic from IMF
@@ -54,7 +58,19 @@ public class IMFHistoricRateProvider extends IMFAbstractRateProvider {
 	            .set("providerDescription", "Historic International Monetary Fond").set("days", 0).build();
 
 
+	/**
+	 * Configuration key to enable or disable delta reloads, enabled by default.
+	 */
+	static final String DELTA_KEY = "imf.delta";
+
 	private final List<YearMonth> cachedHistoric = new ArrayList<>();
+
+	/**
+	 * Flag, if reloads only merge the days after the most recent day loaded, configured by {@link #DELTA_KEY}.
+	 */
+	private final boolean deltaEnabled = Boolean.parseBoolean(
+			MonetaryConfig.getConfig().getOrDefault(DELTA_KEY, "true"));
+
 	public IMFHistoricRateProvider() {
 		super(CONTEXT);
 		 LoaderService loader = Bootstrap.getService(LoaderService.class);
@@ -66,6 +82,33 @@ public class IMFHistoricRateProvider extends IMFAbstractRateProvider {
 	        }
 	}
 
+	/**
+	 * Reloads only merge the days from the most recent day loaded on, keeping the rates of all other days,
+	 * including the ones loaded by month. The rates of the most recent day are replaced, so rates loaded as
+	 * {@link RateType#DEFERRED} on the current day become {@link RateType#HISTORIC}, once the date rolled over.
+	 */
+	@Override
+	public void newDataLoaded(String resourceId, InputStream is) {
+		LocalDate loadedUntil = getLoadedUntil();
+		if (!deltaEnabled || Objects.isNull(loadedUntil)) {
+			super.newDataLoaded(resourceId, is);
+			return;
+		}
+		try {
+			RateIMFResult result = handler.read(is, loadedUntil);
+			combine(result.getSdrToCurrency(), this.sdrToCurrency);
+			combine(result.getCurrencyToSdr(), this.currencyToSdr);
+		} catch (Exception e) {
+			LOG.log(Level.SEVERE, "Error", e);
+		}
+	}
+
+	private LocalDate getLoadedUntil() {
+		return Stream.concat(currencyToSdr.values().stream(), sdrToCurrency.values().stream())
+				.filter(rates -> !rates.isEmpty()).map(NavigableMap::lastKey)
+				.max(Comparator.naturalOrder()).orElse(null);
+	}
+
 	@Override
 	public ExchangeRate getExchangeRate(ConversionQuery conversionQuery) {
 		LocalDate[] times = getQueryDates(conversionQuery);
@@ -97,17 +140,12 @@ public class IMFHistoricRateProvider extends IMFAbstractRateProvider {
 	    }
 	}
 
-	private Map<CurrencyUnit, List<ExchangeRate>> combine(Map<CurrencyUnit, List<ExchangeRate>> source, Map<CurrencyUnit, List<ExchangeRate>> destination) {
+	private Map<CurrencyUnit, NavigableMap<LocalDate, ExchangeRate>> combine(
+			Map<CurrencyUnit, NavigableMap<LocalDate, ExchangeRate>> source,
+			Map<CurrencyUnit, NavigableMap<LocalDate, ExchangeRate>> destination) {
 		for(CurrencyUnit currency: source.keySet()) {
-			destination.putIfAbsent(currency, new ArrayList<>());
-			List<ExchangeRate> rates = source.get(currency);
-			destination.merge(currency, rates, IMFHistoricRateProvider::merge);
+			destination.computeIfAbsent(currency, c -> new ConcurrentSkipListMap<>()).putAll(source.get(currency));
 		}
 		return destination;
 	}
-	private static List<ExchangeRate> merge(List<ExchangeRate> ratesA, List<ExchangeRate> ratesB) {
-		ratesA.addAll(ratesB);
-		ratesA.sort(COMPARATOR_EXCHANGE_BY_LOCAL_DATE.reversed());
-		return ratesA;
-	}
 }
@@ -15,23 +15,30 @@
  */
 package org.javamoney.moneta.internal.convert;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.CharBuffer;
 import java.text.ParseException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 import javax.money.CurrencyUnit;
+import javax.money.Monetary;
 import javax.money.convert.ConversionContextBuilder;
 import javax.money.convert.ExchangeRate;
 import javax.money.convert.ProviderContext;
@@ -39,12 +46,16 @@ import javax.money.convert.RateType;
 
 import org.javamoney.moneta.convert.ExchangeRateBuilder;
 import org.javamoney.moneta.spi.DefaultNumberValue;
+import org.javamoney.moneta.spi.RateSnapshot;
 
 class IMFRateReadingHandler {
 
 	private static final Logger LOG = Logger
 			.getLogger(IMFRateReadingHandler.class.getName());
 
+	private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("MMMM dd, uuuu")
+			.withLocale(Locale.ENGLISH);
+
 	private final Map<String, CurrencyUnit> currenciresByName;
 
 	private final ProviderContext context;
@@ -56,12 +67,23 @@ class IMFRateReadingHandler {
 
 	RateIMFResult read(InputStream inputStream) throws IOException,
 			ParseException {
-		Map<CurrencyUnit, List<ExchangeRate>> currencyToSdr = new HashMap<>();
-		Map<CurrencyUnit, List<ExchangeRate>> sdrToCurrency = new HashMap<>();
+		return read(inputStream, null);
+	}
 
-		BufferedReader reader = new BufferedReader(new InputStreamReader(
-				inputStream));
-		String line = reader.readLine();
+	/**
+	 * Reads the rates from the given day on only. The day already loaded is read again, so its rates, tagged
+	 * as {@link RateType#DEFERRED} while it was the current day, are replaced by {@link RateType#HISTORIC}
+	 * ones after the date rolled over.
+	 *
+	 * @param inputStream the TSV data, not null.
+	 * @param loadedUntil the most recent day already loaded, or null, to read all days.
+	 */
+	RateIMFResult read(InputStream inputStream, LocalDate loadedUntil) throws IOException,
+			ParseException {
+		Map<CurrencyUnit, NavigableMap<LocalDate, ExchangeRate>> currencyToSdr = new ConcurrentHashMap<>();
+		Map<CurrencyUnit, NavigableMap<LocalDate, ExchangeRate>> sdrToCurrency = new ConcurrentHashMap<>();
+
+		Tokenizer tokenizer = new Tokenizer(new InputStreamReader(inputStream));
 		boolean isCurrencyToSdr = true;
 		// SDRs per Currency unit (2)
 		//
@@ -76,134 +98,140 @@ class IMFRateReadingHandler {
 		// January 28, 2013 January 25, 2013
 		// Euro 1.137520 1.137760 1.143840 1.142570 1.140510
 		List<LocalDate> timestamps = null;
-		while (Objects.nonNull(line)) {
-			if (line.trim().isEmpty()) {
-				line = reader.readLine();
-				continue;
-			}
-			if (line.startsWith("SDRs per Currency unit")) {
+		while (tokenizer.nextField()) {
+			if (tokenizer.isBlank()) {
+				tokenizer.skipLine();
+			} else if (tokenizer.startsWith("SDRs per Currency unit")) {
 				isCurrencyToSdr = false;
-				line = reader.readLine();
-				continue;
-			} else if (line.startsWith("Currency units per SDR")) {
+				tokenizer.skipLine();
+			} else if (tokenizer.startsWith("Currency units per SDR")) {
 				isCurrencyToSdr = true;
-				line = reader.readLine();
-				continue;
-			} else if (line.startsWith("Currency")) {
-				timestamps = readTimestamps(line);
-				line = reader.readLine();
-				continue;
-			}
-			String[] parts = line.split("\\t");
-			CurrencyUnit currency = currenciresByName.get(parts[0]);
-			if (Objects.isNull(currency)) {
-				LOG.finest(() -> "Uninterpretable data from IMF data feed: "
-						+ parts[0]);
-				line = reader.readLine();
-				continue;
+				tokenizer.skipLine();
+			} else if (tokenizer.startsWith("Currency")) {
+				timestamps = readTimestamps(tokenizer);
+			} else {
+				String name = tokenizer.fieldAsString().trim();
+				CurrencyUnit currency = currenciresByName.get(name);
+				if (Objects.isNull(currency)) {
+					LOG.finest(() -> "Uninterpretable data from IMF data feed: "
+							+ name);
+					tokenizer.skipLine();
+				} else {
+					readExchangeRates(tokenizer, isCurrencyToSdr ? currencyToSdr : sdrToCurrency,
+							isCurrencyToSdr, timestamps, loadedUntil, currency);
+				}
 			}
-			saveExchangeRate(currencyToSdr, sdrToCurrency, isCurrencyToSdr,
-					timestamps, currency, parseValues(parts));
-			line = reader.readLine();
 		}
-		// Cast is save, since contained DefaultExchangeRate is Comparable!
-		sortResult(currencyToSdr, sdrToCurrency);
+		logResult(currencyToSdr, sdrToCurrency);
 		return new RateIMFResult(currencyToSdr, sdrToCurrency);
 	}
 
-	@SuppressWarnings("unchecked")
-	private void sortResult(
-			Map<CurrencyUnit, List<ExchangeRate>> newCurrencyToSdr,
-			Map<CurrencyUnit, List<ExchangeRate>> newSdrToCurrency) {
-
-		newSdrToCurrency.values().forEach(
-				(c) -> Collections.sort(List.class.cast(c)));
-		newCurrencyToSdr.values().forEach(
-				(c) -> Collections.sort(List.class.cast(c)));
+	private void logResult(
+			Map<CurrencyUnit, NavigableMap<LocalDate, ExchangeRate>> newCurrencyToSdr,
+			Map<CurrencyUnit, NavigableMap<LocalDate, ExchangeRate>> newSdrToCurrency) {
 		newSdrToCurrency.forEach((c, l) -> LOG.finest(() -> "SDR -> "
-				+ c.getCurrencyCode() + ": " + l));
+				+ c.getCurrencyCode() + ": " + l.values()));
 		newCurrencyToSdr.forEach((c, l) -> LOG.finest(() -> c
-				.getCurrencyCode() + " -> SDR: " + l));
+				.getCurrencyCode() + " -> SDR: " + l.values()));
 	}
 
-
-
-	private List<LocalDate> readTimestamps(String line) {
+	private List<LocalDate> readTimestamps(Tokenizer tokenizer) throws IOException, ParseException {
 		// Currency May 01, 2013 April 30, 2013 April 29, 2013 April 26, 2013
 		// April 25, 2013
-		DateTimeFormatter sdf = DateTimeFormatter.ofPattern("MMMM dd, uuuu")
-				.withLocale(Locale.ENGLISH);
-		String[] parts = line.split("\\\t");
-		List<LocalDate> dates = new ArrayList<>(parts.length);
-		for (int i = 1; i < parts.length; i++) {
-			dates.add(LocalDate.parse(parts[i], sdf));
-		}
-		return dates;
-	}
-
-	private void saveExchangeRate(
-			Map<CurrencyUnit, List<ExchangeRate>> currencyToSdr,
-			Map<CurrencyUnit, List<ExchangeRate>> sdrToCurrency,
-			boolean isCurrencyToSdr, List<LocalDate> timestamps,
-			CurrencyUnit currency, Double[] values) {
-
-		for (int index = 0; index < values.length; index++) {
-
-			if (Objects.isNull(values[index])
-					|| Objects.isNull(getLocalDateFromTS(timestamps, index))) {
+		// trailing empty columns are ignored, empty columns followed by a timestamp are not
+		List<LocalDate> dates = new ArrayList<>();
+		int emptyFields = 0;
+		while (tokenizer.nextFieldInLine()) {
+			if (tokenizer.isEmpty()) {
+				emptyFields++;
 				continue;
 			}
-
-			LocalDate fromTS = getLocalDateFromTS(timestamps, index);
-			RateType rateType = getRateType(fromTS);
-
-			if (isCurrencyToSdr) {
-				ExchangeRate rate = new ExchangeRateBuilder(
-						ConversionContextBuilder.create(context, rateType)
-								.set(fromTS).build()).setBase(currency)
-						.setTerm(IMFAbstractRateProvider.SDR)
-						.setFactor(new DefaultNumberValue(1D / values[index]))
-						.build();
-				List<ExchangeRate> rates = currencyToSdr.computeIfAbsent(
-						currency, c -> new ArrayList<>(5));
-				rates.add(rate);
-			} else {
-				ExchangeRate rate = new ExchangeRateBuilder(
-						ConversionContextBuilder.create(context, rateType)
-								.set(fromTS).build()).setBase(IMFAbstractRateProvider.SDR)
-						.setTerm(currency)
-						.setFactor(DefaultNumberValue.of(1D / values[index]))
-						.build();
-				List<ExchangeRate> rates = sdrToCurrency.computeIfAbsent(
-						currency, (c) -> new ArrayList<>(5));
-				rates.add(rate);
+			if (emptyFields > 0) {
+				throw new ParseException("Empty IMF timestamp before: " + tokenizer.fieldAsString(), 0);
+			}
+			try {
+				dates.add(LocalDate.parse(tokenizer.field(), TIMESTAMP_FORMAT));
+			} catch (DateTimeParseException e) {
+				throw new ParseException("Invalid IMF timestamp: " + tokenizer.fieldAsString(),
+						e.getErrorIndex());
 			}
 		}
+		return dates;
 	}
 
-	private Double[] parseValues(String[] parts) throws ParseException {
-
-		ArrayList<Double> result = new ArrayList<>();
+	/**
+	 * Reads the values of a currency line, creating the rates directly from the characters read.
+	 */
+	private void readExchangeRates(Tokenizer tokenizer,
+			Map<CurrencyUnit, NavigableMap<LocalDate, ExchangeRate>> rates,
+			boolean isCurrencyToSdr, List<LocalDate> timestamps, LocalDate loadedUntil,
+			CurrencyUnit currency) throws IOException {
+		NavigableMap<LocalDate, ExchangeRate> currencyRates = null;
 		int index = 0;
-		for (String part : parts) {
-			if(index == 0) {
-				index++;
+		while (tokenizer.nextFieldInLine()) {
+			LocalDate fromTS = getLocalDateFromTS(timestamps, index++);
+			if (Objects.nonNull(fromTS) && Objects.nonNull(loadedUntil) && fromTS.isBefore(loadedUntil)) {
 				continue;
 			}
-			if (part.isEmpty() || "NA".equals(part)) {
-				index++;
-				result.add(null);
+			BigDecimal value = tokenizer.fieldAsDecimal();
+			if (Objects.isNull(value) || Objects.isNull(fromTS) || value.signum() == 0) {
 				continue;
 			}
-			index++;
-			result.add(Double.valueOf(part.trim().replace(",", "")));
+			if (Objects.isNull(currencyRates)) {
+				currencyRates = rates.computeIfAbsent(currency, c -> new ConcurrentSkipListMap<>());
+			}
+			currencyRates.put(fromTS, createExchangeRate(currency, isCurrencyToSdr, fromTS,
+					BigDecimal.ONE.divide(value, MathContext.DECIMAL64)));
+		}
+	}
+
+	private ExchangeRate createExchangeRate(CurrencyUnit currency, boolean isCurrencyToSdr, LocalDate fromTS,
+			BigDecimal factor) {
+		ExchangeRateBuilder builder = new ExchangeRateBuilder(
+				ConversionContextBuilder.create(context, getRateType(fromTS))
+						.set(fromTS).build());
+		if (isCurrencyToSdr) {
+			builder.setBase(currency).setTerm(IMFAbstractRateProvider.SDR);
+		} else {
+			builder.setBase(IMFAbstractRateProvider.SDR).setTerm(currency);
 		}
-		return result.toArray(new Double[parts.length - 1]);
+		builder.setFactor(DefaultNumberValue.of(factor));
+		return builder.build();
+	}
+
+	/**
+	 * Restores the rates from a snapshot written by {@link #write(RateIMFResult, RateSnapshot.Writer)}.
+	 */
+	RateIMFResult read(RateSnapshot snapshot) {
+		Map<CurrencyUnit, NavigableMap<LocalDate, ExchangeRate>> currencyToSdr = new ConcurrentHashMap<>();
+		Map<CurrencyUnit, NavigableMap<LocalDate, ExchangeRate>> sdrToCurrency = new ConcurrentHashMap<>();
+		String sdrCode = IMFAbstractRateProvider.SDR.getCurrencyCode();
+		snapshot.forEach((date, base, term, factor) -> {
+			boolean isCurrencyToSdr = sdrCode.equals(term);
+			CurrencyUnit currency = Monetary.getCurrency(isCurrencyToSdr ? base : term);
+			(isCurrencyToSdr ? currencyToSdr : sdrToCurrency)
+					.computeIfAbsent(currency, c -> new ConcurrentSkipListMap<>())
+					.putIfAbsent(date, createExchangeRate(currency, isCurrencyToSdr, date, factor));
+		});
+		return new RateIMFResult(currencyToSdr, sdrToCurrency);
+	}
+
+	/**
+	 * Adds all rates of the given result to the snapshot writer.
+	 */
+	void write(RateIMFResult result, RateSnapshot.Writer writer) {
+		Stream.of(result.getCurrencyToSdr(), result.getSdrToCurrency())
+				.flatMap(rates -> rates.values().stream())
+				.forEach(rates -> rates.forEach((date, rate) -> writer.add(date,
+						rate.getBaseCurrency().getCurrencyCode(), rate.getCurrency().getCurrencyCode(),
+						rate.getFactor().numberValue(BigDecimal.class))));
 	}
 
 	private LocalDate getLocalDateFromTS(List<LocalDate> timestamps, int index) {
-		LocalDate fromTS = timestamps != null ? timestamps.get(index) : null;
-		return fromTS;
+		if (Objects.isNull(timestamps) || index >= timestamps.size()) {
+			return null;
+		}
+		return timestamps.get(index);
 	}
 
 	private RateType getRateType(LocalDate fromTS) {
@@ -214,23 +242,195 @@ class IMFRateReadingHandler {
 		return rateType;
 	}
 
+	/**
+	 * Splits the tab separated IMF feed into fields, reading through a single character buffer. Fields
+	 * are exposed as {@link CharSequence} views on a reused array, so no line strings, regular expressions
+	 * or boxed numbers are involved.
+	 */
+	private static final class Tokenizer {
+
+		private final Reader reader;
+
+		private final char[] buffer = new char[8192];
+
+		private int position;
+
+		private int limit;
+
+		private char[] field = new char[64];
+
+		private int fieldLength;
+
+		/**
+		 * Flag, if the last field read was terminated by a line end (or the end of input).
+		 */
+		private boolean endOfLine = true;
+
+		private boolean endOfInput;
+
+		/**
+		 * Flag, if the last line was terminated by a carriage return, so a directly following line feed
+		 * belongs to the same line end.
+		 */
+		private boolean carriageReturn;
+
+		Tokenizer(Reader reader) {
+			this.reader = reader;
+		}
+
+		/**
+		 * Reads the first field of the next line.
+		 *
+		 * @return false, if the end of the input has been reached.
+		 */
+		boolean nextField() throws IOException {
+			if (!endOfLine) {
+				skipLine();
+			}
+			if (endOfInput) {
+				return false;
+			}
+			readField();
+			return !(endOfInput && fieldLength == 0);
+		}
+
+		/**
+		 * Reads the next field of the current line.
+		 *
+		 * @return false, if the current line has no more fields.
+		 */
+		boolean nextFieldInLine() throws IOException {
+			if (endOfLine) {
+				return false;
+			}
+			readField();
+			return true;
+		}
+
+		void skipLine() throws IOException {
+			while (!endOfLine) {
+				readField();
+			}
+		}
+
+		private void readField() throws IOException {
+			fieldLength = 0;
+			while (true) {
+				if (position == limit) {
+					limit = reader.read(buffer, 0, buffer.length);
+					position = 0;
+					if (limit <= 0) {
+						limit = 0;
+						endOfInput = true;
+						endOfLine = true;
+						return;
+					}
+				}
+				char c = buffer[position++];
+				if (carriageReturn) {
+					carriageReturn = false;
+					if (c == '\n') {
+						continue;
+					}
+				}
+				if (c == '\t') {
+					endOfLine = false;
+					return;
+				}
+				if (c == '\n') {
+					endOfLine = true;
+					return;
+				}
+				if (c == '\r') {
+					carriageReturn = true;
+					endOfLine = true;
+					return;
+				}
+				if (fieldLength == field.length) {
+					char[] newField = new char[fieldLength * 2];
+					System.arraycopy(field, 0, newField, 0, fieldLength);
+					field = newField;
+				}
+				field[fieldLength++] = c;
+			}
+		}
+
+		CharSequence field() {
+			return CharBuffer.wrap(field, 0, fieldLength);
+		}
+
+		String fieldAsString() {
+			return new String(field, 0, fieldLength);
+		}
+
+		/**
+		 * Checks, if the current field is empty or whitespace only.
+		 */
+		boolean isEmpty() {
+			for (int i = 0; i < fieldLength; i++) {
+				if (!Character.isWhitespace(field[i])) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Checks, if the current field is the only field of a line and empty or whitespace only.
+		 */
+		boolean isBlank() {
+			return endOfLine && isEmpty();
+		}
+
+		boolean startsWith(String prefix) {
+			if (prefix.length() > fieldLength) {
+				return false;
+			}
+			for (int i = 0; i < prefix.length(); i++) {
+				if (field[i] != prefix.charAt(i)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Parses the current field as decimal, ignoring grouping commas and surrounding whitespace.
+		 *
+		 * @return the value, or null, if the field is empty or {@code NA}.
+		 */
+		BigDecimal fieldAsDecimal() {
+			int length = 0;
+			for (int i = 0; i < fieldLength; i++) {
+				char c = field[i];
+				if (c != ',' && !Character.isWhitespace(c)) {
+					field[length++] = c;
+				}
+			}
+			if (length == 0 || (length == 2 && field[0] == 'N' && field[1] == 'A')) {
+				return null;
+			}
+			return new BigDecimal(field, 0, length);
+		}
+	}
+
 	class RateIMFResult {
 
-		private final Map<CurrencyUnit, List<ExchangeRate>> currencyToSdr;
+		private final Map<CurrencyUnit, NavigableMap<LocalDate, ExchangeRate>> currencyToSdr;
 
-		private final Map<CurrencyUnit, List<ExchangeRate>> sdrToCurrency;
+		private final Map<CurrencyUnit, NavigableMap<LocalDate, ExchangeRate>> sdrToCurrency;
 
-		RateIMFResult(Map<CurrencyUnit, List<ExchangeRate>> currencyToSdr,
-				Map<CurrencyUnit, List<ExchangeRate>> sdrToCurrency) {
+		RateIMFResult(Map<CurrencyUnit, NavigableMap<LocalDate, ExchangeRate>> currencyToSdr,
+				Map<CurrencyUnit, NavigableMap<LocalDate, ExchangeRate>> sdrToCurrency) {
 			this.currencyToSdr = currencyToSdr;
 			this.sdrToCurrency = sdrToCurrency;
 		}
 
-		public Map<CurrencyUnit, List<ExchangeRate>> getCurrencyToSdr() {
+		public Map<CurrencyUnit, NavigableMap<LocalDate, ExchangeRate>> getCurrencyToSdr() {
 			return currencyToSdr;
 		}
 
-		public Map<CurrencyUnit, List<ExchangeRate>> getSdrToCurrency() {
+		public Map<CurrencyUnit, NavigableMap<LocalDate, ExchangeRate>> getSdrToCurrency() {
 			return sdrToCurrency;
 		}
 
@@ -0,0 +1,158 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.internal.convert;
+
+import static org.testng.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.convert.ConversionContextBuilder;
+import javax.money.convert.ExchangeRate;
+import javax.money.convert.ProviderContext;
+import javax.money.convert.RateType;
+
+import org.javamoney.moneta.convert.ExchangeRateBuilder;
+import org.javamoney.moneta.internal.convert.IMFRateReadingHandler.RateIMFResult;
+import org.javamoney.moneta.spi.DefaultNumberValue;
+import org.testng.annotations.Test;
+
+public class IMFRateReadingHandlerTest {
+
+    private static final CurrencyUnit EURO = Monetary.getCurrency("EUR");
+
+    private static final ProviderContext CONTEXT = ProviderContext.of("IMF-TEST", RateType.DEFERRED);
+
+    private static final String SAMPLE = "/java-money/defaults/IMF/rms_five.xls";
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("MMMM dd, uuuu")
+            .withLocale(Locale.ENGLISH);
+
+    private final IMFRateReadingHandler handler = new IMFRateReadingHandler(currenciesByName(), CONTEXT);
+
+    @Test
+    public void shouldReadSample() throws Exception {
+        RateIMFResult result = readSample(null);
+        NavigableMap<LocalDate, ExchangeRate> sdrToEuro = result.getSdrToCurrency().get(EURO);
+        NavigableMap<LocalDate, ExchangeRate> euroToSdr = result.getCurrencyToSdr().get(EURO);
+        assertEquals(sdrToEuro.keySet().toString(), "[2016-01-05, 2016-01-06, 2016-01-07, 2016-01-08]");
+        assertEquals(euroToSdr.keySet().toString(), "[2016-01-05, 2016-01-06, 2016-01-07, 2016-01-08]");
+        ExchangeRate sdrToEuroRate = sdrToEuro.get(LocalDate.of(2016, 1, 8));
+        assertEquals(sdrToEuroRate.getBaseCurrency(), IMFAbstractRateProvider.SDR);
+        assertEquals(sdrToEuroRate.getCurrency(), EURO);
+        assertEquals(sdrToEuroRate.getFactor().numberValue(BigDecimal.class), reciprocal("0.7845640000"));
+        assertEquals(sdrToEuroRate.getContext().getRateType(), RateType.HISTORIC);
+        ExchangeRate euroToSdrRate = euroToSdr.get(LocalDate.of(2016, 1, 8));
+        assertEquals(euroToSdrRate.getBaseCurrency(), EURO);
+        assertEquals(euroToSdrRate.getCurrency(), IMFAbstractRateProvider.SDR);
+        assertEquals(euroToSdrRate.getFactor().numberValue(BigDecimal.class), reciprocal("1.274590"));
+        assertEquals(euroToSdrRate.getContext().getRateType(), RateType.HISTORIC);
+        assertEquals(result.getCurrencyToSdr().get(Monetary.getCurrency("USD")).size(), 4);
+    }
+
+    @Test
+    public void shouldReadCrLfLineEnds() throws Exception {
+        RateIMFResult result = read("SDRs per Currency unit (2)\r\n\r\n"
+                + "Currency\tJanuary 08, 2016\tJanuary 07, 2016\r\n"
+                + "Euro\t0.7845640000\t0.7850750000\r\n"
+                + "U.S. Dollar\t0.7223680000\tNA\r\n");
+        assertEquals(result.getSdrToCurrency().get(EURO).keySet().toString(), "[2016-01-07, 2016-01-08]");
+        assertEquals(result.getSdrToCurrency().get(EURO).get(LocalDate.of(2016, 1, 7)).getFactor()
+                .numberValue(BigDecimal.class), reciprocal("0.7850750000"));
+        assertEquals(result.getSdrToCurrency().get(Monetary.getCurrency("USD")).keySet().toString(),
+                "[2016-01-08]");
+    }
+
+    @Test
+    public void shouldIgnoreTrailingTabs() throws Exception {
+        RateIMFResult result = read("Currency units per SDR(3)\n\n"
+                + "Currency\tJanuary 08, 2016\tJanuary 07, 2016\t\t\n"
+                + " Euro \t1.274590\t1.273760\t\n");
+        assertEquals(result.getCurrencyToSdr().get(EURO).keySet().toString(), "[2016-01-07, 2016-01-08]");
+        assertEquals(result.getCurrencyToSdr().get(EURO).get(LocalDate.of(2016, 1, 8)).getFactor()
+                .numberValue(BigDecimal.class), reciprocal("1.274590"));
+    }
+
+    @Test(expectedExceptions = ParseException.class)
+    public void shouldRejectEmptyTimestamp() throws Exception {
+        read("Currency\tJanuary 08, 2016\t\tJanuary 06, 2016\n");
+    }
+
+    @Test
+    public void shouldTagCurrentDayAsDeferred() throws Exception {
+        LocalDate today = LocalDate.now();
+        LocalDate yesterday = today.minusDays(1);
+        RateIMFResult result = read("Currency units per SDR(3)\n"
+                + "Currency\t" + TIMESTAMP_FORMAT.format(today) + "\t" + TIMESTAMP_FORMAT.format(yesterday) + "\n"
+                + "Euro\t1.274590\t1.273760\n");
+        NavigableMap<LocalDate, ExchangeRate> rates = result.getCurrencyToSdr().get(EURO);
+        assertEquals(rates.get(today).getContext().getRateType(), RateType.DEFERRED);
+        assertEquals(rates.get(yesterday).getContext().getRateType(), RateType.HISTORIC);
+    }
+
+    @Test
+    public void shouldRereadDayLoaded() throws Exception {
+        LocalDate loadedUntil = LocalDate.of(2016, 1, 7);
+        RateIMFResult result = readSample(loadedUntil);
+        assertEquals(result.getSdrToCurrency().get(EURO).keySet().toString(), "[2016-01-07, 2016-01-08]");
+        assertEquals(result.getCurrencyToSdr().get(EURO).keySet().toString(), "[2016-01-07, 2016-01-08]");
+    }
+
+    @Test
+    public void shouldRetagDayLoadedAsHistoric() throws Exception {
+        LocalDate loadedUntil = LocalDate.of(2016, 1, 7);
+        NavigableMap<LocalDate, ExchangeRate> rates = new ConcurrentSkipListMap<>();
+        rates.put(loadedUntil, new ExchangeRateBuilder(ConversionContextBuilder.create(CONTEXT, RateType.DEFERRED)
+                .set(loadedUntil).build()).setBase(IMFAbstractRateProvider.SDR).setTerm(EURO)
+                .setFactor(DefaultNumberValue.of(1.2737)).build());
+        rates.putAll(readSample(loadedUntil).getSdrToCurrency().get(EURO));
+        assertEquals(rates.get(loadedUntil).getContext().getRateType(), RateType.HISTORIC);
+    }
+
+    private RateIMFResult readSample(LocalDate loadedUntil) throws Exception {
+        try (InputStream is = getClass().getResourceAsStream(SAMPLE)) {
+            return handler.read(is, loadedUntil);
+        }
+    }
+
+    private RateIMFResult read(String data) throws Exception {
+        return handler.read(new ByteArrayInputStream(data.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private static BigDecimal reciprocal(String value) {
+        return BigDecimal.ONE.divide(new BigDecimal(value), MathContext.DECIMAL64);
+    }
+
+    private static Map<String, CurrencyUnit> currenciesByName() {
+        Map<String, CurrencyUnit> currenciesByName = new HashMap<>();
+        currenciesByName.put("Euro", EURO);
+        currenciesByName.put("U.S. Dollar", Monetary.getCurrency("USD"));
+        return currenciesByName;
+    }
+}
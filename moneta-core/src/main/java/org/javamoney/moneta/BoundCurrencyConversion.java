@@ -0,0 +1,282 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+import javax.money.NumberValue;
+import javax.money.convert.ConversionContext;
+import javax.money.convert.ConversionQuery;
+import javax.money.convert.ConversionQueryBuilder;
+import javax.money.convert.CurrencyConversion;
+import javax.money.convert.CurrencyConversionException;
+import javax.money.convert.ExchangeRate;
+import javax.money.convert.ExchangeRateProvider;
+import javax.money.spi.Bootstrap;
+
+import org.javamoney.moneta.internal.FastMoneyMath;
+import org.javamoney.moneta.spi.AbstractCurrencyConversion;
+import org.javamoney.moneta.spi.LoaderService;
+import org.javamoney.moneta.spi.LoaderService.LoaderListener;
+
+/**
+ * {@link CurrencyConversion} bound to the exchange rate of one source currency. Unlike a conversion
+ * returned by {@link ExchangeRateProvider#getCurrencyConversion(CurrencyUnit)}, which asks its provider
+ * for the rate on every {@link #apply(MonetaryAmount)}, the rate is resolved once, when the conversion is
+ * created, and pinned afterwards. For {@link FastMoney} the factor is additionally kept as scaled
+ * <code>long</code>, so converting an amount is a single exact multiplication on its internal value:
+ * <pre><code>
+ * BoundCurrencyConversion toEuro = BoundCurrencyConversion.of(provider, dollar, euro).refreshOnLoad();
+ * for (FastMoney amount : dollarAmounts) {
+ *     total = total.add(amount.with(toEuro));
+ * }
+ * </code></pre>
+ * The rate is only updated, when {@link #refresh()} is called or, if enabled by
+ * {@link #refreshOnLoad(String...)}, when the {@link LoaderService} signals new data. The results equal
+ * the ones of the provider's lazily bound conversion for the rate pinned.
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ *
+ * @since 1.2
+ */
+public final class BoundCurrencyConversion extends AbstractCurrencyConversion implements LoaderListener {
+
+    private static final RoundingMode FAST_MONEY_ROUNDING = RoundingMode.HALF_EVEN;
+
+    private final ExchangeRateProvider provider;
+
+    private final ConversionQuery conversionQuery;
+
+    private volatile BoundRate boundRate;
+
+    private BoundCurrencyConversion(ExchangeRateProvider provider, ConversionQuery conversionQuery,
+                                    ConversionContext conversionContext, ExchangeRate rate) {
+        super(rate.getCurrency(), conversionContext);
+        this.provider = provider;
+        this.conversionQuery = conversionQuery;
+        this.boundRate = bind(rate);
+    }
+
+    /**
+     * Creates a conversion bound to the rate currently returned by the provider for the query.
+     *
+     * @param provider        the provider, not null.
+     * @param conversionQuery the query, with base and term currency set, not null.
+     * @return the conversion, never null.
+     * @throws CurrencyConversionException if the provider has no rate for the query.
+     */
+    public static BoundCurrencyConversion of(ExchangeRateProvider provider, ConversionQuery conversionQuery) {
+        Objects.requireNonNull(provider, "Provider required.");
+        Objects.requireNonNull(conversionQuery.getBaseCurrency(), "Base currency required.");
+        Objects.requireNonNull(conversionQuery.getCurrency(), "Term currency required.");
+        ExchangeRate rate = resolve(provider, conversionQuery);
+        return new BoundCurrencyConversion(provider, conversionQuery, rate.getContext(), rate);
+    }
+
+    /**
+     * Creates a conversion bound to the current rate of the provider between the currencies.
+     *
+     * @param provider the provider, not null.
+     * @param base     the source currency, not null.
+     * @param term     the target currency, not null.
+     * @return the conversion, never null.
+     * @throws CurrencyConversionException if the provider has no rate for the currencies.
+     */
+    public static BoundCurrencyConversion of(ExchangeRateProvider provider, CurrencyUnit base, CurrencyUnit term) {
+        return of(provider, ConversionQueryBuilder.of().setBaseCurrency(base).setTermCurrency(term).build());
+    }
+
+    /**
+     * Creates a conversion bound to the given rate. Since there is no provider, {@link #refresh()} keeps
+     * the rate.
+     *
+     * @param rate the rate, not null.
+     * @return the conversion, never null.
+     */
+    public static BoundCurrencyConversion of(ExchangeRate rate) {
+        Objects.requireNonNull(rate, "Rate required.");
+        return new BoundCurrencyConversion(null, null, rate.getContext(), rate);
+    }
+
+    private static ExchangeRate resolve(ExchangeRateProvider provider, ConversionQuery conversionQuery) {
+        ExchangeRate rate = provider.getExchangeRate(conversionQuery);
+        if (Objects.isNull(rate)) {
+            throw new CurrencyConversionException(conversionQuery.getBaseCurrency(), conversionQuery.getCurrency(),
+                    null, "No rate available.");
+        }
+        return rate;
+    }
+
+    /**
+     * Resolves the rate from the provider again.
+     *
+     * @return this instance, for chaining.
+     * @throws CurrencyConversionException if the provider has no rate anymore, the current rate is kept.
+     */
+    public BoundCurrencyConversion refresh() {
+        if (Objects.nonNull(provider)) {
+            this.boundRate = bind(resolve(provider, conversionQuery));
+        }
+        return this;
+    }
+
+    /**
+     * Refreshes the rate each time the {@link LoaderService} signals new data for the given resources.
+     * The conversion is registered after the providers, so it reads the rates already updated. Since the
+     * loader keeps a reference to this conversion, {@link #cancelRefreshOnLoad(String...)} must be called
+     * with the same resource ids, when the conversion is not used anymore.
+     *
+     * @param resourceIds the resource ids, if none are passed, all resources currently registered.
+     * @return this instance, for chaining.
+     */
+    public BoundCurrencyConversion refreshOnLoad(String... resourceIds) {
+        LoaderService loader = Bootstrap.getService(LoaderService.class);
+        if (Objects.nonNull(loader)) {
+            loader.addLoaderListener(this, getResourceIds(loader, resourceIds));
+        }
+        return this;
+    }
+
+    /**
+     * Stops refreshing the rate on new data.
+     *
+     * @param resourceIds the resource ids passed to {@link #refreshOnLoad(String...)}.
+     * @see #refreshOnLoad(String...)
+     */
+    public void cancelRefreshOnLoad(String... resourceIds) {
+        LoaderService loader = Bootstrap.getService(LoaderService.class);
+        if (Objects.nonNull(loader)) {
+            loader.removeLoaderListener(this, getResourceIds(loader, resourceIds));
+        }
+    }
+
+    private static String[] getResourceIds(LoaderService loader, String... resourceIds) {
+        if (resourceIds.length > 0) {
+            return resourceIds;
+        }
+        Set<String> ids = loader.getResourceIds();
+        return ids.toArray(new String[ids.size()]);
+    }
+
+    @Override
+    public void newDataLoaded(String resourceId, InputStream is) {
+        try {
+            refresh();
+        } catch (CurrencyConversionException e) {
+            // keep the rate, until the provider has one again
+        }
+    }
+
+    /**
+     * Access the rate pinned.
+     *
+     * @return the rate, never null.
+     */
+    public ExchangeRate getExchangeRate() {
+        return boundRate.rate;
+    }
+
+    /**
+     * Access the rate pinned, independent of the amount.
+     *
+     * @param sourceAmount the amount, not used.
+     * @return the rate, never null.
+     */
+    @Override
+    public ExchangeRate getExchangeRate(MonetaryAmount sourceAmount) {
+        return boundRate.rate;
+    }
+
+    @Override
+    public ExchangeRateProvider getExchangeRateProvider() {
+        return provider;
+    }
+
+    @Override
+    public MonetaryAmount apply(MonetaryAmount amount) {
+        BoundRate bound = this.boundRate;
+        if (bound.fastMoneyFactor != 0L && amount instanceof FastMoney
+                && bound.rate.getBaseCurrency().equals(amount.getCurrency())) {
+            long value = FastMoneyMath.multiplyAndDivide(((FastMoney) amount).getScaledNumber(),
+                    bound.fastMoneyFactor, bound.fastMoneyDivisor, FAST_MONEY_ROUNDING);
+            return FastMoney.ofScaled(value, bound.rate.getCurrency());
+        }
+        return super.apply(amount);
+    }
+
+    @Override
+    public CurrencyConversion with(ConversionContext conversionContext) {
+        return new BoundCurrencyConversion(provider, conversionQuery, conversionContext, boundRate.rate);
+    }
+
+    @Override
+    public String toString() {
+        return "BoundCurrencyConversion [rate=" + boundRate.rate + ", provider=" + provider + ']';
+    }
+
+    /**
+     * Precomputes the factor applied to {@link FastMoney}, rounded like by
+     * {@link #roundFactor(MonetaryAmount, NumberValue)} for the context of {@link FastMoney}.
+     */
+    private BoundRate bind(ExchangeRate rate) {
+        Integer scale = rate.getContext().get(KEY_SCALE, Integer.class);
+        if (Objects.isNull(scale) || scale < 0) {
+            NumberValue factor = roundFactor(FastMoney.zero(rate.getBaseCurrency()), rate.getFactor());
+            BigDecimal decimal = factor.numberValue(BigDecimal.class);
+            if (decimal.scale() < 0) {
+                decimal = decimal.setScale(0);
+            }
+            if (decimal.signum() != 0 && decimal.precision() <= 18
+                    && FastMoneyMath.isPowerOfTenSupported(decimal.scale())) {
+                return new BoundRate(rate, decimal.unscaledValue().longValue(),
+                        FastMoneyMath.powerOfTen(decimal.scale()));
+            }
+        }
+        return new BoundRate(rate, 0L, 1L);
+    }
+
+    /**
+     * The rate pinned, with the factor precomputed for {@link FastMoney}.
+     */
+    private static final class BoundRate {
+
+        private final ExchangeRate rate;
+
+        /**
+         * The unscaled factor applied to {@link FastMoney}, or 0, if the factor can not be applied as
+         * <code>long</code>, or the result needs further rounding.
+         */
+        private final long fastMoneyFactor;
+
+        /**
+         * The power of ten dividing the product with {@link #fastMoneyFactor}.
+         */
+        private final long fastMoneyDivisor;
+
+        BoundRate(ExchangeRate rate, long fastMoneyFactor, long fastMoneyDivisor) {
+            this.rate = rate;
+            this.fastMoneyFactor = fastMoneyFactor;
+            this.fastMoneyDivisor = fastMoneyDivisor;
+        }
+    }
+}
@@ -17,6 +17,7 @@ package org.javamoney.moneta;
 
 import org.javamoney.moneta.ToStringMonetaryAmountFormat.ToStringMonetaryAmountFormatStyle;
 import org.javamoney.moneta.internal.FastMoneyAmountBuilder;
+import org.javamoney.moneta.internal.FastMoneyMath;
 import org.javamoney.moneta.spi.DefaultNumberValue;
 import org.javamoney.moneta.spi.MonetaryConfig;
 import org.javamoney.moneta.spi.MoneyUtils;
@@ -26,6 +27,7 @@ import javax.money.format.MonetaryAmountFormat;
 
 import java.io.Serializable;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -104,6 +106,21 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
      */
     private static final int SCALE = 5;
 
+    /**
+     * The factor between the internal number and the numeric value, {@code 10^SCALE}.
+     */
+    private static final long SCALE_FACTOR = 100_000L;
+
+    /**
+     * The {@link RoundingMode} applied by multiplications and divisions not given an explicit one.
+     */
+    private static final RoundingMode DEFAULT_ROUNDING_MODE = RoundingMode.HALF_EVEN;
+
+    /**
+     * Absolute internal numbers up to this value are exactly representable as <code>double</code>.
+     */
+    private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
     /**
      * the {@link MonetaryContext} used by this instance, e.g. on division.
      */
@@ -289,7 +306,10 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
         Objects.requireNonNull(o);
         int compare = getCurrency().getCurrencyCode().compareTo(o.getCurrency().getCurrencyCode());
         if (compare == 0) {
-            compare = getNumber().numberValue(BigDecimal.class).compareTo(o.getNumber().numberValue(BigDecimal.class));
+            if (o instanceof FastMoney) {
+                return Long.compare(this.number, ((FastMoney) o).number);
+            }
+            compare = getBigDecimal().compareTo(o.getNumber().numberValue(BigDecimal.class));
         }
         return compare;
     }
@@ -306,7 +326,7 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
         }
         if (obj instanceof FastMoney) {
             FastMoney other = (FastMoney) obj;
-            return Objects.equals(currency, other.currency) && Objects.equals(number, other.number);
+            return number == other.number && Objects.equals(currency, other.currency);
         }
         return false;
     }
@@ -323,6 +343,13 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
     @Override
     public FastMoney add(MonetaryAmount amount) {
         checkAmountParameter(amount);
+        if (amount instanceof FastMoney) {
+            long other = ((FastMoney) amount).number;
+            if (other == 0L) {
+                return this;
+            }
+            return new FastMoney(Math.addExact(this.number, other), getCurrency());
+        }
         if (amount.isZero()) {
             return this;
         }
@@ -331,6 +358,10 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
 
     private void checkAmountParameter(MonetaryAmount amount) {
         MoneyUtils.checkAmountParameter(amount, this.currency);
+        if (amount instanceof FastMoney) {
+            // same scale and precision by definition
+            return;
+        }
         // numeric check for overflow...
         if (amount.getNumber().getScale() > SCALE) {
             throw new ArithmeticException("Parameter exceeds maximal scale: " + SCALE);
@@ -341,16 +372,56 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
     }
 
 
+    /**
+     * Returns a {@code FastMoney} whose value is {@code this / divisor}. Integral and decimal divisors are
+     * divided exactly, rounding {@link RoundingMode#HALF_EVEN}, see {@link #divide(Number, RoundingMode)}.
+     * {@link Double} and {@link Float} divisors are divided as by {@link #divide(double)}, rounding half up
+     * as in previous versions.
+     *
+     * @param divisor value by which this {@code FastMoney} is to be divided, not null.
+     * @return {@code this / divisor}, rounded as necessary.
+     * @throws ArithmeticException if the divisor is zero or the result exceeds the numeric capabilities of this
+     *                             class.
+     */
     @Override
     public FastMoney divide(Number divisor) {
+        if (divisor instanceof Double || divisor instanceof Float) {
+            if (!NumberVerifier.isInfinityAndNotNaN(divisor)) {
+                checkNumber(divisor);
+            }
+            return divide(divisor.doubleValue());
+        }
+        return divide(divisor, DEFAULT_ROUNDING_MODE);
+    }
+
+    /**
+     * Returns a {@code FastMoney} whose value is {@code this / divisor}. The quotient is calculated exactly
+     * on the internal long representation and rounded once to the scale of this class, using the given
+     * rounding mode. Only divisors not representable as a long with at most 18 fraction digits are
+     * divided using {@link BigDecimal}.
+     *
+     * @param divisor      value by which this {@code FastMoney} is to be divided, not null.
+     * @param roundingMode the rounding mode to be applied, not null.
+     * @return {@code this / divisor}, rounded as necessary.
+     * @throws ArithmeticException if the divisor is zero, the result exceeds the numeric capabilities of
+     *                             this class or {@link RoundingMode#UNNECESSARY} is passed and rounding is
+     *                             required.
+     */
+    public FastMoney divide(Number divisor, RoundingMode roundingMode) {
+        Objects.requireNonNull(roundingMode, "RoundingMode is required.");
         if (NumberVerifier.isInfinityAndNotNaN(divisor)) {
             return new FastMoney(0L, getCurrency());
         }
         checkNumber(divisor);
-        if (isOne(divisor)) {
-            return this;
+        if (isIntegral(divisor)) {
+            return divide(divisor.longValue(), roundingMode);
+        }
+        BigDecimal div = getScaledDecimal(divisor);
+        if (!isLongScaled(div)) {
+            return new FastMoney(getBigDecimal().divide(div, SCALE, roundingMode), getCurrency(), false);
         }
-        return new FastMoney(Math.round(this.number / divisor.doubleValue()), getCurrency());
+        return new FastMoney(FastMoneyMath.multiplyAndDivide(this.number, FastMoneyMath.powerOfTen(div.scale()),
+                div.unscaledValue().longValue(), roundingMode), getCurrency());
     }
 
     @Override
@@ -380,13 +451,66 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
 
     @Override
     public FastMoney multiply(Number multiplicand) {
+        return multiply(multiplicand, DEFAULT_ROUNDING_MODE);
+    }
+
+    /**
+     * Returns a {@code FastMoney} whose value is {@code this * multiplicand}. The product is calculated
+     * exactly on the internal long representation, using a 128 bit intermediate result, and rounded once
+     * to the scale of this class, using the given rounding mode. Only multiplicands not representable as
+     * a long with at most 18 fraction digits are multiplied using {@link BigDecimal}.
+     *
+     * @param multiplicand value to be multiplied by this {@code FastMoney}, not null.
+     * @param roundingMode the rounding mode to be applied, not null.
+     * @return {@code this * multiplicand}, rounded as necessary.
+     * @throws ArithmeticException if the result exceeds the numeric capabilities of this class or
+     *                             {@link RoundingMode#UNNECESSARY} is passed and rounding is required.
+     */
+    public FastMoney multiply(Number multiplicand, RoundingMode roundingMode) {
+        Objects.requireNonNull(roundingMode, "RoundingMode is required.");
     	NumberVerifier.checkNoInfinityOrNaN(multiplicand);
         checkNumber(multiplicand);
-        if (isOne(multiplicand)) {
+        if (isIntegral(multiplicand)) {
+            return multiply(multiplicand.longValue());
+        }
+        BigDecimal mult = getScaledDecimal(multiplicand);
+        if (!isLongScaled(mult)) {
+            return new FastMoney(getBigDecimal().multiply(mult).setScale(SCALE, roundingMode), getCurrency(), false);
+        }
+        long unscaled = mult.unscaledValue().longValue();
+        if (unscaled == 1L && mult.scale() == 0) {
             return this;
         }
-        return new FastMoney(Math.multiplyExact(this.number, getInternalNumber(multiplicand, false)) / 100000L,
-                getCurrency());
+        return new FastMoney(FastMoneyMath.multiplyAndDivide(this.number, unscaled,
+                FastMoneyMath.powerOfTen(mult.scale()), roundingMode), getCurrency());
+    }
+
+    /**
+     * Checks if the given number is one of the integral {@link Number} types, whose value is fully
+     * represented by {@link Number#longValue()}.
+     */
+    private static boolean isIntegral(Number number) {
+        return number instanceof Long || number instanceof Integer || number instanceof Short
+                || number instanceof Byte;
+    }
+
+    /**
+     * Converts the given number to a {@link BigDecimal} with a non negative scale.
+     */
+    private static BigDecimal getScaledDecimal(Number number) {
+        BigDecimal bd = MoneyUtils.getBigDecimal(number);
+        if (bd.scale() < 0) {
+            return bd.setScale(0);
+        }
+        return bd;
+    }
+
+    /**
+     * Checks if the unscaled value of the given decimal fits into a long and its scale can be applied
+     * as a long power of ten, so it can be used with {@link FastMoneyMath}.
+     */
+    private static boolean isLongScaled(BigDecimal bd) {
+        return bd.precision() <= 18 && FastMoneyMath.isPowerOfTenSupported(bd.scale());
     }
 
     @Override
@@ -402,6 +526,13 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
     @Override
     public FastMoney subtract(MonetaryAmount subtrahend) {
         checkAmountParameter(subtrahend);
+        if (subtrahend instanceof FastMoney) {
+            long other = ((FastMoney) subtrahend).number;
+            if (other == 0L) {
+                return this;
+            }
+            return new FastMoney(Math.subtractExact(this.number, other), getCurrency());
+        }
         if (subtrahend.isZero()) {
             return this;
         }
@@ -428,7 +559,19 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
 
     @Override
     public FastMoney scaleByPowerOfTen(int power) {
-        return new FastMoney(getNumber().numberValue(BigDecimal.class).scaleByPowerOfTen(power), getCurrency(), true);
+        if (power == 0 || this.number == 0L) {
+            return this;
+        }
+        if (power > 0) {
+            if (!FastMoneyMath.isPowerOfTenSupported(power)) {
+                throw new ArithmeticException("Overflow: " + this + " * 10^" + power);
+            }
+            return new FastMoney(Math.multiplyExact(this.number, FastMoneyMath.powerOfTen(power)), getCurrency());
+        }
+        if (!FastMoneyMath.isPowerOfTenSupported(-power)) {
+            return new FastMoney(0L, getCurrency());
+        }
+        return new FastMoney(this.number / FastMoneyMath.powerOfTen(-power), getCurrency());
     }
 
     @Override
@@ -477,8 +620,7 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
 
     @Override
     public boolean isLessThan(MonetaryAmount amount) {
-        checkAmountParameter(amount);
-        return getBigDecimal().compareTo(amount.getNumber().numberValue(BigDecimal.class)) < 0;
+        return compareNumber(amount) < 0;
     }
 
     public boolean isLessThan(Number number) {
@@ -488,8 +630,7 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
 
     @Override
     public boolean isLessThanOrEqualTo(MonetaryAmount amount) {
-        checkAmountParameter(amount);
-        return getBigDecimal().compareTo(amount.getNumber().numberValue(BigDecimal.class)) <= 0;
+        return compareNumber(amount) <= 0;
     }
 
     public boolean isLessThanOrEqualTo(Number number) {
@@ -500,8 +641,7 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
 
     @Override
     public boolean isGreaterThan(MonetaryAmount amount) {
-        checkAmountParameter(amount);
-        return getBigDecimal().compareTo(amount.getNumber().numberValue(BigDecimal.class)) > 0;
+        return compareNumber(amount) > 0;
     }
 
     public boolean isGreaterThan(Number number) {
@@ -511,8 +651,7 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
 
     @Override
     public boolean isGreaterThanOrEqualTo(MonetaryAmount amount) {
-        checkAmountParameter(amount);
-        return getBigDecimal().compareTo(amount.getNumber().numberValue(BigDecimal.class)) >= 0;
+        return compareNumber(amount) >= 0;
     }
 
     public boolean isGreaterThanOrEqualTo(Number number) {
@@ -522,8 +661,24 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
 
     @Override
     public boolean isEqualTo(MonetaryAmount amount) {
+        return compareNumber(amount) == 0;
+    }
+
+    /**
+     * Compares the numeric values of this instance and the given amount, after checking the amount
+     * being compatible. {@link FastMoney} instances are compared directly on their internal long
+     * representation, without any {@link BigDecimal} conversion.
+     *
+     * @param amount the amount to compare with, not null.
+     * @return a negative number, zero or a positive number as this amount is less than, equal to or
+     * greater than the given amount.
+     */
+    private int compareNumber(MonetaryAmount amount) {
         checkAmountParameter(amount);
-        return getBigDecimal().compareTo(amount.getNumber().numberValue(BigDecimal.class)) == 0;
+        if (amount instanceof FastMoney) {
+            return Long.compare(this.number, ((FastMoney) amount).number);
+        }
+        return getBigDecimal().compareTo(amount.getNumber().numberValue(BigDecimal.class));
     }
 
     public boolean hasSameNumberAs(Number number) {
@@ -646,6 +801,30 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
         return BigDecimal.valueOf(this.number).movePointLeft(SCALE);
     }
 
+    /**
+     * Access the internal numeric representation, which is the amount multiplied by {@code 10^5}, e.g. for
+     * formatting the amount without creating a {@link BigDecimal}.
+     *
+     * @return the scaled long value of this amount.
+     * @since 1.2
+     */
+    public long getScaledNumber() {
+        return this.number;
+    }
+
+    /**
+     * Creates a new instance from an internal numeric representation as returned by
+     * {@link #getScaledNumber()}, without any further conversion or checks.
+     *
+     * @param scaledNumber the amount multiplied by {@code 10^5}.
+     * @param currency     the currency, not null.
+     * @return A new instance of {@link FastMoney}.
+     * @since 1.2
+     */
+    public static FastMoney ofScaled(long scaledNumber, CurrencyUnit currency) {
+        return new FastMoney(scaledNumber, currency);
+    }
+
     @Override
     public FastMoney multiply(double multiplicand) {
     	NumberVerifier.checkNoInfinityOrNaN(multiplicand);
@@ -655,15 +834,35 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
         if (multiplicand == 0.0) {
             return new FastMoney(0, this.currency);
         }
+        if (Math.abs(this.number) > MAX_EXACT_DOUBLE) {
+            // the internal number would lose precision as double, rounding half up like Math.round
+            return multiply(BigDecimal.valueOf(multiplicand), RoundingMode.HALF_UP);
+        }
         return new FastMoney(Math.round(this.number * multiplicand), this.currency);
     }
 
     @Override
     public FastMoney divide(long divisor) {
+        return divide(divisor, DEFAULT_ROUNDING_MODE);
+    }
+
+    /**
+     * Returns a {@code FastMoney} whose value is {@code this / divisor}, calculated exactly on the internal
+     * long representation and rounded once to the scale of this class, using the given rounding mode.
+     *
+     * @param divisor      value by which this {@code FastMoney} is to be divided.
+     * @param roundingMode the rounding mode to be applied, not null.
+     * @return {@code this / divisor}, rounded as necessary.
+     * @throws ArithmeticException if the divisor is zero, the result exceeds the numeric capabilities of
+     *                             this class or {@link RoundingMode#UNNECESSARY} is passed and rounding is
+     *                             required.
+     */
+    public FastMoney divide(long divisor, RoundingMode roundingMode) {
         if (divisor == 1L) {
+            Objects.requireNonNull(roundingMode, "RoundingMode is required.");
             return this;
         }
-        return new FastMoney(this.number / divisor, this.currency);
+        return new FastMoney(FastMoneyMath.divide(this.number, divisor, roundingMode), this.currency);
     }
 
     @Override
@@ -671,9 +870,17 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
         if (NumberVerifier.isInfinityAndNotNaN(divisor)) {
             return new FastMoney(0L, getCurrency());
         }
+        NumberVerifier.checkNoInfinityOrNaN(divisor);
         if (divisor == 1.0d) {
             return this;
         }
+        if (divisor == 0.0d) {
+            throw new ArithmeticException("Division by zero");
+        }
+        if (Math.abs(this.number) > MAX_EXACT_DOUBLE) {
+            // the internal number would lose precision as double, rounding half up like Math.round
+            return divide(BigDecimal.valueOf(divisor), RoundingMode.HALF_UP);
+        }
         return new FastMoney(Math.round(this.number / divisor), getCurrency());
     }
 
@@ -692,7 +899,20 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
 
     @Override
     public FastMoney[] divideAndRemainder(long divisor) {
-        return divideAndRemainder(BigDecimal.valueOf(divisor));
+        long integral = integralQuotient(divisor);
+        return new FastMoney[]{new FastMoney(integral, getCurrency()),
+                new FastMoney(this.number - integral * divisor, getCurrency())};
+    }
+
+    /**
+     * Calculates the internal number of the integer part of {@code this / divisor}, truncated towards
+     * zero, without leaving the long representation.
+     *
+     * @param divisor the divisor.
+     * @return the integral quotient, multiplied by {@code 10^SCALE}.
+     */
+    private long integralQuotient(long divisor) {
+        return FastMoneyMath.divide(this.number, divisor, RoundingMode.DOWN) / SCALE_FACTOR * SCALE_FACTOR;
     }
 
     @Override
@@ -724,10 +944,7 @@ public final class FastMoney implements MonetaryAmount, Comparable<MonetaryAmoun
 
     @Override
     public FastMoney divideToIntegralValue(long divisor) {
-        if (divisor == 1) {
-            return this;
-        }
-        return divideToIntegralValue(MoneyUtils.getBigDecimal(divisor));
+        return new FastMoney(integralQuotient(divisor), getCurrency());
     }
 
     @Override
@@ -0,0 +1,199 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta;
+
+import org.javamoney.moneta.spi.MoneyUtils;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+import javax.money.MonetaryException;
+
+import java.util.Objects;
+
+/**
+ * Mutable accumulator for summing up amounts of a single currency based on the internal <code>long</code>
+ * representation of {@link FastMoney}. Adding a {@link FastMoney} works directly on the scaled long value
+ * using {@link Math#addExact(long, long)}, so no intermediate amounts are created. A {@link FastMoney} is
+ * only built, when {@link #toFastMoney()} is called:
+ * <pre><code>
+ * FastMoneyAccumulator total = FastMoneyAccumulator.of(euro);
+ * for (FastMoney line : ledger) {
+ *     total.add(line);
+ * }
+ * FastMoney result = total.toFastMoney();
+ * </code></pre>
+ * Other {@link MonetaryAmount} implementations are accepted as well, but must be representable as
+ * {@link FastMoney}, meaning they are converted using the same rules as {@link FastMoney#from(MonetaryAmount)}.
+ * <p>
+ * This class is not thread-safe, use one instance per thread and {@link #merge(FastMoneyAccumulator)}
+ * the partial results.
+ * </p>
+ */
+public final class FastMoneyAccumulator {
+
+    /**
+     * The currency of all amounts accumulated.
+     */
+    private final CurrencyUnit currency;
+
+    /**
+     * The current sum, scaled as {@link FastMoney}'s internal number.
+     */
+    private long sum;
+
+    /**
+     * The number of amounts added or subtracted.
+     */
+    private long count;
+
+    private FastMoneyAccumulator(CurrencyUnit currency) {
+        this.currency = Objects.requireNonNull(currency, "Currency is required.");
+    }
+
+    /**
+     * Creates a new accumulator with a sum of zero.
+     *
+     * @param currency the currency of the amounts to be accumulated, not null.
+     * @return a new accumulator instance.
+     */
+    public static FastMoneyAccumulator of(CurrencyUnit currency) {
+        return new FastMoneyAccumulator(currency);
+    }
+
+    /**
+     * Adds the given amount to the current sum.
+     *
+     * @param amount the amount, not null.
+     * @return this instance, for chaining.
+     * @throws MonetaryException if the amount's currency does not match.
+     * @throws ArithmeticException           if the amount can not be represented as {@link FastMoney}, or the
+     *                                       sum overflows.
+     */
+    public FastMoneyAccumulator add(MonetaryAmount amount) {
+        sum = Math.addExact(sum, getScaledNumber(amount));
+        count++;
+        return this;
+    }
+
+    /**
+     * Subtracts the given amount from the current sum.
+     *
+     * @param amount the amount, not null.
+     * @return this instance, for chaining.
+     * @throws MonetaryException if the amount's currency does not match.
+     * @throws ArithmeticException           if the amount can not be represented as {@link FastMoney}, or the
+     *                                       sum overflows.
+     */
+    public FastMoneyAccumulator subtract(MonetaryAmount amount) {
+        sum = Math.subtractExact(sum, getScaledNumber(amount));
+        count++;
+        return this;
+    }
+
+    /**
+     * Adds all the given amounts to the current sum.
+     *
+     * @param amounts the amounts, not null.
+     * @return this instance, for chaining.
+     * @see #add(MonetaryAmount)
+     */
+    public FastMoneyAccumulator addAll(Iterable<? extends MonetaryAmount> amounts) {
+        Objects.requireNonNull(amounts);
+        for (MonetaryAmount amount : amounts) {
+            add(amount);
+        }
+        return this;
+    }
+
+    /**
+     * Adds the current sum of another accumulator to this instance, e.g. when combining partial sums
+     * calculated in parallel.
+     *
+     * @param other the other accumulator, not null.
+     * @return this instance, for chaining.
+     * @throws MonetaryException if the currencies do not match.
+     */
+    public FastMoneyAccumulator merge(FastMoneyAccumulator other) {
+        Objects.requireNonNull(other);
+        if (!currency.getCurrencyCode().equals(other.currency.getCurrencyCode())) {
+            throw new MonetaryException("Currency mismatch: " + currency + '/' + other.currency);
+        }
+        sum = Math.addExact(sum, other.sum);
+        count += other.count;
+        return this;
+    }
+
+    /**
+     * Resets the sum to zero.
+     *
+     * @return this instance, for chaining.
+     */
+    public FastMoneyAccumulator reset() {
+        sum = 0L;
+        count = 0L;
+        return this;
+    }
+
+    /**
+     * Access the currency of this accumulator.
+     *
+     * @return the currency, never null.
+     */
+    public CurrencyUnit getCurrency() {
+        return currency;
+    }
+
+    /**
+     * Access the number of amounts added or subtracted since creation or the last {@link #reset()}.
+     *
+     * @return the number of amounts accumulated.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Checks if the current sum is zero.
+     *
+     * @return true, if the current sum is zero.
+     */
+    public boolean isZero() {
+        return sum == 0L;
+    }
+
+    /**
+     * Creates a {@link FastMoney} representing the current sum.
+     *
+     * @return the current sum, never null.
+     */
+    public FastMoney toFastMoney() {
+        return FastMoney.ofScaled(sum, currency);
+    }
+
+    private long getScaledNumber(MonetaryAmount amount) {
+        MoneyUtils.checkAmountParameter(amount, this.currency);
+        if (amount instanceof FastMoney) {
+            return ((FastMoney) amount).getScaledNumber();
+        }
+        return FastMoney.from(amount).getScaledNumber();
+    }
+
+    @Override
+    public String toString() {
+        return "FastMoneyAccumulator [currency=" + currency + ", sum=" + toFastMoney().getNumber() + ", count="
+                + count + ']';
+    }
+}
@@ -0,0 +1,191 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.format;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import javax.money.format.MonetaryAmountFormat;
+
+/**
+ * {@link Appendable}, which encodes the characters appended as UTF-8 directly into a {@link ByteBuffer}, so
+ * amounts can be printed into byte oriented output, e.g. JSON or CSV exports, without creating intermediate
+ * {@link String}s:
+ * <pre><code>
+ * ByteBuffer out = ByteBuffer.allocateDirect(64 * 1024);
+ * ByteBufferAppendable appendable = ByteBufferAppendable.of(out);
+ * for (MonetaryAmount amount : amounts) {
+ *     format.print(appendable, amount);
+ *     appendable.append('\n');
+ * }
+ * appendable.flush();
+ * </code></pre>
+ * ASCII characters are written as single bytes. Surrogate pairs may be appended in separate calls, a
+ * surrogate, that is not part of a pair, is written as {@code '?'} when the next character is appended,
+ * or on {@link #flush()}. As with {@link java.nio.CharBuffer}, which can be passed to
+ * {@link MonetaryAmountFormat#print(Appendable, javax.money.MonetaryAmount)} directly, a
+ * {@link BufferOverflowException} is thrown, if the buffer has not enough space left. In this case nothing
+ * of the character is written, so it can be appended again after the buffer was drained.
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ *
+ * @since 1.2
+ */
+public final class ByteBufferAppendable implements Appendable {
+
+    /**
+     * The target buffer.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * A high surrogate appended, waiting for its low surrogate, or 0.
+     */
+    private char highSurrogate;
+
+    private ByteBufferAppendable(ByteBuffer buffer) {
+        this.buffer = Objects.requireNonNull(buffer, "Buffer required.");
+    }
+
+    /**
+     * Creates a new instance, writing to the given buffer, starting at its current position.
+     *
+     * @param buffer the target buffer, not null.
+     * @return a new instance.
+     */
+    public static ByteBufferAppendable of(ByteBuffer buffer) {
+        return new ByteBufferAppendable(buffer);
+    }
+
+    /**
+     * Access the target buffer.
+     *
+     * @return the buffer, never null.
+     */
+    public ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    @Override
+    public ByteBufferAppendable append(CharSequence csq) {
+        CharSequence chars = Objects.isNull(csq) ? "null" : csq;
+        return append(chars, 0, chars.length());
+    }
+
+    @Override
+    public ByteBufferAppendable append(CharSequence csq, int start, int end) {
+        CharSequence chars = Objects.isNull(csq) ? "null" : csq;
+        if (start < 0 || start > end || end > chars.length()) {
+            throw new IndexOutOfBoundsException("start=" + start + ", end=" + end + ", length=" + chars.length());
+        }
+        for (int i = start; i < end; i++) {
+            append(chars.charAt(i));
+        }
+        return this;
+    }
+
+    @Override
+    public ByteBufferAppendable append(char c) {
+        if (highSurrogate != 0) {
+            if (Character.isLowSurrogate(c)) {
+                ensureRemaining(4);
+                int codePoint = Character.toCodePoint(highSurrogate, c);
+                highSurrogate = 0;
+                buffer.put((byte) (0xF0 | codePoint >> 18));
+                buffer.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                buffer.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                buffer.put((byte) (0x80 | codePoint & 0x3F));
+                return this;
+            }
+            // the replacement and the character must both fit, so an overflow keeps the surrogate pending
+            ensureRemaining(1 + encodedLength(c));
+            highSurrogate = 0;
+            put('?');
+        }
+        if (c < 0x80) {
+            put(c);
+        } else if (c < 0x800) {
+            ensureRemaining(2);
+            buffer.put((byte) (0xC0 | c >> 6));
+            buffer.put((byte) (0x80 | c & 0x3F));
+        } else if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            put('?');
+        } else {
+            ensureRemaining(3);
+            buffer.put((byte) (0xE0 | c >> 12));
+            buffer.put((byte) (0x80 | c >> 6 & 0x3F));
+            buffer.put((byte) (0x80 | c & 0x3F));
+        }
+        return this;
+    }
+
+    /**
+     * Writes a high surrogate appended last, that is still waiting for its low surrogate, as {@code '?'}. A
+     * trailing unpaired surrogate is not written otherwise, so this method should be called after the last
+     * character was appended.
+     *
+     * @return this instance, for chaining.
+     * @throws BufferOverflowException if the buffer has no space left.
+     */
+    public ByteBufferAppendable flush() {
+        if (highSurrogate != 0) {
+            ensureRemaining(1);
+            highSurrogate = 0;
+            put('?');
+        }
+        return this;
+    }
+
+    private void put(char ascii) {
+        buffer.put((byte) ascii);
+    }
+
+    /**
+     * Evaluates the number of bytes written for a character, not preceded by a high surrogate.
+     *
+     * @param c the character.
+     * @return the number of bytes, 0 for a high surrogate, which is written along with its low surrogate.
+     */
+    private static int encodedLength(char c) {
+        if (c < 0x80 || Character.isLowSurrogate(c)) {
+            return 1;
+        }
+        if (c < 0x800) {
+            return 2;
+        }
+        return Character.isHighSurrogate(c) ? 0 : 3;
+    }
+
+    /**
+     * Checks the space left before writing a multi byte character, so a character is never written partially.
+     *
+     * @param bytes the number of bytes to be written.
+     */
+    private void ensureRemaining(int bytes) {
+        if (buffer.remaining() < bytes) {
+            throw new BufferOverflowException();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ByteBufferAppendable [buffer=" + buffer + ']';
+    }
+}
@@ -0,0 +1,202 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.function;
+
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+
+/**
+ * Thread-safe {@link MonetarySummaryStatistics} for amounts accepted by many threads at once. Like
+ * {@link java.util.concurrent.atomic.LongAdder} the state is striped: every thread accumulates into one of
+ * several cells, selected by its thread id, so threads usually do not contend for the same lock. Each cell
+ * is a {@link FastMonetarySummaryStatistics} guarded by its own lock.
+ * <p>
+ * Reading a value combines all cells into a {@link #snapshot()}. All cells are locked, while the snapshot
+ * is taken, so it is consistent: it reflects each amount accepted before completely or not at all. Since
+ * every getter takes its own snapshot, use {@link #snapshot()} to read several values consistently:
+ * </p>
+ * <pre><code>
+ * ConcurrentMonetarySummaryStatistics totals = ConcurrentMonetarySummaryStatistics.of(euro);
+ * // any number of threads
+ * totals.accept(trade.getAmount());
+ * // reporting thread
+ * MonetarySummaryStatistics current = totals.snapshot();
+ * </code></pre>
+ *
+ * @since 1.2
+ */
+public final class ConcurrentMonetarySummaryStatistics implements MonetarySummaryStatistics {
+
+    private final CurrencyUnit currency;
+
+    private final Cell[] cells;
+
+    private ConcurrentMonetarySummaryStatistics(CurrencyUnit currency, int stripes) {
+        this.currency = Objects.requireNonNull(currency);
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("stripes must be greater than zero: " + stripes);
+        }
+        int size = Integer.highestOneBit(stripes);
+        if (size < stripes) {
+            size <<= 1;
+        }
+        this.cells = new Cell[size];
+        for (int i = 0; i < size; i++) {
+            cells[i] = new Cell(currency);
+        }
+    }
+
+    /**
+     * Creates a new instance with one stripe per available processor.
+     *
+     * @param currencyUnit the currency, not null.
+     * @return the new instance.
+     */
+    public static ConcurrentMonetarySummaryStatistics of(CurrencyUnit currencyUnit) {
+        return of(currencyUnit, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param currencyUnit the currency, not null.
+     * @param stripes      the number of stripes, rounded up to the next power of two, greater than zero.
+     * @return the new instance.
+     */
+    public static ConcurrentMonetarySummaryStatistics of(CurrencyUnit currencyUnit, int stripes) {
+        return new ConcurrentMonetarySummaryStatistics(currencyUnit, stripes);
+    }
+
+    private Cell cell() {
+        long id = Thread.currentThread().getId();
+        return cells[(int) (id ^ (id >>> 32)) & (cells.length - 1)];
+    }
+
+    @Override
+    public void accept(MonetaryAmount amount) {
+        if (!currency.equals(Objects.requireNonNull(amount).getCurrency())) {
+            return;
+        }
+        Cell cell = cell();
+        cell.lock.lock();
+        try {
+            cell.statistics.accept(amount);
+        } finally {
+            cell.lock.unlock();
+        }
+    }
+
+    @Override
+    public MonetarySummaryStatistics combine(MonetarySummaryStatistics summaryStatistics) {
+        Objects.requireNonNull(summaryStatistics);
+        if (summaryStatistics == this) {
+            return this;
+        }
+        if (summaryStatistics instanceof ConcurrentMonetarySummaryStatistics) {
+            summaryStatistics = ((ConcurrentMonetarySummaryStatistics) summaryStatistics).snapshot();
+        }
+        Cell cell = cell();
+        cell.lock.lock();
+        try {
+            cell.statistics.combine(summaryStatistics);
+        } finally {
+            cell.lock.unlock();
+        }
+        return this;
+    }
+
+    /**
+     * Creates a consistent copy of the current state.
+     *
+     * @return the statistics of all amounts accepted so far, not thread-safe.
+     */
+    public FastMonetarySummaryStatistics snapshot() {
+        FastMonetarySummaryStatistics snapshot = FastMonetarySummaryStatistics.of(currency);
+        for (Cell cell : cells) {
+            cell.lock.lock();
+        }
+        try {
+            for (Cell cell : cells) {
+                snapshot.combine(cell.statistics);
+            }
+        } finally {
+            for (Cell cell : cells) {
+                cell.lock.unlock();
+            }
+        }
+        return snapshot;
+    }
+
+    @Override
+    public long getCount() {
+        return snapshot().getCount();
+    }
+
+    @Override
+    public MonetaryAmount getMin() {
+        return snapshot().getMin();
+    }
+
+    @Override
+    public MonetaryAmount getMax() {
+        return snapshot().getMax();
+    }
+
+    @Override
+    public MonetaryAmount getSum() {
+        return snapshot().getSum();
+    }
+
+    @Override
+    public MonetaryAmount getAverage() {
+        return snapshot().getAverage();
+    }
+
+    @Override
+    public CurrencyUnit getCurrencyUnit() {
+        return currency;
+    }
+
+    @Override
+    public boolean isExchangeable() {
+        return false;
+    }
+
+    @Override
+    public MonetarySummaryStatistics to(CurrencyUnit unit) {
+        throw new UnsupportedOperationException(
+                "the concurrent implementation of MonetarySummaryStatistics cannot do exchange rate");
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrentMonetarySummaryStatistics [stripes: " + cells.length + ", " + snapshot() + ']';
+    }
+
+    private static final class Cell {
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private final FastMonetarySummaryStatistics statistics;
+
+        Cell(CurrencyUnit currency) {
+            this.statistics = FastMonetarySummaryStatistics.of(currency);
+        }
+    }
+}
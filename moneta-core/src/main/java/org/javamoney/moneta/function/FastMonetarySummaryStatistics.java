@@ -0,0 +1,222 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.function;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+import javax.money.MonetaryAmountFactory;
+
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.FastMoneyAccumulator;
+import org.javamoney.moneta.Money;
+
+/**
+ * {@link MonetarySummaryStatistics} for high volumes of amounts. Unlike
+ * {@link DefaultMonetarySummaryStatistics}, which creates new amounts for the sum and average on every
+ * {@link #accept(MonetaryAmount)}, this implementation keeps primitive accumulators: {@link FastMoney}
+ * amounts are summed up on their scaled <code>long</code> value by a {@link FastMoneyAccumulator}, whereas
+ * other amounts, or sums exceeding the capabilities of {@link FastMoney}, are added exactly as
+ * {@link BigDecimal}. Minimum and maximum are kept as references to the amounts accepted. Sum and average
+ * are only created, when accessed.
+ * <p>
+ * Instances are cheap to {@link #combine(MonetarySummaryStatistics)}, so they are suited for
+ * {@link java.util.stream.Stream#parallel() parallel streams}, see
+ * {@link MonetaryFunctions#summarizingMonetaryParallel(CurrencyUnit)}. Amounts of other currencies are
+ * ignored. This class is not thread-safe.
+ * </p>
+ *
+ * @since 1.2
+ */
+public final class FastMonetarySummaryStatistics implements MonetarySummaryStatistics {
+
+    private final CurrencyUnit currency;
+
+    /**
+     * The sum of the {@link FastMoney} amounts.
+     */
+    private final FastMoneyAccumulator fastSum;
+
+    /**
+     * The sum of all other amounts, null, if there are none.
+     */
+    private BigDecimal decimalSum;
+
+    /**
+     * The first amount accepted, which is not a {@link FastMoney}, used to create the sum, if
+     * {@link #decimalSum} is used.
+     */
+    private MonetaryAmount decimalTemplate;
+
+    private long count;
+
+    private MonetaryAmount min;
+
+    private MonetaryAmount max;
+
+    private FastMonetarySummaryStatistics(CurrencyUnit currency) {
+        this.currency = Objects.requireNonNull(currency);
+        this.fastSum = FastMoneyAccumulator.of(currency);
+    }
+
+    /**
+     * Creates a new instance, summarizing the amounts of the given currency.
+     *
+     * @param currencyUnit the currency, not null.
+     * @return the new instance.
+     */
+    public static FastMonetarySummaryStatistics of(CurrencyUnit currencyUnit) {
+        return new FastMonetarySummaryStatistics(currencyUnit);
+    }
+
+    @Override
+    public void accept(MonetaryAmount amount) {
+        if (!currency.equals(Objects.requireNonNull(amount).getCurrency())) {
+            return;
+        }
+        if (amount instanceof FastMoney) {
+            try {
+                fastSum.add(amount);
+            } catch (ArithmeticException e) {
+                addDecimal(amount.getNumber().numberValue(BigDecimal.class));
+            }
+        } else {
+            if (Objects.isNull(decimalTemplate)) {
+                decimalTemplate = amount;
+            }
+            addDecimal(amount.getNumber().numberValue(BigDecimal.class));
+        }
+        if (count++ == 0) {
+            min = amount;
+            max = amount;
+        } else {
+            if (amount.isLessThan(min)) {
+                min = amount;
+            }
+            if (amount.isGreaterThan(max)) {
+                max = amount;
+            }
+        }
+    }
+
+    private void addDecimal(BigDecimal number) {
+        decimalSum = Objects.isNull(decimalSum) ? number : decimalSum.add(number);
+    }
+
+    @Override
+    public MonetarySummaryStatistics combine(MonetarySummaryStatistics summaryStatistics) {
+        Objects.requireNonNull(summaryStatistics);
+        if (summaryStatistics == this || summaryStatistics.getCount() == 0
+                || !currency.equals(summaryStatistics.getCurrencyUnit())) {
+            return this;
+        }
+        if (summaryStatistics instanceof FastMonetarySummaryStatistics) {
+            FastMonetarySummaryStatistics other = (FastMonetarySummaryStatistics) summaryStatistics;
+            try {
+                fastSum.merge(other.fastSum);
+            } catch (ArithmeticException e) {
+                addDecimal(other.fastSum.toFastMoney().getNumber().numberValue(BigDecimal.class));
+            }
+            if (Objects.nonNull(other.decimalSum)) {
+                addDecimal(other.decimalSum);
+            }
+            if (Objects.isNull(decimalTemplate)) {
+                decimalTemplate = other.decimalTemplate;
+            }
+        } else {
+            MonetaryAmount otherSum = summaryStatistics.getSum();
+            if (Objects.isNull(decimalTemplate) && !(otherSum instanceof FastMoney)) {
+                decimalTemplate = otherSum;
+            }
+            addDecimal(otherSum.getNumber().numberValue(BigDecimal.class));
+        }
+        if (count == 0) {
+            min = summaryStatistics.getMin();
+            max = summaryStatistics.getMax();
+        } else {
+            min = MonetaryFunctions.min(min, summaryStatistics.getMin());
+            max = MonetaryFunctions.max(max, summaryStatistics.getMax());
+        }
+        count += summaryStatistics.getCount();
+        return this;
+    }
+
+    @Override
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public MonetaryAmount getMin() {
+        return count == 0 ? FastMoney.zero(currency) : min;
+    }
+
+    @Override
+    public MonetaryAmount getMax() {
+        return count == 0 ? FastMoney.zero(currency) : max;
+    }
+
+    /**
+     * Creates the sum of all amounts accepted. The sum is a {@link FastMoney}, if only {@link FastMoney}
+     * amounts were accepted and their sum did not overflow, otherwise it is created by the factory of
+     * the first other amount, or as {@link Money}.
+     *
+     * @return the sum, zero, if no amount was accepted.
+     */
+    @Override
+    public MonetaryAmount getSum() {
+        if (Objects.isNull(decimalSum)) {
+            return fastSum.toFastMoney();
+        }
+        BigDecimal total = decimalSum;
+        if (!fastSum.isZero()) {
+            total = total.add(fastSum.toFastMoney().getNumber().numberValue(BigDecimal.class));
+        }
+        MonetaryAmountFactory<?> factory = Objects.isNull(decimalTemplate) ? Money.zero(currency).getFactory()
+                : decimalTemplate.getFactory();
+        return factory.setNumber(total).create();
+    }
+
+    @Override
+    public MonetaryAmount getAverage() {
+        MonetaryAmount sum = getSum();
+        return count == 0 ? sum : sum.divide(count);
+    }
+
+    @Override
+    public CurrencyUnit getCurrencyUnit() {
+        return currency;
+    }
+
+    @Override
+    public boolean isExchangeable() {
+        return false;
+    }
+
+    @Override
+    public MonetarySummaryStatistics to(CurrencyUnit unit) {
+        throw new UnsupportedOperationException(
+                "the fast implementation of MonetarySummaryStatistics cannot do exchange rate");
+    }
+
+    @Override
+    public String toString() {
+        return "FastMonetarySummaryStatistics [currency: " + currency + ", count:" + count + ", min:" + getMin()
+                + ", max:" + getMax() + ", sum:" + getSum() + ", average:" + getAverage() + ']';
+    }
+}
@@ -16,6 +16,7 @@
 package org.javamoney.moneta.function;
 
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -66,6 +67,33 @@ public final class MonetaryFunctions {
 		return Collector.of(supplier, MonetarySummaryStatistics::accept, MonetarySummaryStatistics::combine);
     }
 
+    /**
+     * Creates the summary of MonetaryAmounts, suited for parallel streams. The statistics are kept in
+     * primitive accumulators, which are cheap to combine, see {@link FastMonetarySummaryStatistics}.
+     * @param currencyUnit the target {@link javax.money.CurrencyUnit}
+     * @return the MonetarySummaryStatistics
+     */
+    public static Collector<MonetaryAmount, MonetarySummaryStatistics, MonetarySummaryStatistics>
+    summarizingMonetaryParallel(CurrencyUnit currencyUnit) {
+        Objects.requireNonNull(currencyUnit);
+        return Collector.of(() -> FastMonetarySummaryStatistics.of(currencyUnit), MonetarySummaryStatistics::accept,
+                MonetarySummaryStatistics::combine, Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Creates the summary of MonetaryAmounts, accumulated concurrently into a single, thread-safe
+     * {@link ConcurrentMonetarySummaryStatistics} instead of combining partial results.
+     * @param currencyUnit the target {@link javax.money.CurrencyUnit}
+     * @return the MonetarySummaryStatistics
+     */
+    public static Collector<MonetaryAmount, MonetarySummaryStatistics, MonetarySummaryStatistics>
+    summarizingMonetaryConcurrent(CurrencyUnit currencyUnit) {
+        Objects.requireNonNull(currencyUnit);
+        return Collector.of(() -> ConcurrentMonetarySummaryStatistics.of(currencyUnit),
+                MonetarySummaryStatistics::accept, MonetarySummaryStatistics::combine,
+                Collector.Characteristics.CONCURRENT, Collector.Characteristics.UNORDERED);
+    }
+
 	/**
 	 * reates a the summary of MonetaryAmounts.
 	 * @param currencyUnit the target {@link javax.money.CurrencyUnit}
@@ -90,6 +118,32 @@ public final class MonetaryFunctions {
                             GroupMonetarySummaryStatistics::combine);
     }
 
+    /**
+     * Creates the summaries of MonetaryAmounts by currency, suited for parallel streams. Unlike
+     * {@link #groupBySummarizingMonetary()}, each currency is summarized by a
+     * {@link FastMonetarySummaryStatistics}, so partial results are cheap to combine. Like the map of
+     * {@link GroupMonetarySummaryStatistics#get()}, the map returned provides an empty summary for
+     * currencies without amounts.
+     * @return the summaries, by currency
+     */
+    public static Collector<MonetaryAmount, ?, Map<CurrencyUnit, MonetarySummaryStatistics>>
+    groupBySummarizingMonetaryParallel() {
+        return Collector.<MonetaryAmount, Map<CurrencyUnit, MonetarySummaryStatistics>,
+                Map<CurrencyUnit, MonetarySummaryStatistics>>of(HashMap::new,
+                (summaries, amount) -> summaries.computeIfAbsent(amount.getCurrency(),
+                        FastMonetarySummaryStatistics::of).accept(amount),
+                (summaries, other) -> {
+                    other.forEach((currency, summary) -> summaries.merge(currency, summary,
+                            MonetarySummaryStatistics::combine));
+                    return summaries;
+                },
+                summaries -> {
+                    Map<CurrencyUnit, MonetarySummaryStatistics> result = new MonetarySummaryMap();
+                    result.putAll(summaries);
+                    return result;
+                }, Collector.Characteristics.UNORDERED);
+    }
+
     /**
      * Get a comparator for sorting CurrencyUnits ascending.
      *
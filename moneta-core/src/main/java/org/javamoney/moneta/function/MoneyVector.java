@@ -0,0 +1,474 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.function;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+import javax.money.convert.CurrencyConversion;
+
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.Money;
+import org.javamoney.moneta.internal.FastMoneyMath;
+import org.javamoney.moneta.spi.MoneyUtils;
+
+/**
+ * Immutable, columnar container for a large number of {@link MonetaryAmount} instances. Instead of one
+ * object per amount, the numeric values are stored in a single <code>long[]</code>, scaled by
+ * {@code 10^5} like the internal representation of {@link FastMoney}, whereas the currencies are
+ * dictionary encoded: every entry only references the index of its currency in a small table of
+ * distinct currencies.
+ * <p>
+ * The kernels {@link #sum(CurrencyUnit)}, {@link #min(CurrencyUnit)}, {@link #max(CurrencyUnit)},
+ * {@link #scale(Number, RoundingMode)}, {@link #convert(CurrencyConversion, RoundingMode)} and
+ * {@link #round(RoundingMode)} operate on the primitive columns directly, using exact <code>long</code>
+ * arithmetic. Amounts are only created, when they are accessed using {@link #get(int)},
+ * {@link #toFastMoneyArray()} or {@link #toMoneyArray()}.
+ * </p>
+ * <pre><code>
+ * MoneyVector positions = MoneyVector.from(amounts);
+ * FastMoney total = positions.convert(MonetaryConversions.getConversion("CHF"), RoundingMode.HALF_EVEN)
+ *                            .sum(chf);
+ * </code></pre>
+ * Values must be representable by {@link FastMoney}, i.e. have a scale of at most 5 and not exceed
+ * {@link FastMoney#MAX_VALUE} or {@link FastMoney#MIN_VALUE}.
+ *
+ * @see FastMoney
+ */
+public final class MoneyVector {
+
+    /**
+     * The scale of the numeric values stored.
+     */
+    private static final int SCALE = 5;
+
+    /**
+     * The scaled numeric values.
+     */
+    private final long[] values;
+
+    /**
+     * The index into {@link #currencies} for each value.
+     */
+    private final int[] currencyIndices;
+
+    /**
+     * The distinct currencies, referenced by {@link #currencyIndices}.
+     */
+    private final CurrencyUnit[] currencies;
+
+    private MoneyVector(long[] values, int[] currencyIndices, CurrencyUnit[] currencies) {
+        this.values = values;
+        this.currencyIndices = currencyIndices;
+        this.currencies = currencies;
+    }
+
+    /**
+     * Creates a new vector containing the given amounts, in the same order.
+     *
+     * @param amounts the amounts, not null and not containing null.
+     * @return a new vector instance.
+     * @throws ArithmeticException if an amount can not be represented as {@link FastMoney}.
+     */
+    public static MoneyVector from(MonetaryAmount... amounts) {
+        return from(Arrays.asList(amounts));
+    }
+
+    /**
+     * Creates a new vector containing the given amounts, in iteration order.
+     *
+     * @param amounts the amounts, not null and not containing null.
+     * @return a new vector instance.
+     * @throws ArithmeticException if an amount can not be represented as {@link FastMoney}.
+     */
+    public static MoneyVector from(Iterable<? extends MonetaryAmount> amounts) {
+        Objects.requireNonNull(amounts, "Amounts required.");
+        List<CurrencyUnit> currencies = new ArrayList<>();
+        Map<CurrencyUnit, Integer> dictionary = new HashMap<>();
+        long[] values = new long[16];
+        int[] currencyIndices = new int[16];
+        int size = 0;
+        for (MonetaryAmount amount : amounts) {
+            Objects.requireNonNull(amount, "Amount required.");
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+                currencyIndices = Arrays.copyOf(currencyIndices, size * 2);
+            }
+            CurrencyUnit currency = amount.getCurrency();
+            Integer index = dictionary.get(currency);
+            if (index == null) {
+                index = currencies.size();
+                currencies.add(currency);
+                dictionary.put(currency, index);
+            }
+            values[size] = toScaledValue(amount);
+            currencyIndices[size] = index;
+            size++;
+        }
+        return new MoneyVector(Arrays.copyOf(values, size), Arrays.copyOf(currencyIndices, size),
+                currencies.toArray(new CurrencyUnit[currencies.size()]));
+    }
+
+    /**
+     * Creates a new vector of a single currency from numeric values scaled by {@code 10^5}, e.g.
+     * {@code 1234500L} represents {@code 12.345}. The array given is copied.
+     *
+     * @param currency     the currency of all values, not null.
+     * @param scaledValues the values, multiplied by {@code 10^5}, not null.
+     * @return a new vector instance.
+     */
+    public static MoneyVector ofScaled(CurrencyUnit currency, long... scaledValues) {
+        Objects.requireNonNull(currency, "Currency required.");
+        Objects.requireNonNull(scaledValues, "Values required.");
+        return new MoneyVector(scaledValues.clone(), new int[scaledValues.length], new CurrencyUnit[]{currency});
+    }
+
+    private static long toScaledValue(MonetaryAmount amount) {
+        if (amount instanceof FastMoney) {
+            return ((FastMoney) amount).getScaledNumber();
+        }
+        BigDecimal number = amount.getNumber().numberValue(BigDecimal.class);
+        if (number.scale() > SCALE) {
+            throw new ArithmeticException(amount + " can not be represented by " + MoneyVector.class.getSimpleName()
+                    + ", scale > " + SCALE);
+        }
+        return number.movePointRight(SCALE).longValueExact();
+    }
+
+    /**
+     * Access the number of amounts in this vector.
+     *
+     * @return the size of this vector.
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Checks if this vector contains no amounts.
+     *
+     * @return true, if the size of this vector is zero.
+     */
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    /**
+     * Access the distinct currencies contained, in order of their first occurrence.
+     *
+     * @return the currencies, never null.
+     */
+    public List<CurrencyUnit> getCurrencies() {
+        return Collections.unmodifiableList(Arrays.asList(currencies));
+    }
+
+    /**
+     * Access the currency of the amount at the given index.
+     *
+     * @param index the index.
+     * @return the currency, never null.
+     */
+    public CurrencyUnit getCurrency(int index) {
+        return currencies[currencyIndices[index]];
+    }
+
+    /**
+     * Access the numeric value of the amount at the given index, multiplied by {@code 10^5}.
+     *
+     * @param index the index.
+     * @return the scaled value.
+     */
+    public long getScaledValue(int index) {
+        return values[index];
+    }
+
+    /**
+     * Creates the amount at the given index.
+     *
+     * @param index the index.
+     * @return the amount, never null.
+     */
+    public FastMoney get(int index) {
+        return FastMoney.ofScaled(values[index], getCurrency(index));
+    }
+
+    /**
+     * Creates all amounts of this vector as {@link FastMoney}.
+     *
+     * @return a new array, in the order of this vector.
+     */
+    public FastMoney[] toFastMoneyArray() {
+        FastMoney[] result = new FastMoney[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = FastMoney.ofScaled(values[i], currencies[currencyIndices[i]]);
+        }
+        return result;
+    }
+
+    /**
+     * Creates all amounts of this vector as {@link Money}.
+     *
+     * @return a new array, in the order of this vector.
+     */
+    public Money[] toMoneyArray() {
+        Money[] result = new Money[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = Money.of(BigDecimal.valueOf(values[i], SCALE), currencies[currencyIndices[i]]);
+        }
+        return result;
+    }
+
+    /**
+     * Evaluates the dictionary index of the given currency.
+     *
+     * @return the index, or -1, if the currency is not contained.
+     */
+    private int indexOf(CurrencyUnit currency) {
+        Objects.requireNonNull(currency, "Currency required.");
+        for (int i = 0; i < currencies.length; i++) {
+            if (currencies[i].equals(currency)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Sums up all amounts of the given currency.
+     *
+     * @param currency the currency, not null.
+     * @return the sum, zero, if no amount of the given currency is contained.
+     * @throws ArithmeticException if the sum exceeds the numeric capabilities of {@link FastMoney}.
+     */
+    public FastMoney sum(CurrencyUnit currency) {
+        int index = indexOf(currency);
+        long sum = 0L;
+        if (currencies.length == 1 && index == 0) {
+            for (long value : values) {
+                sum = Math.addExact(sum, value);
+            }
+        } else if (index >= 0) {
+            for (int i = 0; i < values.length; i++) {
+                if (currencyIndices[i] == index) {
+                    sum = Math.addExact(sum, values[i]);
+                }
+            }
+        }
+        return FastMoney.ofScaled(sum, currency);
+    }
+
+    /**
+     * Evaluates the smallest amount of the given currency.
+     *
+     * @param currency the currency, not null.
+     * @return the minimum, or an empty result, if no amount of the given currency is contained.
+     */
+    public Optional<FastMoney> min(CurrencyUnit currency) {
+        int index = indexOf(currency);
+        int found = -1;
+        for (int i = 0; i < values.length; i++) {
+            if (currencyIndices[i] == index && (found < 0 || values[i] < values[found])) {
+                found = i;
+            }
+        }
+        return found < 0 ? Optional.empty() : Optional.of(FastMoney.ofScaled(values[found], currency));
+    }
+
+    /**
+     * Evaluates the largest amount of the given currency.
+     *
+     * @param currency the currency, not null.
+     * @return the maximum, or an empty result, if no amount of the given currency is contained.
+     */
+    public Optional<FastMoney> max(CurrencyUnit currency) {
+        int index = indexOf(currency);
+        int found = -1;
+        for (int i = 0; i < values.length; i++) {
+            if (currencyIndices[i] == index && (found < 0 || values[i] > values[found])) {
+                found = i;
+            }
+        }
+        return found < 0 ? Optional.empty() : Optional.of(FastMoney.ofScaled(values[found], currency));
+    }
+
+    /**
+     * Multiplies all amounts by the given factor.
+     *
+     * @param factor       the factor, not null.
+     * @param roundingMode the rounding mode applied, if a product has more than 5 fraction digits, not null.
+     * @return a new vector with the multiplied amounts.
+     * @throws ArithmeticException if a product exceeds the numeric capabilities of {@link FastMoney}.
+     */
+    public MoneyVector scale(Number factor, RoundingMode roundingMode) {
+        Objects.requireNonNull(factor, "Factor required.");
+        Objects.requireNonNull(roundingMode, "RoundingMode required.");
+        long[] result = new long[values.length];
+        multiply(-1, MoneyUtils.getBigDecimal(factor), roundingMode, result);
+        return new MoneyVector(result, currencyIndices, currencies);
+    }
+
+    /**
+     * Converts all amounts into the target currency of the given conversion. The exchange rate is
+     * evaluated only once for every distinct currency contained.
+     *
+     * @param conversion   the conversion, not null.
+     * @param roundingMode the rounding mode applied, if a converted amount has more than 5 fraction
+     *                     digits, not null.
+     * @return a new vector with all amounts in the target currency.
+     * @throws ArithmeticException if a converted amount exceeds the numeric capabilities of {@link FastMoney}.
+     */
+    public MoneyVector convert(CurrencyConversion conversion, RoundingMode roundingMode) {
+        Objects.requireNonNull(conversion, "Conversion required.");
+        Objects.requireNonNull(roundingMode, "RoundingMode required.");
+        CurrencyUnit target = conversion.getCurrency();
+        long[] result = new long[values.length];
+        for (int c = 0; c < currencies.length; c++) {
+            BigDecimal factor = BigDecimal.ONE;
+            if (!currencies[c].equals(target)) {
+                factor = conversion.getExchangeRate(FastMoney.of(1, currencies[c])).getFactor()
+                        .numberValue(BigDecimal.class);
+            }
+            multiply(currencies.length == 1 ? -1 : c, factor, roundingMode, result);
+        }
+        return new MoneyVector(result, new int[values.length], new CurrencyUnit[]{target});
+    }
+
+    /**
+     * Rounds all amounts to the default fraction digits of their currency.
+     *
+     * @param roundingMode the rounding mode, not null.
+     * @return a new vector with the rounded amounts.
+     * @see CurrencyUnit#getDefaultFractionDigits()
+     */
+    public MoneyVector round(RoundingMode roundingMode) {
+        Objects.requireNonNull(roundingMode, "RoundingMode required.");
+        long[] divisors = new long[currencies.length];
+        for (int c = 0; c < currencies.length; c++) {
+            divisors[c] = getRoundingDivisor(currencies[c].getDefaultFractionDigits());
+        }
+        long[] result = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = roundValue(values[i], divisors[currencyIndices[i]], roundingMode);
+        }
+        return new MoneyVector(result, currencyIndices, currencies);
+    }
+
+    /**
+     * Rounds all amounts to the given number of fraction digits.
+     *
+     * @param fractionDigits the fraction digits, not negative.
+     * @param roundingMode   the rounding mode, not null.
+     * @return a new vector with the rounded amounts.
+     */
+    public MoneyVector round(int fractionDigits, RoundingMode roundingMode) {
+        Objects.requireNonNull(roundingMode, "RoundingMode required.");
+        if (fractionDigits < 0) {
+            throw new IllegalArgumentException("fractionDigits must not be negative: " + fractionDigits);
+        }
+        long divisor = getRoundingDivisor(fractionDigits);
+        long[] result = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = roundValue(values[i], divisor, roundingMode);
+        }
+        return new MoneyVector(result, currencyIndices, currencies);
+    }
+
+    private static long getRoundingDivisor(int fractionDigits) {
+        if (fractionDigits < 0 || fractionDigits >= SCALE) {
+            return 1L;
+        }
+        return FastMoneyMath.powerOfTen(SCALE - fractionDigits);
+    }
+
+    private static long roundValue(long value, long divisor, RoundingMode roundingMode) {
+        if (divisor == 1L) {
+            return value;
+        }
+        return Math.multiplyExact(FastMoneyMath.divide(value, divisor, roundingMode), divisor);
+    }
+
+    /**
+     * Multiplies the values with the given currency index by the given factor and stores the products in
+     * {@code result}. Factors representable as long with at most 18 fraction digits are applied with exact
+     * long arithmetic, others using {@link BigDecimal}.
+     *
+     * @param currencyIndex the currency index of the values to be multiplied, or -1 for all values.
+     */
+    private void multiply(int currencyIndex, BigDecimal factor, RoundingMode roundingMode, long[] result) {
+        if (factor.scale() < 0) {
+            factor = factor.setScale(0);
+        }
+        boolean exact = factor.precision() <= 18 && FastMoneyMath.isPowerOfTenSupported(factor.scale());
+        long unscaled = exact ? factor.unscaledValue().longValue() : 0L;
+        long divisor = exact ? FastMoneyMath.powerOfTen(factor.scale()) : 1L;
+        for (int i = 0; i < values.length; i++) {
+            if (currencyIndex >= 0 && currencyIndices[i] != currencyIndex) {
+                continue;
+            }
+            if (exact) {
+                result[i] = FastMoneyMath.multiplyAndDivide(values[i], unscaled, divisor, roundingMode);
+            } else {
+                result[i] = BigDecimal.valueOf(values[i]).multiply(factor).setScale(0, roundingMode)
+                        .longValueExact();
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof MoneyVector) {
+            MoneyVector other = (MoneyVector) obj;
+            if (other.values.length != values.length || !Arrays.equals(values, other.values)) {
+                return false;
+            }
+            for (int i = 0; i < values.length; i++) {
+                if (!getCurrency(i).equals(other.getCurrency(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Arrays.hashCode(values);
+        for (int i = 0; i < values.length; i++) {
+            hash = 31 * hash + getCurrency(i).hashCode();
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return MoneyVector.class.getSimpleName() + "[size=" + values.length + ", currencies="
+                + Arrays.toString(currencies) + ']';
+    }
+}
@@ -23,6 +23,8 @@ import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.javamoney.moneta.spi.ProviderRegistry;
+
 /**
  * This class provides a programmatic singleton for globally registering new {@link java.util.Currency}  into the
  * {@link javax.money.Monetary} singleton either by currency code, locale, or both.
@@ -81,7 +83,10 @@ public class ConfigurableCurrencyUnitProvider implements CurrencyProviderSpi {
      */
     public static CurrencyUnit registerCurrencyUnit(CurrencyUnit currencyUnit) {
         Objects.requireNonNull(currencyUnit);
-        return ConfigurableCurrencyUnitProvider.CURRENCY_UNITS.put(currencyUnit.getCurrencyCode(), currencyUnit);
+        CurrencyUnit previous = ConfigurableCurrencyUnitProvider.CURRENCY_UNITS.put(currencyUnit.getCurrencyCode(),
+                currencyUnit);
+        ProviderRegistry.invalidate();
+        return previous;
     }
 
     /**
@@ -94,7 +99,9 @@ public class ConfigurableCurrencyUnitProvider implements CurrencyProviderSpi {
     public static CurrencyUnit registerCurrencyUnit(CurrencyUnit currencyUnit, Locale locale) {
         Objects.requireNonNull(locale);
         Objects.requireNonNull(currencyUnit);
-        return ConfigurableCurrencyUnitProvider.CURRENCY_UNITS_BY_LOCALE.put(locale, currencyUnit);
+        CurrencyUnit previous = ConfigurableCurrencyUnitProvider.CURRENCY_UNITS_BY_LOCALE.put(locale, currencyUnit);
+        ProviderRegistry.invalidate();
+        return previous;
     }
 
     /**
@@ -105,7 +112,9 @@ public class ConfigurableCurrencyUnitProvider implements CurrencyProviderSpi {
      */
     public static CurrencyUnit removeCurrencyUnit(String currencyCode) {
         Objects.requireNonNull(currencyCode);
-        return ConfigurableCurrencyUnitProvider.CURRENCY_UNITS.remove(currencyCode);
+        CurrencyUnit removed = ConfigurableCurrencyUnitProvider.CURRENCY_UNITS.remove(currencyCode);
+        ProviderRegistry.invalidate();
+        return removed;
     }
 
     /**
@@ -116,7 +125,9 @@ public class ConfigurableCurrencyUnitProvider implements CurrencyProviderSpi {
      */
     public static CurrencyUnit removeCurrencyUnit(Locale locale) {
         Objects.requireNonNull(locale);
-        return ConfigurableCurrencyUnitProvider.CURRENCY_UNITS_BY_LOCALE.remove(locale);
+        CurrencyUnit removed = ConfigurableCurrencyUnitProvider.CURRENCY_UNITS_BY_LOCALE.remove(locale);
+        ProviderRegistry.invalidate();
+        return removed;
     }
 
     /*
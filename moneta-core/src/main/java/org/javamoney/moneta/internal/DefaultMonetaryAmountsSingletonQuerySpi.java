@@ -17,13 +17,12 @@ package org.javamoney.moneta.internal;
 
 import java.math.RoundingMode;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 
-import javax.money.MonetaryAmount;
 import javax.money.MonetaryAmountFactory;
 import javax.money.MonetaryAmountFactoryQuery;
 import javax.money.MonetaryContext;
@@ -34,6 +33,8 @@ import javax.money.spi.MonetaryAmountFactoryProviderSpi;
 import javax.money.spi.MonetaryAmountFactoryProviderSpi.QueryInclusionPolicy;
 import javax.money.spi.MonetaryAmountsSingletonQuerySpi;
 
+import org.javamoney.moneta.spi.ProviderRegistry;
+
 /**
  * Default implementation ot {@link javax.money.spi.MonetaryAmountsSingletonSpi} loading the SPIs on startup
  * initially once, using the
@@ -41,7 +42,7 @@ import javax.money.spi.MonetaryAmountsSingletonQuerySpi;
  */
 public class DefaultMonetaryAmountsSingletonQuerySpi implements MonetaryAmountsSingletonQuerySpi{
 
-    private static final Comparator<MonetaryAmountFactoryProviderSpi<? extends MonetaryAmount>> CONTEXT_COMPARATOR =
+    private static final Comparator<MonetaryAmountFactoryProviderSpi<?>> CONTEXT_COMPARATOR =
             (f1, f2) -> {
                 int compare = 0;
                 MonetaryContext c1 = f1.getMaximalMonetaryContext();
@@ -68,6 +69,35 @@ public class DefaultMonetaryAmountsSingletonQuerySpi implements MonetaryAmountsS
             };
 
 
+    /**
+     * The factory providers loaded, which are included in queries by type.
+     */
+    private final ProviderRegistry.Resolved<MonetaryAmountFactoryProviderSpi<?>[]> typedProviders =
+            ProviderRegistry.resolve(() -> loadProviders(QueryInclusionPolicy.NEVER));
+
+    /**
+     * The factory providers loaded, which are included in queries by context, sorted by
+     * {@link #CONTEXT_COMPARATOR}.
+     */
+    private final ProviderRegistry.Resolved<MonetaryAmountFactoryProviderSpi<?>[]> selectableProviders =
+            ProviderRegistry.resolve(() -> {
+                MonetaryAmountFactoryProviderSpi<?>[] providers = loadProviders(QueryInclusionPolicy.NEVER,
+                        QueryInclusionPolicy.DIRECT_REFERENCE_ONLY);
+                // stable sort, so filtering keeps the order the selection was sorted in before
+                Arrays.sort(providers, CONTEXT_COMPARATOR);
+                return providers;
+            });
+
+    private static MonetaryAmountFactoryProviderSpi<?>[] loadProviders(QueryInclusionPolicy... excluded) {
+        List<MonetaryAmountFactoryProviderSpi<?>> providers = new ArrayList<>();
+        for (MonetaryAmountFactoryProviderSpi<?> factory : Bootstrap.getServices(MonetaryAmountFactoryProviderSpi.class)) {
+            if (!Arrays.asList(excluded).contains(factory.getQueryInclusionPolicy())) {
+                providers.add(factory);
+            }
+        }
+        return providers.toArray(new MonetaryAmountFactoryProviderSpi<?>[providers.size()]);
+    }
+
     /**
      * (non-Javadoc)
      *
@@ -78,11 +108,7 @@ public class DefaultMonetaryAmountsSingletonQuerySpi implements MonetaryAmountsS
         Objects.requireNonNull(factoryQuery);
         List<MonetaryAmountFactory<?>> factories = new ArrayList<>();
         // first check for explicit type
-        for(@SuppressWarnings("unchecked") MonetaryAmountFactoryProviderSpi<? extends MonetaryAmount> factory : Bootstrap
-                .getServices(MonetaryAmountFactoryProviderSpi.class)){
-            if(factory.getQueryInclusionPolicy() == QueryInclusionPolicy.NEVER){
-                continue;
-            }
+        for(MonetaryAmountFactoryProviderSpi<?> factory : typedProviders.get()){
             if(factoryQuery.getTargetType() == factory.getAmountType()){
                 if(isPrecisionOK(factoryQuery, factory.getMaximalMonetaryContext())){
                     factories.add(factory.createMonetaryAmountFactory());
@@ -92,30 +118,12 @@ public class DefaultMonetaryAmountsSingletonQuerySpi implements MonetaryAmountsS
                 }
             }
         }
-        List<MonetaryAmountFactoryProviderSpi<? extends MonetaryAmount>> selection = new ArrayList<>();
-        for(@SuppressWarnings("unchecked") MonetaryAmountFactoryProviderSpi<? extends MonetaryAmount> factory : Bootstrap
-                .getServices(MonetaryAmountFactoryProviderSpi.class)){
-            if(factory.getQueryInclusionPolicy() == QueryInclusionPolicy.DIRECT_REFERENCE_ONLY ||
-                    factory.getQueryInclusionPolicy() == QueryInclusionPolicy.NEVER){
-                continue;
-            }
+        List<MonetaryAmountFactoryProviderSpi<?>> selection = new ArrayList<>();
+        for(MonetaryAmountFactoryProviderSpi<?> factory : selectableProviders.get()){
             if(isPrecisionOK(factoryQuery, factory.getMaximalMonetaryContext())){
                 selection.add(factory);
             }
         }
-        if(selection.isEmpty()){
-            // fall back, add all selections, ignore flavor
-            for(@SuppressWarnings("unchecked") MonetaryAmountFactoryProviderSpi<? extends MonetaryAmount> factory : Bootstrap
-                    .getServices(MonetaryAmountFactoryProviderSpi.class)){
-                if(factory.getQueryInclusionPolicy() == QueryInclusionPolicy.DIRECT_REFERENCE_ONLY ||
-                        factory.getQueryInclusionPolicy() == QueryInclusionPolicy.NEVER){
-                    continue;
-                }
-                if(isPrecisionOK(factoryQuery, factory.getMaximalMonetaryContext())){
-                    selection.add(factory);
-                }
-            }
-        }
         if(selection.size() == 1){
             factories.add(selection.get(0).createMonetaryAmountFactory());
         }
@@ -123,7 +131,6 @@ public class DefaultMonetaryAmountsSingletonQuerySpi implements MonetaryAmountsS
 		MonetaryContext context = createContext(factoryQuery);
 
 		factories.forEach(f -> f.setContext(context));
-        Collections.sort(selection, CONTEXT_COMPARATOR);
         factories.add(selection.get(0).createMonetaryAmountFactory());
         return factories;
     }
@@ -13,6 +13,7 @@
 package org.javamoney.moneta.internal;
 
 import org.javamoney.moneta.spi.MonetaryConfig;
+import org.javamoney.moneta.spi.ProviderRegistry;
 
 import javax.money.CurrencyQuery;
 import javax.money.CurrencyUnit;
@@ -20,9 +21,15 @@ import javax.money.spi.Bootstrap;
 import javax.money.spi.CurrencyProviderSpi;
 import javax.money.spi.MonetaryCurrenciesSingletonSpi;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -36,65 +43,117 @@ import java.util.logging.Logger;
  */
 public class DefaultMonetaryCurrenciesSingletonSpi implements MonetaryCurrenciesSingletonSpi {
 
+    private static final Logger LOG = Logger.getLogger(DefaultMonetaryCurrenciesSingletonSpi.class.getName());
+
+    /**
+     * The currencies already resolved by code from the default provider chain.
+     */
+    private final ProviderRegistry.Resolved<CurrencyIndex> currencyIndex = ProviderRegistry.resolve(CurrencyIndex::new);
+
+    /**
+     * The providers loaded, by name.
+     */
+    private final ProviderRegistry.Resolved<Map<String, CurrencyProviderSpi>> providers =
+            ProviderRegistry.resolve(DefaultMonetaryCurrenciesSingletonSpi::loadProviders);
+
+    /**
+     * The names of the default provider chain.
+     */
+    private final ProviderRegistry.Resolved<List<String>> defaultProviderChain =
+            ProviderRegistry.resolve(this::loadDefaultProviderChain);
+
+    /**
+     * The providers of the default provider chain.
+     */
+    private final ProviderRegistry.Resolved<CurrencyProviderSpi[]> defaultProviders =
+            ProviderRegistry.resolve(() -> getProviders(getDefaultProviderChain()));
+
+    /**
+     * Access a currency by code. Lookups using the default provider chain are answered from an index
+     * of the currencies already resolved, which is reset, when the {@link ProviderRegistry} is invalidated,
+     * e.g. when the registrations of the {@link ConfigurableCurrencyUnitProvider} change. Three letter
+     * upper case codes are kept in an array, so they are found by a single array access.
+     *
+     * @param currencyCode the currency code, not null.
+     * @param providers    the providers to be queried, if none the default provider chain is used.
+     * @return the currency, never null.
+     */
+    @Override
+    public CurrencyUnit getCurrency(String currencyCode, String... providers) {
+        Objects.requireNonNull(currencyCode, "Currency Code may not be null");
+        if (providers.length > 0) {
+            return MonetaryCurrenciesSingletonSpi.super.getCurrency(currencyCode, providers);
+        }
+        CurrencyIndex index = currencyIndex.get();
+        CurrencyUnit currency = index.get(currencyCode);
+        if (currency == null) {
+            currency = MonetaryCurrenciesSingletonSpi.super.getCurrency(currencyCode);
+            index.put(currencyCode, currency);
+        }
+        return currency;
+    }
+
+    @Override
+    public boolean isCurrencyAvailable(String code, String... providers) {
+        if (providers.length == 0 && Objects.nonNull(code) && currencyIndex.get().get(code) != null) {
+            return true;
+        }
+        return MonetaryCurrenciesSingletonSpi.super.isCurrencyAvailable(code, providers);
+    }
+
     @Override
     public Set<CurrencyUnit> getCurrencies(CurrencyQuery query) {
         Set<CurrencyUnit> result = new HashSet<>();
-        List<CurrencyProviderSpi> providers = collectProviders(query);
+        CurrencyProviderSpi[] providers = query.getProviderNames().isEmpty() ? defaultProviders.get()
+                : getProviders(query.getProviderNames());
         for (CurrencyProviderSpi spi : providers) {
             try {
                 result.addAll(spi.getCurrencies(query));
             } catch (Exception e) {
-                Logger.getLogger(DefaultMonetaryCurrenciesSingletonSpi.class.getName())
-                        .log(Level.SEVERE, "Error loading currency provider names for " + spi.getClass().getName(),
-                                e);
+                LOG.log(Level.SEVERE, "Error loading currency provider names for " + spi.getClass().getName(), e);
             }
         }
         return result;
     }
 
-    private List<CurrencyProviderSpi> collectProviders(CurrencyQuery query) {
-        List<CurrencyProviderSpi> result = new ArrayList<>();
-        if (!query.getProviderNames().isEmpty()) {
-            for (String providerName : query.getProviderNames()) {
-                CurrencyProviderSpi provider = getProvider(providerName);
-                if (provider == null) {
-                    Logger.getLogger(DefaultMonetaryCurrenciesSingletonSpi.class.getName()).warning("No such currenvcy " +
-                            "provider found, ignoring: " + providerName);
-                } else {
-                    result.add(provider);
-                }
+    private CurrencyProviderSpi[] getProviders(List<String> providerNames) {
+        Map<String, CurrencyProviderSpi> loaded = providers.get();
+        List<CurrencyProviderSpi> result = new ArrayList<>(providerNames.size());
+        for (String providerName : providerNames) {
+            CurrencyProviderSpi provider = loaded.get(providerName);
+            if (provider == null) {
+                LOG.warning("No such currenvcy provider found, ignoring: " + providerName);
+            } else {
+                result.add(provider);
             }
         }
-        else{
-            for(String providerName:getDefaultProviderChain()){
-                CurrencyProviderSpi provider = getProvider(providerName);
-                if (provider == null) {
-                    Logger.getLogger(DefaultMonetaryCurrenciesSingletonSpi.class.getName()).warning("No such currenvcy " +
-                            "provider found, ignoring: " + providerName);
-                } else {
-                    result.add(provider);
-                }
-            }
-        }
-        return result;
+        return result.toArray(new CurrencyProviderSpi[result.size()]);
     }
 
-    private CurrencyProviderSpi getProvider(String providerName) {
-        for(CurrencyProviderSpi provider:Bootstrap.getServices(CurrencyProviderSpi.class)){
-            if(provider.getProviderName().equals(providerName)){
-                return provider;
+    private static Map<String, CurrencyProviderSpi> loadProviders() {
+        Map<String, CurrencyProviderSpi> result = new LinkedHashMap<>();
+        for (CurrencyProviderSpi spi : Bootstrap.getServices(CurrencyProviderSpi.class)) {
+            try {
+                result.putIfAbsent(spi.getProviderName(), spi);
+            } catch (Exception e) {
+                LOG.log(Level.SEVERE, "Error loading currency provider names for " + spi.getClass().getName(), e);
             }
         }
-        return null;
+        return Collections.unmodifiableMap(result);
     }
 
     /**
-     * This default implementation simply returns all providers defined in arbitrary order.
+     * This default implementation returns the providers configured by {@code currencies.default-chain},
+     * or all providers defined in arbitrary order.
      *
      * @return the default provider chain, never null.
      */
     @Override
     public List<String> getDefaultProviderChain() {
+        return defaultProviderChain.get();
+    }
+
+    private List<String> loadDefaultProviderChain() {
         List<String> provList = new ArrayList<>();
         String defaultChain = MonetaryConfig.getConfig().get("currencies.default-chain");
         if(defaultChain!=null) {
@@ -103,8 +162,7 @@ public class DefaultMonetaryCurrenciesSingletonSpi implements MonetaryCurrencies
                 if (getProviderNames().contains(item.trim())) {
                     provList.add(item);
                 } else {
-                    Logger.getLogger(getClass().getName())
-                            .warning("Ignoring non existing default provider: " + item);
+                    LOG.warning("Ignoring non existing default provider: " + item);
                 }
             }
         }
@@ -113,7 +171,7 @@ public class DefaultMonetaryCurrenciesSingletonSpi implements MonetaryCurrencies
                     p -> provList.add(p.getProviderName())
             );
         }
-        return provList;
+        return Collections.unmodifiableList(provList);
     }
 
     /**
@@ -123,17 +181,56 @@ public class DefaultMonetaryCurrenciesSingletonSpi implements MonetaryCurrencies
      */
     @Override
     public Set<String> getProviderNames() {
-        Set<String> result = new HashSet<>();
-        for (CurrencyProviderSpi spi : Bootstrap.getServices(CurrencyProviderSpi.class)) {
-            try {
-                result.add(spi.getProviderName());
-            } catch (Exception e) {
-                Logger.getLogger(DefaultMonetaryCurrenciesSingletonSpi.class.getName())
-                        .log(Level.SEVERE, "Error loading currency provider names for " + spi.getClass().getName(),
-                                e);
+        return providers.get().keySet();
+    }
+
+    /**
+     * Currencies resolved by code. The index only grows, it is replaced as a whole, when the registry is
+     * invalidated.
+     */
+    private static final class CurrencyIndex {
+
+        private static final int LETTERS = 26;
+
+        /**
+         * The currencies with three letter upper case codes, indexed by the letters in base 26.
+         */
+        private final AtomicReferenceArray<CurrencyUnit> alpha3 =
+                new AtomicReferenceArray<>(LETTERS * LETTERS * LETTERS);
+
+        /**
+         * Currencies with other codes.
+         */
+        private final Map<String, CurrencyUnit> others = new ConcurrentHashMap<>();
+
+        private static int indexOf(String code) {
+            if (code.length() != 3) {
+                return -1;
+            }
+            int index = 0;
+            for (int i = 0; i < 3; i++) {
+                char ch = code.charAt(i);
+                if (ch < 'A' || ch > 'Z') {
+                    return -1;
+                }
+                index = index * LETTERS + (ch - 'A');
+            }
+            return index;
+        }
+
+        CurrencyUnit get(String code) {
+            int index = indexOf(code);
+            return index < 0 ? others.get(code) : alpha3.get(index);
+        }
+
+        void put(String code, CurrencyUnit currency) {
+            int index = indexOf(code);
+            if (index < 0) {
+                others.put(code, currency);
+            } else {
+                alpha3.set(index, currency);
             }
         }
-        return result;
     }
 
 }
@@ -0,0 +1,208 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.internal;
+
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * Exact <code>long</code> arithmetic on scaled numbers, as used by
+ * {@link org.javamoney.moneta.FastMoney}. Products are kept as unsigned 128 bit
+ * values in two longs, so {@code a * b / c} is calculated without any intermediate overflow and rounded
+ * once, using the given {@link RoundingMode}. Only the final result must fit into a <code>long</code>,
+ * otherwise an {@link ArithmeticException} is thrown.
+ */
+public final class FastMoneyMath {
+
+    private static final long INT_MASK = 0xFFFFFFFFL;
+
+    /**
+     * Powers of ten that fit into a <code>long</code>.
+     */
+    private static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L,
+            10_000_000L, 100_000_000L, 1_000_000_000L, 10_000_000_000L, 100_000_000_000L,
+            1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L,
+            10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L};
+
+    private FastMoneyMath() {
+    }
+
+    /**
+     * Access {@code 10^exponent}.
+     *
+     * @param exponent the exponent, {@code 0 <= exponent <= 18}.
+     * @return {@code 10^exponent}.
+     */
+    public static long powerOfTen(int exponent) {
+        return POWERS_OF_TEN[exponent];
+    }
+
+    /**
+     * Checks if {@code 10^exponent} can be represented as <code>long</code>.
+     *
+     * @param exponent the exponent.
+     * @return true, if {@link #powerOfTen(int)} can be called with the given exponent.
+     */
+    public static boolean isPowerOfTenSupported(int exponent) {
+        return exponent >= 0 && exponent < POWERS_OF_TEN.length;
+    }
+
+    /**
+     * Calculates {@code dividend / divisor}, rounded using the given rounding mode.
+     *
+     * @param dividend     the dividend.
+     * @param divisor      the divisor, not zero.
+     * @param roundingMode the rounding mode, not null.
+     * @return the rounded quotient.
+     * @throws ArithmeticException if the divisor is zero, the result overflows or rounding is required but
+     *                             {@link RoundingMode#UNNECESSARY} was passed.
+     */
+    public static long divide(long dividend, long divisor, RoundingMode roundingMode) {
+        return multiplyAndDivide(dividend, 1L, divisor, roundingMode);
+    }
+
+    /**
+     * Calculates {@code value * multiplier / divisor} with a 128 bit intermediate product, rounded once
+     * using the given rounding mode.
+     *
+     * @param value        the value.
+     * @param multiplier   the multiplier.
+     * @param divisor      the divisor, not zero.
+     * @param roundingMode the rounding mode, not null.
+     * @return the rounded result.
+     * @throws ArithmeticException if the divisor is zero, the result overflows or rounding is required but
+     *                             {@link RoundingMode#UNNECESSARY} was passed.
+     */
+    public static long multiplyAndDivide(long value, long multiplier, long divisor, RoundingMode roundingMode) {
+        Objects.requireNonNull(roundingMode, "RoundingMode is required.");
+        if (divisor == 0L) {
+            throw new ArithmeticException("Division by zero");
+        }
+        boolean negative = (value < 0L) ^ (multiplier < 0L) ^ (divisor < 0L);
+        // the absolute values are treated as unsigned, which also covers Long.MIN_VALUE
+        long x = Math.abs(value);
+        long y = Math.abs(multiplier);
+        long d = Math.abs(divisor);
+        long lo = x * y;
+        long hi = unsignedMultiplyHigh(x, y);
+        if (Long.compareUnsigned(hi, d) >= 0) {
+            throw new ArithmeticException("Overflow: " + value + " * " + multiplier + " / " + divisor);
+        }
+        long quotient = hi == 0L ? Long.divideUnsigned(lo, d) : divideUnsigned(hi, lo, d);
+        long remainder = lo - quotient * d;
+        if (remainder != 0L && isIncrement(quotient, remainder, d, negative, roundingMode)) {
+            quotient++;
+            if (quotient == 0L) {
+                throw new ArithmeticException("Overflow: " + value + " * " + multiplier + " / " + divisor);
+            }
+        }
+        if (negative) {
+            if (Long.compareUnsigned(quotient, Long.MIN_VALUE) > 0) {
+                throw new ArithmeticException("Overflow: " + value + " * " + multiplier + " / " + divisor);
+            }
+            return -quotient;
+        }
+        if (quotient < 0L) {
+            throw new ArithmeticException("Overflow: " + value + " * " + multiplier + " / " + divisor);
+        }
+        return quotient;
+    }
+
+    /**
+     * Evaluates if the absolute quotient must be incremented, given a non zero remainder.
+     */
+    private static boolean isIncrement(long quotient, long remainder, long divisor, boolean negative,
+                                       RoundingMode roundingMode) {
+        switch (roundingMode) {
+            case UP:
+                return true;
+            case DOWN:
+                return false;
+            case CEILING:
+                return !negative;
+            case FLOOR:
+                return negative;
+            case HALF_UP:
+            case HALF_DOWN:
+            case HALF_EVEN:
+                // compares remainder with divisor / 2, without overflowing
+                int compare = Long.compareUnsigned(remainder, divisor - remainder);
+                if (compare != 0) {
+                    return compare > 0;
+                }
+                if (roundingMode == RoundingMode.HALF_UP) {
+                    return true;
+                }
+                return roundingMode == RoundingMode.HALF_EVEN && (quotient & 1L) != 0L;
+            case UNNECESSARY:
+            default:
+                throw new ArithmeticException("Rounding necessary");
+        }
+    }
+
+    /**
+     * Returns the high 64 bits of the unsigned 128 bit product of the given values.
+     */
+    public static long unsignedMultiplyHigh(long x, long y) {
+        long x1 = x >>> 32;
+        long x0 = x & INT_MASK;
+        long y1 = y >>> 32;
+        long y0 = y & INT_MASK;
+        long p00 = x0 * y0;
+        long p01 = x0 * y1;
+        long p10 = x1 * y0;
+        long p11 = x1 * y1;
+        long middle = (p00 >>> 32) + (p01 & INT_MASK) + (p10 & INT_MASK);
+        return p11 + (p01 >>> 32) + (p10 >>> 32) + (middle >>> 32);
+    }
+
+    /**
+     * Divides the unsigned 128 bit value {@code hi:lo} by the unsigned divisor, where {@code hi} must be
+     * less than the divisor (Knuth's algorithm D, as given in Hacker's Delight, divlu).
+     */
+    private static long divideUnsigned(long hi, long lo, long divisor) {
+        int shift = Long.numberOfLeadingZeros(divisor);
+        long v = divisor << shift;
+        long vn1 = v >>> 32;
+        long vn0 = v & INT_MASK;
+        long un32 = shift == 0 ? hi : (hi << shift) | (lo >>> (64 - shift));
+        long un10 = lo << shift;
+        long un1 = un10 >>> 32;
+        long un0 = un10 & INT_MASK;
+
+        long q1 = Long.divideUnsigned(un32, vn1);
+        long rhat = un32 - q1 * vn1;
+        while (q1 > INT_MASK || Long.compareUnsigned(q1 * vn0, (rhat << 32) | un1) > 0) {
+            q1--;
+            rhat += vn1;
+            if (rhat > INT_MASK) {
+                break;
+            }
+        }
+        long un21 = (un32 << 32) + un1 - q1 * v;
+
+        long q0 = Long.divideUnsigned(un21, vn1);
+        rhat = un21 - q0 * vn1;
+        while (q0 > INT_MASK || Long.compareUnsigned(q0 * vn0, (rhat << 32) | un0) > 0) {
+            q0--;
+            rhat += vn1;
+            if (rhat > INT_MASK) {
+                break;
+            }
+        }
+        return (q1 << 32) | q0;
+    }
+}
@@ -25,6 +25,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.javamoney.moneta.spi.ProviderRegistry;
+
 /**
  * This class implements the (default) {@link javax.money.spi.ServiceProvider} interface and hereby uses the JDK
  * {@link java.util.ServiceLoader} to load the services required.
@@ -101,6 +103,10 @@ public class PriorityAwareServiceProvider implements ServiceProvider {
             services.sort(PriorityAwareServiceProvider::compareServices);
             @SuppressWarnings("unchecked")
             final List<T> previousServices = (List<T>) servicesLoaded.putIfAbsent(serviceType, (List<Object>) services);
+            if (previousServices == null) {
+                // provider chains resolved before may depend on the services loaded now
+                ProviderRegistry.invalidate();
+            }
             return Collections.unmodifiableList(previousServices != null ? previousServices : services);
         } catch (Exception e) {
             Logger.getLogger(PriorityAwareServiceProvider.class.getName()).log(Level.WARNING,
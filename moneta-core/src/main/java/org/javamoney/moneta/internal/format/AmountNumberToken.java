@@ -15,16 +15,8 @@
  */
 package org.javamoney.moneta.internal.format;
 
-import org.javamoney.moneta.format.AmountFormatParams;
-
 import java.io.IOException;
-import java.math.BigDecimal;
-import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
-import java.util.Locale;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.logging.Logger;
 
 import javax.money.MonetaryAmount;
 import javax.money.format.AmountFormatContext;
@@ -32,6 +24,8 @@ import javax.money.format.MonetaryParseException;
 
 /**
  * {@link FormatToken} which allows to format a {@link MonetaryAmount} type.
+ * <p>
+ * This class is thread safe and immutable, formatting and parsing is done by a {@link CompiledNumberFormat}.
  *
  * @author Anatole Tresch
  * @author Werner Keil
@@ -40,9 +34,7 @@ final class AmountNumberToken implements FormatToken {
 
     private final AmountFormatContext amountFormatContext;
     private final String partialNumberPattern;
-    private DecimalFormat parseFormat;
-    private DecimalFormat formatFormat;
-    private StringGrouper numberGroup;
+    private final CompiledNumberFormat numberFormat;
 
     AmountNumberToken(AmountFormatContext amountFormatContext, String partialNumberPattern) {
         this.amountFormatContext = Optional.ofNullable(amountFormatContext)
@@ -50,19 +42,7 @@ final class AmountNumberToken implements FormatToken {
                         () -> new IllegalArgumentException(
                                 "amountFormatContext is required."));
         this.partialNumberPattern = partialNumberPattern;
-        initDecimalFormats();
-    }
-
-    private void initDecimalFormats() {
-        formatFormat = (DecimalFormat) DecimalFormat.getInstance(amountFormatContext.get(Locale.class));
-        parseFormat = (DecimalFormat) DecimalFormat.getInstance(amountFormatContext.get(Locale.class));
-        DecimalFormatSymbols syms = amountFormatContext.get(DecimalFormatSymbols.class);
-        if (Objects.nonNull(syms)) {
-            formatFormat.setDecimalFormatSymbols(syms);
-            parseFormat.setDecimalFormatSymbols(syms);
-        }
-        formatFormat.applyPattern(this.partialNumberPattern);
-        parseFormat.applyPattern(this.partialNumberPattern.trim());
+        this.numberFormat = new CompiledNumberFormat(amountFormatContext, partialNumberPattern);
     }
 
     /**
@@ -87,77 +67,12 @@ final class AmountNumberToken implements FormatToken {
     @Override
     public void print(Appendable appendable, MonetaryAmount amount)
             throws IOException {
-        if (amountFormatContext.get(AmountFormatParams.GROUPING_SIZES, int[].class) == null ||
-                amountFormatContext.get(AmountFormatParams.GROUPING_SIZES, int[].class).length == 0) {
-            appendable.append(this.formatFormat.format(amount.getNumber()
-                    .numberValue(BigDecimal.class)));
-            return;
-        }
-        this.formatFormat.setGroupingUsed(false);
-        String preformattedValue = this.formatFormat.format(amount.getNumber()
-                .numberValue(BigDecimal.class));
-        String[] numberParts = splitNumberParts(this.formatFormat,
-                preformattedValue);
-        if (numberParts.length != 2) {
-            appendable.append(preformattedValue);
-        } else {
-            if (Objects.isNull(numberGroup)) {
-                char[] groupChars = amountFormatContext.get(AmountFormatParams.GROUPING_GROUPING_SEPARATORS, char[].class);
-                if (groupChars == null || groupChars.length == 0) {
-                    groupChars = new char[]{this.formatFormat
-                            .getDecimalFormatSymbols().getGroupingSeparator()};
-                }
-                int[] groupSizes = amountFormatContext.get(AmountFormatParams.GROUPING_SIZES, int[].class);
-                if (groupSizes == null) {
-                    groupSizes = new int[0];
-                }
-                numberGroup = new StringGrouper(groupChars, groupSizes);
-            }
-            preformattedValue = numberGroup.group(numberParts[0])
-                    + this.formatFormat.getDecimalFormatSymbols()
-                    .getDecimalSeparator() + numberParts[1];
-            appendable.append(preformattedValue);
-        }
-    }
-
-    private String[] splitNumberParts(DecimalFormat format,
-                                      String preformattedValue) {
-        int index = preformattedValue.indexOf(format.getDecimalFormatSymbols()
-                .getDecimalSeparator());
-        if (index < 0) {
-            return new String[]{preformattedValue};
-        }
-        return new String[]{preformattedValue.substring(0, index),
-                preformattedValue.substring(index + 1)};
+        this.numberFormat.print(appendable, amount);
     }
 
     @Override
     public void parse(ParseContext context) throws MonetaryParseException {
-        String token = context.lookupNextToken();
-        if (Objects.nonNull(token) && !context.isComplete()) {
-            parseToken(context, token);
-            if (context.hasError()) {
-                throw new MonetaryParseException(context.getErrorMessage(), context.getInput(), context.getIndex());
-            }
-        } else {
-            context.setError();
-            context.setErrorMessage("Number expected.");
-        }
-    }
-
-    private void parseToken(ParseContext context, String token) {
-        try {
-            Number number = this.parseFormat.parse(token);
-            if (Objects.nonNull(number)) {
-                context.setParsedNumber(number);
-                context.consume(token);
-            }
-        } catch (Exception e) {
-            Logger.getLogger(getClass().getName()).finest(
-                    "Could not parse amount from: " + token);
-            context.setError();
-            context.setErrorMessage(e.getMessage());
-        }
+        this.numberFormat.parse(context);
     }
 
 }
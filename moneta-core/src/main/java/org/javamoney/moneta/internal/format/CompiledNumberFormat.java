@@ -0,0 +1,476 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.internal.format;
+
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.format.AmountFormatParams;
+import org.javamoney.moneta.internal.FastMoneyMath;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.ParsePosition;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+
+import javax.money.MonetaryAmount;
+import javax.money.format.AmountFormatContext;
+import javax.money.format.MonetaryParseException;
+
+/**
+ * Number format compiled from a {@link DecimalFormat} pattern and an {@link AmountFormatContext}. The
+ * pattern is evaluated once, when the instance is created. Printing writes the digits directly from the
+ * internal long of a {@link FastMoney}, or from the unscaled value of the amount's {@link BigDecimal}, applying
+ * the prefixes, suffixes, fraction digits, rounding mode and grouping of the pattern.
+ * <p>
+ * Grouping uses the sizes and separators set as {@link AmountFormatParams#GROUPING_SIZES} and
+ * {@link AmountFormatParams#GROUPING_GROUPING_SEPARATORS}, both starting from the decimal point, where the
+ * last size and separator are repeated. If no sizes are set, the grouping of the pattern is used.
+ * </p>
+ * Parsing reads the prefix, digits, group and decimal separators and the suffix in a single pass directly
+ * from the input, accumulating the digits into a <code>long</code>, or a {@link BigInteger} for more than
+ * 18 digits. Like {@link DecimalFormat} with a trimmed pattern, leading and trailing whitespaces of prefixes
+ * and suffixes are ignored when parsing, as well as whitespaces between the prefix and the digits.
+ * <p>
+ * Patterns, which can not be compiled, i.e. exponential patterns or patterns using a percent or per mille
+ * multiplier, are printed and parsed by a copy of the {@link DecimalFormat}.
+ * <p>
+ * This class is thread safe and immutable.
+ *
+ * @author Anatole Tresch
+ * @author Werner Keil
+ */
+final class CompiledNumberFormat {
+
+    /**
+     * The international Unicode currency sign.
+     */
+    private static final char CURRENCY_SIGN = '\u00A4';
+
+    /**
+     * The maximal number of digits, that are handled as <code>long</code>.
+     */
+    private static final int MAX_LONG_DIGITS = 18;
+
+    /**
+     * The factor for appending {@link #MAX_LONG_DIGITS} digits to a {@link BigInteger}.
+     */
+    private static final BigInteger LONG_DIGITS_FACTOR = BigInteger.valueOf(FastMoneyMath.powerOfTen(MAX_LONG_DIGITS));
+
+    private final String positivePrefix;
+    private final String positiveSuffix;
+    private final String negativePrefix;
+    private final String negativeSuffix;
+    private final String parsePositivePrefix;
+    private final String parsePositiveSuffix;
+    private final String parseNegativePrefix;
+    private final String parseNegativeSuffix;
+    private final int minimumIntegerDigits;
+    private final int minimumFractionDigits;
+    private final int maximumFractionDigits;
+    private final boolean decimalSeparatorAlwaysShown;
+    private final RoundingMode roundingMode;
+    private final char zeroDigit;
+    private final char decimalSeparator;
+
+    /**
+     * The group sizes, starting from the decimal point, empty for no grouping.
+     */
+    private final int[] groupSizes;
+
+    /**
+     * The number of integer digits in front of each group separator, accumulated from {@link #groupSizes}.
+     */
+    private final int[] groupBoundaries;
+
+    /**
+     * The group separators, starting from the decimal point.
+     */
+    private final char[] groupSeparators;
+
+    /**
+     * The format used for patterns, which can not be compiled, or null. It is never used directly, but
+     * cloned for each amount printed.
+     */
+    private final DecimalFormat fallbackFormat;
+
+    /**
+     * The format used for parsing patterns, which can not be compiled, or null. It is never used directly,
+     * but cloned for each text parsed.
+     */
+    private final DecimalFormat fallbackParseFormat;
+
+    /**
+     * Compiles the given pattern.
+     *
+     * @param amountFormatContext the context, providing the {@link Locale}, the {@link DecimalFormatSymbols}
+     *                            and grouping, not {@code null}.
+     * @param pattern             the (partial) {@link DecimalFormat} pattern, not {@code null}.
+     */
+    CompiledNumberFormat(AmountFormatContext amountFormatContext, String pattern) {
+        DecimalFormat format = (DecimalFormat) DecimalFormat.getInstance(amountFormatContext.get(Locale.class));
+        DecimalFormatSymbols syms = amountFormatContext.get(DecimalFormatSymbols.class);
+        if (Objects.nonNull(syms)) {
+            format.setDecimalFormatSymbols(syms);
+        }
+        format.applyPattern(pattern);
+        syms = format.getDecimalFormatSymbols();
+        this.positivePrefix = format.getPositivePrefix();
+        this.positiveSuffix = format.getPositiveSuffix();
+        this.negativePrefix = format.getNegativePrefix();
+        this.negativeSuffix = format.getNegativeSuffix();
+        this.parsePositivePrefix = positivePrefix.trim();
+        this.parsePositiveSuffix = positiveSuffix.trim();
+        this.parseNegativePrefix = negativePrefix.trim();
+        this.parseNegativeSuffix = negativeSuffix.trim();
+        this.minimumIntegerDigits = format.getMinimumIntegerDigits();
+        this.minimumFractionDigits = format.getMinimumFractionDigits();
+        this.maximumFractionDigits = format.getMaximumFractionDigits();
+        this.decimalSeparatorAlwaysShown = format.isDecimalSeparatorAlwaysShown();
+        this.roundingMode = format.getRoundingMode();
+        this.zeroDigit = syms.getZeroDigit();
+        this.decimalSeparator = pattern.indexOf(CURRENCY_SIGN) < 0 ? syms.getDecimalSeparator()
+                : syms.getMonetaryDecimalSeparator();
+        int[] sizes = amountFormatContext.get(AmountFormatParams.GROUPING_SIZES, int[].class);
+        char[] separators = amountFormatContext.get(AmountFormatParams.GROUPING_GROUPING_SEPARATORS, char[].class);
+        if (Objects.nonNull(sizes) && sizes.length > 0) {
+            sizes = sizes.clone();
+            if (Objects.isNull(separators) || separators.length == 0) {
+                separators = new char[]{syms.getGroupingSeparator()};
+            }
+        } else if (format.isGroupingUsed() && format.getGroupingSize() > 0) {
+            sizes = new int[]{format.getGroupingSize()};
+            separators = new char[]{syms.getGroupingSeparator()};
+        } else {
+            sizes = new int[0];
+        }
+        if (Arrays.stream(sizes).anyMatch(size -> size <= 0)) {
+            sizes = new int[0];
+        }
+        this.groupSizes = sizes;
+        this.groupSeparators = sizes.length == 0 ? new char[0] : separators.clone();
+        this.groupBoundaries = new int[sizes.length];
+        for (int i = 0, boundary = 0; i < sizes.length; i++) {
+            boundary += sizes[i];
+            this.groupBoundaries[i] = boundary;
+        }
+        if (format.getMultiplier() != 1 || format.getMaximumIntegerDigits() != Integer.MAX_VALUE) {
+            this.fallbackFormat = format;
+            this.fallbackParseFormat = (DecimalFormat) format.clone();
+            this.fallbackParseFormat.applyPattern(pattern.trim());
+            this.fallbackParseFormat.setParseBigDecimal(true);
+        } else {
+            this.fallbackFormat = null;
+            this.fallbackParseFormat = null;
+        }
+    }
+
+    /**
+     * Prints the number of the given amount.
+     *
+     * @param appendable the target, not {@code null}.
+     * @param amount     the amount, not {@code null}.
+     * @throws IOException thrown by the {@link Appendable} on appending.
+     */
+    public void print(Appendable appendable, MonetaryAmount amount) throws IOException {
+        if (Objects.nonNull(fallbackFormat)) {
+            appendable.append(((DecimalFormat) fallbackFormat.clone())
+                    .format(amount.getNumber().numberValue(BigDecimal.class)));
+            return;
+        }
+        if (amount instanceof FastMoney) {
+            FastMoney fastMoney = (FastMoney) amount;
+            long scaledNumber = fastMoney.getScaledNumber();
+            if (scaledNumber != Long.MIN_VALUE) {
+                print(appendable, scaledNumber, fastMoney.getScale());
+                return;
+            }
+        }
+        print(appendable, amount.getNumber().numberValue(BigDecimal.class));
+    }
+
+    /**
+     * Prints a scaled number, e.g. {@code 1234} with scale {@code 2} for {@code 12.34}.
+     *
+     * @param appendable the target, not {@code null}.
+     * @param number     the unscaled number, not {@link Long#MIN_VALUE}.
+     * @param scale      the scale, {@code 0 <= scale <= 18}.
+     * @throws IOException thrown by the {@link Appendable} on appending.
+     */
+    private void print(Appendable appendable, long number, int scale) throws IOException {
+        boolean negative = number < 0;
+        if (scale > maximumFractionDigits) {
+            number = FastMoneyMath.divide(number, FastMoneyMath.powerOfTen(scale - maximumFractionDigits),
+                    roundingMode);
+            scale = maximumFractionDigits;
+        }
+        printDigits(appendable, negative, Math.abs(number), null, scale);
+    }
+
+    /**
+     * Prints a {@link BigDecimal}. Its unscaled value is accessed as <code>long</code>, if the precision
+     * allows.
+     *
+     * @param appendable the target, not {@code null}.
+     * @param number     the number, not {@code null}.
+     * @throws IOException thrown by the {@link Appendable} on appending.
+     */
+    private void print(Appendable appendable, BigDecimal number) throws IOException {
+        boolean negative = number.signum() < 0;
+        if (number.scale() > maximumFractionDigits) {
+            number = number.setScale(maximumFractionDigits, roundingMode);
+        }
+        if (number.precision() <= MAX_LONG_DIGITS) {
+            long unscaled = number.scale() == 0 ? number.longValue()
+                    : number.scaleByPowerOfTen(number.scale()).longValue();
+            printDigits(appendable, negative, Math.abs(unscaled), null, number.scale());
+        } else {
+            printDigits(appendable, negative, 0L, number.unscaledValue().abs().toString(), number.scale());
+        }
+    }
+
+    /**
+     * Prints the digits of an unscaled number, either given as <code>long</code>, or as decimal digits.
+     *
+     * @param appendable the target, not {@code null}.
+     * @param negative   whether the negative prefix and suffix are printed.
+     * @param magnitude  the absolute unscaled value, ignored if {@code digits} are given.
+     * @param digits     the decimal digits of the absolute unscaled value, or {@code null}.
+     * @param scale      the scale, not greater than the maximum fraction digits.
+     * @throws IOException thrown by the {@link Appendable} on appending.
+     */
+    private void printDigits(Appendable appendable, boolean negative, long magnitude, CharSequence digits,
+                             int scale) throws IOException {
+        int digitCount = Objects.isNull(digits) ? digitCount(magnitude) : digits.length();
+        int integerDigits = Math.max(digitCount - scale, 0);
+        int fractionStart = digitCount - scale;
+        int fractionDigits = Math.max(scale, 0);
+        while (fractionDigits > minimumFractionDigits
+                && digitAt(magnitude, digits, digitCount, fractionStart + fractionDigits - 1) == 0) {
+            fractionDigits--;
+        }
+        appendable.append(negative ? negativePrefix : positivePrefix);
+        int printedIntegerDigits = Math.max(integerDigits, minimumIntegerDigits);
+        int padding = printedIntegerDigits - integerDigits;
+        for (int i = 0; i < printedIntegerDigits; i++) {
+            int digit = i < padding ? 0 : digitAt(magnitude, digits, digitCount, i - padding);
+            appendable.append((char) (zeroDigit + digit));
+            int group = groupIndex(printedIntegerDigits - 1 - i);
+            if (group >= 0) {
+                appendable.append(groupSeparators[Math.min(group, groupSeparators.length - 1)]);
+            }
+        }
+        int printedFractionDigits = Math.max(fractionDigits, minimumFractionDigits);
+        if (printedIntegerDigits == 0 && printedFractionDigits == 0) {
+            appendable.append(zeroDigit);
+        }
+        if (printedFractionDigits > 0 || decimalSeparatorAlwaysShown) {
+            appendable.append(decimalSeparator);
+        }
+        for (int i = 0; i < printedFractionDigits; i++) {
+            int digit = i < fractionDigits ? digitAt(magnitude, digits, digitCount, fractionStart + i) : 0;
+            appendable.append((char) (zeroDigit + digit));
+        }
+        appendable.append(negative ? negativeSuffix : positiveSuffix);
+    }
+
+    /**
+     * Evaluates the group separator to be printed after an integer digit.
+     *
+     * @param remainingDigits the number of integer digits following.
+     * @return the index of the group ending, or -1, if no separator is printed.
+     */
+    private int groupIndex(int remainingDigits) {
+        if (remainingDigits <= 0 || groupSizes.length == 0) {
+            return -1;
+        }
+        int last = groupBoundaries.length - 1;
+        for (int i = 0; i <= last && groupBoundaries[i] <= remainingDigits; i++) {
+            if (groupBoundaries[i] == remainingDigits) {
+                return i;
+            }
+        }
+        int repeated = remainingDigits - groupBoundaries[last];
+        if (repeated > 0 && repeated % groupSizes[last] == 0) {
+            return last + repeated / groupSizes[last];
+        }
+        return -1;
+    }
+
+    /**
+     * Access a digit of the unscaled number.
+     *
+     * @param magnitude  the absolute unscaled value, ignored if {@code digits} are given.
+     * @param digits     the decimal digits of the absolute unscaled value, or {@code null}.
+     * @param digitCount the number of digits of the unscaled value.
+     * @param index      the index of the digit, starting with the most significant one. Indices outside
+     *                   of the digits are leading or trailing zeros.
+     * @return the digit.
+     */
+    private static int digitAt(long magnitude, CharSequence digits, int digitCount, int index) {
+        if (index < 0 || index >= digitCount) {
+            return 0;
+        }
+        if (Objects.nonNull(digits)) {
+            return digits.charAt(index) - '0';
+        }
+        return (int) (magnitude / FastMoneyMath.powerOfTen(digitCount - 1 - index) % 10);
+    }
+
+    /**
+     * Counts the decimal digits of a non negative number, where zero has no digits.
+     *
+     * @param magnitude the number, not negative.
+     * @return the number of digits.
+     */
+    private static int digitCount(long magnitude) {
+        int count = 0;
+        while (count <= MAX_LONG_DIGITS && magnitude >= FastMoneyMath.powerOfTen(count)) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Parses a number at the current position of the context, after skipping any whitespaces. On success the
+     * number is set as {@link BigDecimal} and the position is moved behind the number's suffix.
+     *
+     * @param context the context, not {@code null}.
+     * @throws MonetaryParseException if no number matching the pattern is found.
+     */
+    public void parse(ParseContext context) throws MonetaryParseException {
+        int start = context.skipWhitespace();
+        if (Objects.nonNull(fallbackParseFormat)) {
+            parseFallback(context, start);
+            return;
+        }
+        CharSequence text = context.getText();
+        boolean positive = context.regionMatches(start, parsePositivePrefix);
+        boolean negative = context.regionMatches(start, parseNegativePrefix);
+        if (positive && negative && parsePositivePrefix.length() != parseNegativePrefix.length()) {
+            positive = parsePositivePrefix.length() > parseNegativePrefix.length();
+            negative = !positive;
+        } else if (!positive && !negative) {
+            throw parseError(context, start, "Number expected.");
+        }
+        int pos = start + (positive ? parsePositivePrefix.length() : parseNegativePrefix.length());
+        while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+            pos++;
+        }
+        long unscaled = 0L;
+        int unscaledDigits = 0;
+        BigInteger bigUnscaled = null;
+        int digitCount = 0;
+        int scale = 0;
+        boolean decimal = false;
+        while (pos < text.length()) {
+            char ch = text.charAt(pos);
+            int digit = digit(ch);
+            if (digit >= 0) {
+                if (unscaledDigits == MAX_LONG_DIGITS) {
+                    bigUnscaled = append(bigUnscaled, LONG_DIGITS_FACTOR, unscaled);
+                    unscaled = 0L;
+                    unscaledDigits = 0;
+                }
+                unscaled = unscaled * 10 + digit;
+                unscaledDigits++;
+                digitCount++;
+                if (decimal) {
+                    scale++;
+                }
+            } else if (ch == decimalSeparator && !decimal) {
+                decimal = true;
+            } else if (decimal || digitCount == 0 || !isGroupSeparator(ch) || pos + 1 == text.length()
+                    || digit(text.charAt(pos + 1)) < 0) {
+                break;
+            }
+            pos++;
+        }
+        if (digitCount == 0) {
+            throw parseError(context, start, "Number expected.");
+        }
+        if (positive && negative) {
+            // same prefixes, the longer suffix matching decides
+            boolean positiveSuffixFound = context.regionMatches(pos, parsePositiveSuffix);
+            negative = context.regionMatches(pos, parseNegativeSuffix)
+                    && (!positiveSuffixFound || parseNegativeSuffix.length() > parsePositiveSuffix.length());
+        }
+        String suffix = negative ? parseNegativeSuffix : parsePositiveSuffix;
+        if (!context.regionMatches(pos, suffix)) {
+            throw parseError(context, pos, "Expected: " + suffix);
+        }
+        BigDecimal number;
+        if (Objects.isNull(bigUnscaled)) {
+            number = BigDecimal.valueOf(negative ? -unscaled : unscaled, scale);
+        } else {
+            bigUnscaled = append(bigUnscaled, BigInteger.valueOf(FastMoneyMath.powerOfTen(unscaledDigits)), unscaled);
+            number = new BigDecimal(negative ? bigUnscaled.negate() : bigUnscaled, scale);
+        }
+        context.setParsedNumber(number);
+        context.setIndex(pos + suffix.length());
+    }
+
+    private void parseFallback(ParseContext context, int start) {
+        ParsePosition position = new ParsePosition(start);
+        Number number = ((DecimalFormat) fallbackParseFormat.clone()).parse(context.getOriginalInput(), position);
+        if (Objects.isNull(number)) {
+            throw parseError(context, position.getErrorIndex(), "Number expected.");
+        }
+        context.setParsedNumber(number);
+        context.setIndex(position.getIndex());
+    }
+
+    private static BigInteger append(BigInteger value, BigInteger factor, long digits) {
+        BigInteger lowDigits = BigInteger.valueOf(digits);
+        return Objects.isNull(value) ? lowDigits : value.multiply(factor).add(lowDigits);
+    }
+
+    private int digit(char ch) {
+        int digit = ch - zeroDigit;
+        if (digit >= 0 && digit <= 9) {
+            return digit;
+        }
+        return Character.digit(ch, 10);
+    }
+
+    private boolean isGroupSeparator(char ch) {
+        for (char separator : groupSeparators) {
+            if (separator == ch) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static MonetaryParseException parseError(ParseContext context, int index, String message) {
+        context.setErrorIndex(index);
+        context.setErrorMessage(message);
+        return new MonetaryParseException(message, context.getText(), index);
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledNumberFormat [positivePrefix='" + positivePrefix + "', positiveSuffix='" + positiveSuffix
+                + "', negativePrefix='" + negativePrefix + "', negativeSuffix='" + negativeSuffix
+                + "', fractionDigits=" + minimumFractionDigits + '-' + maximumFractionDigits
+                + ", groupSizes=" + Arrays.toString(groupSizes) + ']';
+    }
+
+}
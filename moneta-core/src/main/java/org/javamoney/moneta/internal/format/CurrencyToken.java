@@ -21,12 +21,21 @@ import javax.money.CurrencyUnit;
 import javax.money.MonetaryAmount;
 import javax.money.Monetary;
 import javax.money.MonetaryException;
+import javax.money.UnknownCurrencyException;
 import javax.money.format.MonetaryParseException;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Currency;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Implements a {@link FormatToken} that adds a localizable {@link String}, read
@@ -35,6 +44,10 @@ import java.util.ResourceBundle;
  * @author Anatole Tresch
  */
 final class CurrencyToken implements FormatToken {
+    /**
+     * The currency symbols for parsing, by locale.
+     */
+    private static final Map<Locale, SymbolTable> SYMBOL_TABLES = new ConcurrentHashMap<>();
     /**
      * The style defining, how the currency should be localized.
      */
@@ -43,6 +56,10 @@ final class CurrencyToken implements FormatToken {
      * The target locale.
      */
     private final Locale locale;
+    /**
+     * The localized names and symbols evaluated, by style and currency code.
+     */
+    private final Map<CurrencyStyle, Map<String, String>> localizedTokens = new ConcurrentHashMap<>();
 
     /**
      * Creates a new {@link CurrencyToken}.
@@ -88,14 +105,17 @@ final class CurrencyToken implements FormatToken {
      * @return the formatted currency.
      */
     private String getToken(MonetaryAmount amount) {
-        switch (style) {
+        CurrencyStyle currentStyle = this.style;
+        switch (currentStyle) {
             case NUMERIC_CODE:
                 return String.valueOf(amount.getCurrency()
                         .getNumericCode());
             case NAME:
-                return getCurrencyName(amount.getCurrency());
             case SYMBOL:
-                return getCurrencySymbol(amount.getCurrency());
+                CurrencyUnit currency = amount.getCurrency();
+                return localizedTokens.computeIfAbsent(currentStyle, s -> new ConcurrentHashMap<>())
+                        .computeIfAbsent(currency.getCurrencyCode(), code -> currentStyle == CurrencyStyle.NAME
+                                ? getCurrencyName(currency) : getCurrencySymbol(currency));
             default:
             case CODE:
                 return amount.getCurrency().getCurrencyCode();
@@ -155,11 +175,11 @@ final class CurrencyToken implements FormatToken {
 
     /**
      * Parses a currency from the given {@link ParseContext}. Depending on the
-     * current {@link CurrencyStyle} it interprets the next non empty token,
+     * current {@link CurrencyStyle} it reads the input after any whitespaces,
      * either as
      * <ul>
-     * <li>currency code
-     * <li>currency symbol
+     * <li>currency code, being the letters following, e.g. 'CHF' from 'CHF100.34'
+     * <li>currency symbol of the target locale, or currency code
      * </ul>
      * Parsing of localized currency names or numeric code is not supported.
      *
@@ -169,74 +189,79 @@ final class CurrencyToken implements FormatToken {
     @Override
     public void parse(ParseContext context)
             throws MonetaryParseException {
-        String token = context.lookupNextToken();
-        while (Objects.nonNull(token)) {
-            if (token.trim().isEmpty()) {
-                context.consume(token);
-                token = context.lookupNextToken();
-                continue;
-            }
-            break;
+        int index = context.skipWhitespace();
+        switch (style) {
+            case CODE:
+                parseCurrencyCode(context, index);
+                break;
+            case SYMBOL:
+                if (!parseCurrencySymbol(context, index)) {
+                    parseCurrencyCode(context, index);
+                }
+                break;
+            case NAME:
+            case NUMERIC_CODE:
+            default:
+                throw new MonetaryException("Error parsing CurrencyUnit.",
+                        new UnsupportedOperationException("Not yet implemented"));
         }
-        try {
-            CurrencyUnit cur;
-            switch (style) {
-                case CODE:
-                    if (!Monetary.isCurrencyAvailable(token)) {
-                        // Perhaps blank is missing between currency code and number...
-                        String subCurrency = parseCurrencyCode(token);
-                        cur = Monetary.getCurrency(subCurrency);
-                        context.consume(subCurrency);
-                    } else {
-                        cur = Monetary.getCurrency(token);
-                        context.consume(token);
-                    }
-                    break;
-                case SYMBOL:
-                    if (token.startsWith("$")) {
-                        cur = Monetary.getCurrency("USD");
-                        context.consume("$");
-                    } else if (token.startsWith("€")) {
-                        cur = Monetary.getCurrency("EUR");
-                        context.consume("€");
-                    } else if (token.startsWith("£")) {
-                        cur = Monetary.getCurrency("GBP");
-                        context.consume("£");
-                    } else {
-                        cur = Monetary.getCurrency(token);
-                        context.consume(token);
-                    }
-                    context.setParsedCurrency(cur);
-                    break;
-                case NAME:
-                case NUMERIC_CODE:
-                default:
-                    throw new UnsupportedOperationException("Not yet implemented");
-            }
-            if (Objects.nonNull(cur)) {
-                context.setParsedCurrency(cur);
+    }
+
+    /**
+     * Reads the letters at the given index as currency code.
+     *
+     * @param context the context, not {@code null}.
+     * @param index   the start index of the code.
+     */
+    private static void parseCurrencyCode(ParseContext context, int index) {
+        CharSequence text = context.getText();
+        int end = index;
+        while (end < text.length() && Character.isLetter(text.charAt(end))) {
+            end++;
+        }
+        CurrencyUnit currency = null;
+        if (end > index) {
+            try {
+                currency = Monetary.getCurrency(text.subSequence(index, end).toString());
+            } catch (UnknownCurrencyException e) {
+                // reported as parse error below
             }
-        } catch (Exception e) {
-            throw new MonetaryException("Error parsing CurrencyUnit.", e);
         }
+        if (Objects.isNull(currency)) {
+            context.setErrorIndex(index);
+            context.setErrorMessage("Currency code expected.");
+            throw new MonetaryParseException(context.getErrorMessage(), text, index);
+        }
+        context.setParsedCurrency(currency);
+        context.setIndex(end);
     }
 
     /**
-     * Tries to split up a letter based first part, e.g. for evaluating a ISO currency code from an input as
-     * 'CHF100.34'.
-     * @param token the input token
-     * @return the first letter based part, or the full token.
+     * Tries to read a currency symbol of the target locale at the given index, the longest symbol matching
+     * wins. Symbols ending with a letter must not be followed by another letter, so e.g. 'R' does not match
+     * the code 'RUB'.
+     *
+     * @param context the context, not {@code null}.
+     * @param index   the start index of the symbol.
+     * @return true, if a symbol was found.
      */
-    private String parseCurrencyCode(String token) {
-        int letterIndex = 0;
-        for (char ch : token.toCharArray()) {
-            if (Character.isLetter(ch)) {
-                letterIndex++;
-            } else {
-                return token.substring(0, letterIndex);
+    private boolean parseCurrencySymbol(ParseContext context, int index) {
+        CharSequence text = context.getText();
+        if (index >= text.length()) {
+            return false;
+        }
+        SymbolTable table = SYMBOL_TABLES.computeIfAbsent(locale, SymbolTable::new);
+        for (String symbol : table.getSymbols(text.charAt(index))) {
+            int end = index + symbol.length();
+            if (context.regionMatches(index, symbol) && !(end < text.length()
+                    && Character.isLetter(symbol.charAt(symbol.length() - 1))
+                    && Character.isLetter(text.charAt(end)))) {
+                context.setParsedCurrency(Monetary.getCurrency(table.codes.get(symbol)));
+                context.setIndex(end);
+                return true;
             }
         }
-        return token;
+        return false;
     }
 
     /**
@@ -248,7 +273,32 @@ final class CurrencyToken implements FormatToken {
     @Override
     public void print(Appendable appendable, MonetaryAmount amount)
             throws IOException {
-        appendable.append(getToken(amount));
+        if (style == CurrencyStyle.NUMERIC_CODE) {
+            printNumericCode(appendable, amount.getCurrency().getNumericCode());
+        } else {
+            appendable.append(getToken(amount));
+        }
+    }
+
+    /**
+     * Prints a numeric currency code digit by digit, without creating a {@link String}.
+     *
+     * @param appendable the target, not {@code null}.
+     * @param code       the numeric code, -1 if not defined.
+     * @throws IOException may be thrown by the {@link Appendable}
+     */
+    private static void printNumericCode(Appendable appendable, int code) throws IOException {
+        if (code < 0) {
+            appendable.append('-');
+            code = -code;
+        }
+        int divisor = 1;
+        while (code / divisor >= 10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            appendable.append((char) ('0' + code / divisor % 10));
+        }
     }
 
     /*
@@ -261,4 +311,54 @@ final class CurrencyToken implements FormatToken {
         return "CurrencyToken [locale=" + locale + ", style=" + style + ']';
     }
 
+    /**
+     * The currency symbols of a locale, indexed by their first character and ordered by descending length, so
+     * only the symbols starting like the input are compared and the longest symbol matching is found first.
+     * Symbols being equal to the currency code are left out, as well as symbols shared by several currencies.
+     * The symbols '$', '€' and '£' are mapped to USD, EUR and GBP, unless the locale uses them for exactly one other
+     * currency.
+     */
+    private static final class SymbolTable {
+        private static final String[] NO_SYMBOLS = new String[0];
+        private final Map<Character, String[]> symbols = new HashMap<>();
+        private final Map<String, String> codes = new HashMap<>();
+
+        SymbolTable(Locale locale) {
+            Set<String> ambiguous = new HashSet<>();
+            for (Currency currency : Currency.getAvailableCurrencies()) {
+                String symbol = currency.getSymbol(locale);
+                if (symbol.isEmpty() || symbol.equals(currency.getCurrencyCode())) {
+                    continue;
+                }
+                if (Objects.nonNull(codes.putIfAbsent(symbol, currency.getCurrencyCode()))) {
+                    ambiguous.add(symbol);
+                }
+            }
+            codes.keySet().removeAll(ambiguous);
+            codes.putIfAbsent("$", "USD");
+            codes.putIfAbsent("\u20AC", "EUR");
+            codes.putIfAbsent("\u00A3", "GBP");
+            Map<Character, List<String>> grouped = new HashMap<>();
+            for (String symbol : codes.keySet()) {
+                grouped.computeIfAbsent(symbol.charAt(0), c -> new ArrayList<>()).add(symbol);
+            }
+            for (Map.Entry<Character, List<String>> entry : grouped.entrySet()) {
+                List<String> ordered = entry.getValue();
+                ordered.sort(Comparator.comparingInt(String::length).reversed()
+                        .thenComparing(Comparator.naturalOrder()));
+                symbols.put(entry.getKey(), ordered.toArray(new String[ordered.size()]));
+            }
+        }
+
+        /**
+         * Access the symbols starting with the given character.
+         *
+         * @param first the first character of the input.
+         * @return the symbols, longest first, never {@code null}.
+         */
+        String[] getSymbols(char first) {
+            return symbols.getOrDefault(first, NO_SYMBOLS);
+        }
+    }
+
 }
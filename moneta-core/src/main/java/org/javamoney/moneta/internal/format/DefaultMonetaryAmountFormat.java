@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
@@ -36,9 +37,9 @@ import javax.money.format.MonetaryParseException;
  * Formats instances of {@code MonetaryAmount} to a {@link String} or an
  * {@link Appendable}.
  * <p>
- * Instances of this class are not thread-safe. Basically when using
- * {@link MonetaryAmountFormat} instances a new instance should be created on
- * each access.
+ * Instances of this class are thread-safe and immutable: the pattern is compiled
+ * into tokens once, when the instance is created, so instances can be shared.
+ * Numbers are printed by {@link CompiledNumberFormat}.
  *
  * @author Anatole Tresch
  * @author Werner Keil
@@ -54,18 +55,17 @@ final class DefaultMonetaryAmountFormat implements MonetaryAmountFormat {
      * The tokens to be used for formatting/parsing of positive and zero
      * numbers.
      */
-    private List<FormatToken> positiveTokens;
+    private final List<FormatToken> positiveTokens;
 
     /**
-     * The tokens to be used for formatting/parsing of positive and zero
-     * numbers.
+     * The tokens to be used for formatting/parsing of negative numbers.
      */
-    private List<FormatToken> negativeTokens;
+    private final List<FormatToken> negativeTokens;
 
     /**
      * The current {@link javax.money.format.AmountFormatContext}, never null.
      */
-    private AmountFormatContext amountFormatContext;
+    private final AmountFormatContext amountFormatContext;
 
 
     /**
@@ -74,7 +74,32 @@ final class DefaultMonetaryAmountFormat implements MonetaryAmountFormat {
      * @param amountFormatContext the {@link javax.money.format.AmountFormatContext} to be used, not {@code null}.
      */
     DefaultMonetaryAmountFormat(AmountFormatContext amountFormatContext) {
-        setAmountFormatContext(amountFormatContext);
+        this.amountFormatContext = Objects.requireNonNull(amountFormatContext);
+        List<FormatToken> positive = new ArrayList<>();
+        List<FormatToken> negative = new ArrayList<>();
+        String pattern = amountFormatContext.getText("pattern");
+        if (pattern == null) {
+            pattern = ((DecimalFormat) DecimalFormat.getCurrencyInstance(amountFormatContext.getLocale())).toPattern();
+        }
+        if (pattern.indexOf(CURRENCY_SIGN) < 0) {
+            positive.add(new AmountNumberToken(amountFormatContext, pattern));
+            negative = positive;
+        } else {
+            // split into (potential) plus, minus patterns
+            char patternSeparator = ';';
+            if (Objects.nonNull(amountFormatContext.get(DecimalFormatSymbols.class))) {
+                patternSeparator = amountFormatContext.get(DecimalFormatSymbols.class).getPatternSeparator();
+            }
+            String[] plusMinusPatterns = pattern.split(String.valueOf(patternSeparator));
+            initPattern(plusMinusPatterns[0], positive, amountFormatContext);
+            if (plusMinusPatterns.length > 1) {
+                initPattern(plusMinusPatterns[1], negative, amountFormatContext);
+            } else {
+                negative = positive;
+            }
+        }
+        this.positiveTokens = Collections.unmodifiableList(positive);
+        this.negativeTokens = negative == positive ? this.positiveTokens : Collections.unmodifiableList(negative);
     }
 
     private void initPattern(String pattern, List<FormatToken> tokens,
@@ -186,6 +211,7 @@ final class DefaultMonetaryAmountFormat implements MonetaryAmountFormat {
                         "Failed to parse positive pattern, trying negative for: "
                                 + text, e);
             }
+            ctx.reset();
             for (FormatToken token : this.negativeTokens) {
                 token.parse(ctx);
             }
@@ -220,33 +246,4 @@ final class DefaultMonetaryAmountFormat implements MonetaryAmountFormat {
         return this.amountFormatContext;
     }
 
-    private void setAmountFormatContext(AmountFormatContext amountFormatContext) {
-        Objects.requireNonNull(amountFormatContext);
-        this.amountFormatContext = amountFormatContext;
-        this.positiveTokens = new ArrayList<>();
-        this.negativeTokens = new ArrayList<>();
-        String pattern = amountFormatContext.getText("pattern");
-        if (pattern == null) {
-            pattern = ((DecimalFormat) DecimalFormat.getCurrencyInstance(amountFormatContext.getLocale())).toPattern();
-        }
-        if (pattern.indexOf(CURRENCY_SIGN) < 0) {
-            this.positiveTokens.add(new AmountNumberToken(amountFormatContext, pattern));
-            this.negativeTokens = positiveTokens;
-        } else {
-            // split into (potential) plus, minus patterns
-            char patternSeparator = ';';
-            if (Objects.nonNull(amountFormatContext.get(DecimalFormatSymbols.class))) {
-                patternSeparator = amountFormatContext.get(DecimalFormatSymbols.class).getPatternSeparator();
-            }
-            String[] plusMinusPatterns = pattern.split(String.valueOf(patternSeparator));
-            initPattern(plusMinusPatterns[0], this.positiveTokens, amountFormatContext);
-            if (plusMinusPatterns.length > 1) {
-                initPattern(plusMinusPatterns[1], this.negativeTokens, amountFormatContext);
-            } else {
-                this.negativeTokens = this.positiveTokens;
-            }
-        }
-    }
-
-
 }
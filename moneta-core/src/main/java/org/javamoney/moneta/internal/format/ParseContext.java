@@ -96,13 +96,32 @@ final class ParseContext {
      * by {@code token.size()}.
      */
     public boolean consume(String token) {
-        if (getInput().toString().startsWith(token)) {
+        if (regionMatches(index, token)) {
             index += token.length();
             return true;
         }
         return false;
     }
 
+    /**
+     * Checks if the input contains the given token at the given position, without copying the input.
+     *
+     * @param start the position within the input.
+     * @param token The token expected.
+     * @return true, if the input contains the token at the given position.
+     */
+    public boolean regionMatches(int start, String token) {
+        if (start < 0 || start + token.length() > originalInput.length()) {
+            return false;
+        }
+        for (int i = 0; i < token.length(); i++) {
+            if (originalInput.charAt(start + i) != token.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Tries to consume one single character.
      *
@@ -179,6 +198,16 @@ final class ParseContext {
         return index;
     }
 
+    /**
+     * Sets the current parse position, e.g. after a token has been read directly from the
+     * {@link #getText() input}.
+     *
+     * @param index the new parse position within the input.
+     */
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
     /**
      * Gets the residual input text starting from the current parse position.
      *
@@ -197,6 +226,15 @@ final class ParseContext {
         return originalInput.toString();
     }
 
+    /**
+     * Gets the full input text as passed, without copying it.
+     *
+     * @return the full input.
+     */
+    public CharSequence getText() {
+        return originalInput;
+    }
+
     /**
      * Resets this instance; this will resetToFallback the parsing position, the error
      * index and also all containing results.
@@ -0,0 +1,303 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.internal.loader;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.javamoney.moneta.spi.MonetaryConfig;
+
+/**
+ * {@link LoaderScheduler} running the loads on a {@link ScheduledExecutorService}. By default a
+ * {@link ScheduledThreadPoolExecutor} with a bounded number of daemon threads is created. Optionally, if
+ * supported by the runtime, this executor only triggers the scheduled loads, while every load runs on its own
+ * virtual thread. A host application can pass its own executors.
+ * <p>
+ * The number of loads running concurrently per resource is limited. Asynchronous loads exceeding the limit
+ * are queued per resource and submitted, when a running load of the same resource completes, so no worker
+ * thread is blocked waiting for a slow resource. Scheduled loads are skipped, while the limit is reached,
+ * so slow loads do not pile up.
+ * </p>
+ * The following configuration entries are read:
+ * <pre>
+ * loader.threads=2
+ * loader.virtualThreads=false
+ * loader.maxConcurrentLoads=1
+ * </pre>
+ */
+public class DefaultLoaderScheduler implements LoaderScheduler {
+
+    private static final Logger LOG = Logger.getLogger(DefaultLoaderScheduler.class.getName());
+
+    /**
+     * Configuration key for the number of threads of the default executor.
+     */
+    public static final String THREADS_KEY = "loader.threads";
+
+    /**
+     * Configuration key to run the loads on virtual threads, if supported by the runtime.
+     */
+    public static final String VIRTUAL_THREADS_KEY = "loader.virtualThreads";
+
+    /**
+     * Configuration key for the maximal number of loads running concurrently per resource.
+     */
+    public static final String MAX_CONCURRENT_LOADS_KEY = "loader.maxConcurrentLoads";
+
+    private static final int DEFAULT_THREADS = 2;
+
+    private final ScheduledExecutorService executor;
+
+    private final Executor loadExecutor;
+
+    private final int maxConcurrentLoads;
+
+    private final Map<String, ResourceLoads> loads = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new instance, using an executor as configured.
+     */
+    public DefaultLoaderScheduler() {
+        this(createExecutor());
+    }
+
+    private DefaultLoaderScheduler(ScheduledExecutorService executor) {
+        this(executor, createLoadExecutor(executor), getConfigValue(MAX_CONCURRENT_LOADS_KEY, 1));
+    }
+
+    /**
+     * Creates a new instance, using the executor passed, e.g. one managed by the host application.
+     *
+     * @param executor           the executor, not null.
+     * @param maxConcurrentLoads the maximal number of loads running concurrently per resource, greater than zero.
+     */
+    public DefaultLoaderScheduler(ScheduledExecutorService executor, int maxConcurrentLoads) {
+        this(executor, executor, maxConcurrentLoads);
+    }
+
+    /**
+     * Creates a new instance, triggering the scheduled loads on {@code executor}, but running all loads on
+     * {@code loadExecutor}.
+     *
+     * @param executor           the executor triggering the scheduled loads, not null.
+     * @param loadExecutor       the executor running the loads, not null.
+     * @param maxConcurrentLoads the maximal number of loads running concurrently per resource, greater than zero.
+     */
+    public DefaultLoaderScheduler(ScheduledExecutorService executor, Executor loadExecutor,
+                                  int maxConcurrentLoads) {
+        if (maxConcurrentLoads <= 0) {
+            throw new IllegalArgumentException("maxConcurrentLoads must be greater than zero: " + maxConcurrentLoads);
+        }
+        this.executor = Objects.requireNonNull(executor, "Executor required.");
+        this.loadExecutor = Objects.requireNonNull(loadExecutor, "Load executor required.");
+        this.maxConcurrentLoads = maxConcurrentLoads;
+    }
+
+    private static ScheduledExecutorService createExecutor() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(
+                getConfigValue(THREADS_KEY, DEFAULT_THREADS), DaemonThreadFactory.INSTANCE);
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    /**
+     * Evaluates the executor running the loads: if configured, an executor starting a virtual thread per load,
+     * available from Java 21 on.
+     *
+     * @param executor the executor triggering the scheduled loads, used if virtual threads are not configured
+     *                 or not supported.
+     * @return the executor running the loads, never null.
+     */
+    private static Executor createLoadExecutor(ScheduledExecutorService executor) {
+        if (!Boolean.parseBoolean(MonetaryConfig.getConfig().get(VIRTUAL_THREADS_KEY))) {
+            return executor;
+        }
+        try {
+            return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (Exception e) {
+            LOG.log(Level.INFO, "Virtual threads not supported, using platform threads for loading.", e);
+            return executor;
+        }
+    }
+
+    private static int getConfigValue(String key, int defaultValue) {
+        String value = MonetaryConfig.getConfig().get(key);
+        if (Objects.isNull(value) || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            int result = Integer.parseInt(value.trim());
+            if (result > 0) {
+                return result;
+            }
+        } catch (NumberFormatException e) {
+            LOG.log(Level.FINEST, "Invalid number: " + value, e);
+        }
+        LOG.warning("Invalid value for " + key + ": " + value + ", using " + defaultValue);
+        return defaultValue;
+    }
+
+    private ResourceLoads getLoads(String resourceId) {
+        return loads.computeIfAbsent(resourceId, id -> new ResourceLoads());
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submit(String resourceId, Callable<T> load) {
+        ResourceLoads resourceLoads = getLoads(resourceId);
+        LoadTask<T> task = new LoadTask<>(load);
+        resourceLoads.submit(task);
+        return task.result;
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(String resourceId, Runnable load, long initialDelay, long period,
+                                                  TimeUnit unit) {
+        ResourceLoads resourceLoads = getLoads(resourceId);
+        return executor.scheduleAtFixedRate(() -> {
+            if (!resourceLoads.tryStart()) {
+                LOG.info("Skipping scheduled load of " + resourceId + ", another load is still running.");
+                return;
+            }
+            resourceLoads.execute(() -> {
+                try {
+                    load.run();
+                } catch (RuntimeException e) {
+                    LOG.log(Level.SEVERE, "Scheduled load failed: " + resourceId, e);
+                }
+            });
+        }, initialDelay, period, unit);
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultLoaderScheduler [executor=" + executor + ", loadExecutor=" + loadExecutor
+                + ", maxConcurrentLoads=" + maxConcurrentLoads + ']';
+    }
+
+    /**
+     * A load, completing a {@link CompletableFuture}, so callers can chain on the load instead of blocking on
+     * it. Cancelling the future cancels the load, if not yet started.
+     */
+    private static final class LoadTask<T> extends FutureTask<T> {
+
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        LoadTask(Callable<T> load) {
+            super(load);
+            result.whenComplete((value, e) -> {
+                if (result.isCancelled()) {
+                    cancel(false);
+                }
+            });
+        }
+
+        @Override
+        protected void done() {
+            try {
+                result.complete(get());
+            } catch (ExecutionException e) {
+                result.completeExceptionally(e.getCause());
+            } catch (CancellationException | InterruptedException e) {
+                result.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * The loads of a single resource: the number of loads running and the loads queued, until a running load
+     * completes.
+     */
+    private final class ResourceLoads {
+
+        private final Queue<FutureTask<?>> queued = new ArrayDeque<>();
+
+        private int running;
+
+        synchronized boolean tryStart() {
+            if (running < maxConcurrentLoads) {
+                running++;
+                return true;
+            }
+            return false;
+        }
+
+        void submit(FutureTask<?> task) {
+            synchronized (this) {
+                if (running >= maxConcurrentLoads) {
+                    queued.add(task);
+                    return;
+                }
+                running++;
+            }
+            execute(task);
+        }
+
+        /**
+         * Called when a load completed, submitting the next load queued, if any.
+         */
+        void completed() {
+            FutureTask<?> next;
+            synchronized (this) {
+                next = queued.poll();
+                if (Objects.isNull(next)) {
+                    running--;
+                    return;
+                }
+            }
+            execute(next);
+        }
+
+        /**
+         * Runs a load already counted as running on the load executor, submitting the next load queued on
+         * completion.
+         */
+        void execute(Runnable task) {
+            try {
+                loadExecutor.execute(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        completed();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                if (task instanceof Future) {
+                    ((Future<?>) task).cancel(false);
+                }
+                completed();
+                throw e;
+            }
+        }
+    }
+}
@@ -18,16 +18,14 @@ package org.javamoney.moneta.internal.loader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.Timer;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -35,6 +33,7 @@ import javax.money.spi.Bootstrap;
 
 import org.javamoney.moneta.spi.LoadDataInformation;
 import org.javamoney.moneta.spi.LoaderService;
+import org.javamoney.moneta.spi.MonetaryConfig;
 
 /**
  * This class provides a mechanism to register resources, that may be updated
@@ -65,40 +64,59 @@ public class DefaultLoaderService implements LoaderService {
      */
     private static final ResourceCache CACHE = loadResourceCache();
     /**
-     * The thread pool used for loading of data, triggered by the timer.
+     * The scheduler running asynchronous and scheduled loads.
      */
-    private final ExecutorService executors = Executors.newCachedThreadPool(DaemonThreadFactory.INSTANCE);
+    private final LoaderScheduler scheduler;
 
-    private DefaultLoaderServiceFacade defaultLoaderServiceFacade;
+    private volatile DefaultLoaderServiceFacade defaultLoaderServiceFacade;
 
     /**
-     * The timer used for schedules.
+     * Constructor, initializing from config.
      */
-    private volatile Timer timer;
+    public DefaultLoaderService() {
+        this(loadScheduler());
+    }
 
     /**
-     * Constructor, initializing from config.
+     * Constructor, initializing from config and running the loads with the given scheduler.
+     *
+     * @param scheduler the scheduler, not null.
      */
-    public DefaultLoaderService() {
+    public DefaultLoaderService(LoaderScheduler scheduler) {
+        this.scheduler = Objects.requireNonNull(scheduler);
         initialize();
     }
 
     /**
-     * This method reads initial loads from the javamoney.properties and installs the according timers.
+     * This method reads initial loads from the javamoney.properties and installs the according schedules.
      */
      void initialize() {
-        // Cancel any running tasks
-        Timer oldTimer = timer;
-        timer = new Timer(true);
-        if (Objects.nonNull(oldTimer)) {
-            oldTimer.cancel();
+        // Cancel any running schedules
+        DefaultLoaderServiceFacade oldFacade = defaultLoaderServiceFacade;
+        if (Objects.nonNull(oldFacade)) {
+            oldFacade.cancelSchedules();
         }
         // (re)initialize
         LoaderConfigurator configurator = new LoaderConfigurator(this);
-        defaultLoaderServiceFacade = new DefaultLoaderServiceFacade(timer, listener, resources);
+        defaultLoaderServiceFacade = new DefaultLoaderServiceFacade(scheduler, listener, resources);
         configurator.load();
     }
 
+    /**
+     * Loads the scheduler to be used.
+     *
+     * @return the scheduler registered as service, or a {@link DefaultLoaderScheduler}.
+     */
+    private static LoaderScheduler loadScheduler() {
+        try {
+            return Optional.ofNullable(Bootstrap.getService(LoaderScheduler.class)).orElseGet(
+                    DefaultLoaderScheduler::new);
+        } catch (Exception e) {
+            LOG.log(Level.SEVERE, "Error loading LoaderScheduler instance.", e);
+            return new DefaultLoaderScheduler();
+        }
+    }
+
     /**
      * Loads the cache to be used.
      *
@@ -107,13 +125,20 @@ public class DefaultLoaderService implements LoaderService {
     private static ResourceCache loadResourceCache() {
         try {
             return Optional.ofNullable(Bootstrap.getService(ResourceCache.class)).orElseGet(
-                    DefaultResourceCache::new);
+                    DefaultLoaderService::createResourceCache);
         } catch (Exception e) {
             LOG.log(Level.SEVERE, "Error loading ResourceCache instance.", e);
             return new DefaultResourceCache();
         }
     }
 
+    private static ResourceCache createResourceCache() {
+        if (Boolean.parseBoolean(MonetaryConfig.getConfig().get(MappedResourceCache.ENABLED_KEY))) {
+            return new MappedResourceCache();
+        }
+        return new DefaultResourceCache();
+    }
+
     /**
      * Get the resource cache loaded.
      *
@@ -248,9 +273,14 @@ public class DefaultLoaderService implements LoaderService {
         return defaultLoaderServiceFacade.loadData(resourceId, resources);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The future returned is a {@link CompletableFuture}, so further work can be chained on the load.
+     */
     @Override
-    public Future<Boolean> loadDataAsync(final String resourceId) {
-        return executors.submit(() -> defaultLoaderServiceFacade.loadData(resourceId, resources));
+    public CompletableFuture<Boolean> loadDataAsync(final String resourceId) {
+        return scheduler.submit(resourceId, () -> defaultLoaderServiceFacade.loadData(resourceId, resources));
     }
 
     @Override
@@ -268,6 +298,20 @@ public class DefaultLoaderService implements LoaderService {
         }
     }
 
+    @Override
+    public ByteBuffer readCache(String cacheId) {
+        ResourceCache cache = getResourceCache();
+        if (!cache.isCached(cacheId)) {
+            return null;
+        }
+        return cache.readBuffer(cacheId);
+    }
+
+    @Override
+    public void writeCache(String cacheId, byte[] data) throws IOException {
+        getResourceCache().write(cacheId, data);
+    }
+
     @Override
     public void addLoaderListener(LoaderListener l, String... resourceIds) {
         if (resourceIds.length == 0) {
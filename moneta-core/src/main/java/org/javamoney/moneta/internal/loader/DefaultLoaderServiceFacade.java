@@ -16,7 +16,6 @@
 package org.javamoney.moneta.internal.loader;
 
 import java.util.Map;
-import java.util.Timer;
 
 class DefaultLoaderServiceFacade {
 
@@ -28,8 +27,8 @@ class DefaultLoaderServiceFacade {
 
 	private final LoadRemoteDataLoaderService loadRemoteDataLoaderService;
 
-	DefaultLoaderServiceFacade(Timer timer, DefaultLoaderListener listener, Map<String, LoadableResource> resources){
-		this.scheduledDataLoaderService = new ScheduledDataLoaderService(timer, listener);
+	DefaultLoaderServiceFacade(LoaderScheduler scheduler, DefaultLoaderListener listener, Map<String, LoadableResource> resources){
+		this.scheduledDataLoaderService = new ScheduledDataLoaderService(scheduler, listener);
 		this.loadDataLoaderService = new LoadDataLoaderService(listener);
 		this.loadDataLocalLoaderService = new LoadDataLocalLoaderService(resources, listener);
 		this.loadRemoteDataLoaderService = new LoadRemoteDataLoaderService(listener);
@@ -39,6 +38,10 @@ class DefaultLoaderServiceFacade {
 		scheduledDataLoaderService.execute(load);
 	}
 
+	public void cancelSchedules() {
+		scheduledDataLoaderService.cancel();
+	}
+
 	public boolean loadData(String resourceId, Map<String, LoadableResource> resources){
 		return loadDataLoaderService.execute(resourceId, resources);
 	}
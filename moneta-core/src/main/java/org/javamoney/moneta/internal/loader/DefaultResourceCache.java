@@ -27,7 +27,9 @@ import java.util.logging.Logger;
 import javax.money.MonetaryException;
 
 /**
- * Default implementation of {@link ResourceCache}, using the local file system.
+ * Default implementation of {@link ResourceCache}, using the local file system. Buffers returned by
+ * {@link #readBuffer(String)} hold a copy of the cached file on the heap; the file is not mapped into memory,
+ * since {@link #write(String, byte[])} rewrites it in place, which would invalidate a mapping still in use.
  *
  * @author Anatole Tresch
  */
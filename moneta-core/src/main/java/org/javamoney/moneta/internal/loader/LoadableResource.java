@@ -15,7 +15,6 @@
  */
 package org.javamoney.moneta.internal.loader;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -23,6 +22,7 @@ import java.lang.ref.SoftReference;
 import java.net.URI;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -76,9 +76,9 @@ public class LoadableResource {
      */
     private final AtomicInteger accessCount = new AtomicInteger();
     /**
-     * The current data array.
+     * The current data, either a heap array loaded or a (memory mapped) buffer read from the cache.
      */
-    private volatile SoftReference<byte[]> data;
+    private volatile SoftReference<ByteBuffer> data;
     /**
      * THe timestamp of the last successful load.
      */
@@ -207,7 +207,7 @@ public class LoadableResource {
      * @return the input stream.
      */
     public InputStream getDataStream() {
-        return new WrappedInputStream(new ByteArrayInputStream(getData()));
+        return new WrappedInputStream(new ByteBufferInputStream(getDataBuffer(true)));
     }
 
     /**
@@ -277,9 +277,9 @@ public class LoadableResource {
     protected boolean readCache() {
         if (this.cache != null) {
             if (this.cache.isCached(resourceId)) {
-                byte[] data = this.cache.read(resourceId);
-                if (data != null) {
-                    setData(data);
+                ByteBuffer buffer = this.cache.readBuffer(resourceId);
+                if (buffer != null) {
+                    this.data = new SoftReference<>(buffer);
                     return true;
                 }
             }
@@ -294,11 +294,11 @@ public class LoadableResource {
      */
     protected void writeCache() throws IOException {
         if (this.cache != null) {
-            byte[] data = this.data == null ? null : this.data.get();
-            if (data == null) {
+            ByteBuffer buffer = this.data == null ? null : this.data.get();
+            if (buffer == null) {
                 return;
             }
-            this.cache.write(resourceId, data);
+            this.cache.write(resourceId, toArray(buffer));
         }
     }
 
@@ -359,10 +359,21 @@ public class LoadableResource {
     }
 
     protected byte[] getData(boolean loadIfNeeded) {
-        byte[] result = this.data == null ? null : this.data.get();
+        ByteBuffer buffer = getDataBuffer(loadIfNeeded);
+        return buffer == null ? null : toArray(buffer);
+    }
+
+    /**
+     * Get the resource data without copying it.
+     *
+     * @param loadIfNeeded true, to trigger a full load, if the resource is not loaded.
+     * @return the data, or null.
+     */
+    private ByteBuffer getDataBuffer(boolean loadIfNeeded) {
+        ByteBuffer result = this.data == null ? null : this.data.get();
         if (result == null && loadIfNeeded) {
             accessCount.incrementAndGet();
-            byte[] currentData = this.data == null ? null : this.data.get();
+            ByteBuffer currentData = this.data == null ? null : this.data.get();
             if (Objects.isNull(currentData)) {
                 synchronized (lock) {
                     currentData = this.data == null ? null : this.data.get();
@@ -377,13 +388,21 @@ public class LoadableResource {
             if (Objects.isNull(currentData)) {
                 throw new IllegalStateException("Failed to load remote as well as fallback resources for " + this);
             }
-            return currentData.clone();
+            return currentData.asReadOnlyBuffer();
         }
-        return result;
+        return result == null ? null : result.asReadOnlyBuffer();
+    }
+
+    private static byte[] toArray(ByteBuffer buffer) {
+        ByteBuffer source = buffer.duplicate();
+        source.rewind();
+        byte[] bytes = new byte[source.remaining()];
+        source.get(bytes);
+        return bytes;
     }
 
     protected final void setData(byte[] bytes) {
-        this.data = new SoftReference<>(bytes);
+        this.data = new SoftReference<>(ByteBuffer.wrap(bytes));
     }
 
 
@@ -436,6 +455,21 @@ public class LoadableResource {
             return wrapped.read();
         }
 
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return wrapped.read(b, off, len);
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            return wrapped.skip(n);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return wrapped.available();
+        }
+
         @Override
         public void close() throws IOException {
             try {
@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.internal.loader;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes the loads of the {@link DefaultLoaderService}, asynchronous as well as scheduled ones. By default
+ * a {@link DefaultLoaderScheduler} is used, another implementation can be registered as service, e.g. to run
+ * loads on an executor of the host application.
+ */
+public interface LoaderScheduler {
+
+    /**
+     * Runs a load of the given resource asynchronously.
+     *
+     * @param resourceId the resource to be loaded, not null.
+     * @param load       the load, not null.
+     * @param <T>        the result type.
+     * @return the future result of the load, allowing to chain further work on its completion.
+     */
+    <T> CompletableFuture<T> submit(String resourceId, Callable<T> load);
+
+    /**
+     * Schedules the given load to be run periodically.
+     *
+     * @param resourceId   the resource to be loaded, not null.
+     * @param load         the load, not null.
+     * @param initialDelay the delay of the first run.
+     * @param period       the period between runs, greater than zero.
+     * @param unit         the unit of {@code initialDelay} and {@code period}, not null.
+     * @return the future, which allows to cancel the schedule.
+     */
+    ScheduledFuture<?> scheduleAtFixedRate(String resourceId, Runnable load, long initialDelay, long period,
+                                           TimeUnit unit);
+}
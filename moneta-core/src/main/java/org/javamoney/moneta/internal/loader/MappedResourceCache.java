@@ -0,0 +1,224 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.internal.loader;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.money.MonetaryException;
+
+/**
+ * File based {@link ResourceCache}, which exposes the cached resources as read-only memory mapped buffers
+ * and streams, so reading a resource does not copy it onto the heap. Each file is mapped once and the
+ * mapping is shared by all readers until the resource is written or cleared.
+ * <p>
+ * Updates are written to a temporary file first, which then atomically replaces the cached file. Thus
+ * readers never see partially written data, and buffers or streams obtained before an update keep
+ * reading the previous content.
+ * </p>
+ * This cache uses the same directory and file names as {@link DefaultResourceCache}. It is used by the
+ * {@link DefaultLoaderService}, if {@link #ENABLED_KEY} is set to {@code true}.
+ */
+public class MappedResourceCache implements ResourceCache {
+    /**
+     * The logger used.
+     */
+    private static final Logger LOG = Logger.getLogger(MappedResourceCache.class.getName());
+    /**
+     * Configuration key to use this cache instead of the {@link DefaultResourceCache}.
+     */
+    public static final String ENABLED_KEY = "loader.cache.mapped";
+    /**
+     * Suffix for files created.
+     */
+    private static final String SUFFIX = ".dat";
+    /**
+     * Suffix for temporary files, written before being renamed.
+     */
+    private static final String TEMP_SUFFIX = ".tmp";
+    /**
+     * The cache directory, or null, if the cache is disabled.
+     */
+    private final Path localDir;
+    /**
+     * Cached resources.
+     */
+    private final Map<String, Path> cachedResources = new ConcurrentHashMap<>();
+    /**
+     * Mapped resources, mapped on first access.
+     */
+    private final Map<String, MappedByteBuffer> mappedResources = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor, using the same directory as the {@link DefaultResourceCache}.
+     */
+    public MappedResourceCache() {
+        this(new File(System.getProperty("temp.dir", ".resourceCache")));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param localDir the cache directory, created if not existing.
+     */
+    public MappedResourceCache(File localDir) {
+        this.localDir = initDirectory(Objects.requireNonNull(localDir));
+        if (Objects.nonNull(this.localDir)) {
+            File[] files = this.localDir.toFile().listFiles();
+            if (files != null) {
+                for (File file : files) {
+                    String name = file.getName();
+                    if (file.isFile() && name.endsWith(SUFFIX)) {
+                        cachedResources.put(name.substring(0, name.length() - SUFFIX.length()), file.toPath());
+                    } else if (file.isFile() && name.endsWith(TEMP_SUFFIX) && !file.delete()) {
+                        LOG.finest("Failed to delete stale temporary file: " + file);
+                    }
+                }
+            }
+        }
+    }
+
+    private static Path initDirectory(File dir) {
+        if (!dir.exists()) {
+            if (!dir.mkdirs()) {
+                LOG.severe("Error creating cache dir  " + dir + ", resource cache disabled!");
+                return null;
+            }
+            LOG.finest("Created cache dir  " + dir);
+        } else if (!dir.isDirectory()) {
+            LOG.severe("Error initializing cache dir  " + dir + ", not a directory, resource cache disabled!");
+            return null;
+        } else if (!dir.canWrite()) {
+            LOG.severe("Error initializing cache dir  " + dir + ", not writable, resource cache disabled!");
+            return null;
+        }
+        return dir.toPath();
+    }
+
+    @Override
+    public void write(String resourceId, byte[] data) {
+        if (Objects.isNull(localDir)) {
+            return;
+        }
+        Path target = localDir.resolve(resourceId + SUFFIX);
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(localDir, resourceId, TEMP_SUFFIX);
+            Files.write(temp, data);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            this.mappedResources.remove(resourceId);
+            this.cachedResources.put(resourceId, target);
+        } catch (Exception e) {
+            LOG.log(Level.WARNING, "Caching of resource failed: " + resourceId, e);
+            deleteQuietly(temp);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (Objects.nonNull(file)) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                LOG.log(Level.FINEST, "Failed to delete temporary file: " + file, e);
+            }
+        }
+    }
+
+    @Override
+    public boolean isCached(String resourceId) {
+        return this.cachedResources.containsKey(resourceId);
+    }
+
+    /**
+     * Reads the given resource into a new array. Prefer {@link #readBuffer(String)} or
+     * {@link #openStream(String)}, which do not copy the data.
+     */
+    @Override
+    public byte[] read(String resourceId) {
+        ByteBuffer buffer = readBuffer(resourceId);
+        if (Objects.isNull(buffer)) {
+            return null;
+        }
+        byte[] data = new byte[buffer.remaining()];
+        buffer.get(data);
+        return data;
+    }
+
+    @Override
+    public ByteBuffer readBuffer(String resourceId) {
+        Path file = this.cachedResources.get(resourceId);
+        if (Objects.isNull(file)) {
+            return null;
+        }
+        try {
+            return this.mappedResources.computeIfAbsent(resourceId, id -> map(file)).duplicate();
+        } catch (UncheckedIOException exception) {
+            throw new MonetaryException("An error on retrieve the resource id: " + resourceId, exception.getCause());
+        }
+    }
+
+    private static MappedByteBuffer map(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public InputStream openStream(String resourceId) {
+        ByteBuffer buffer = readBuffer(resourceId);
+        return Objects.isNull(buffer) ? null : new ByteBufferInputStream(buffer);
+    }
+
+    @Override
+    public void clear(String resourceId) {
+        this.mappedResources.remove(resourceId);
+        Path file = this.cachedResources.remove(resourceId);
+        if (Objects.nonNull(file)) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                LOG.log(Level.WARNING, "Failed to delete caching file: " + file.toAbsolutePath(), e);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MappedResourceCache [localDir=" + localDir + ", cachedResources=" + cachedResources + ']';
+    }
+
+}
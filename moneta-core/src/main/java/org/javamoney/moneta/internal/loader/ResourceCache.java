@@ -16,6 +16,9 @@
 package org.javamoney.moneta.internal.loader;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 /**
  * Abstraction of a {@link ResourceCache}. By default a file cache is used:
@@ -58,6 +61,38 @@ public interface ResourceCache {
      */
     byte[] read(String resourceId);
 
+    /**
+     * Reads the given resource, identified by the resourceId, from the cache as read-only buffer.
+     * Implementations backed by files may map the file into memory instead of copying it onto the heap.
+     *
+     * @param resourceId
+     *            the resource id.
+     * @return the data of the resource, or {@code null}, if no such resource is cached.
+     */
+    default ByteBuffer readBuffer(String resourceId) {
+        byte[] data = read(resourceId);
+        if (Objects.isNull(data)) {
+            return null;
+        }
+        return ByteBuffer.wrap(data).asReadOnlyBuffer();
+    }
+
+    /**
+     * Opens a stream on the given resource, identified by the resourceId, so the data can be consumed without
+     * being copied into a byte array first.
+     *
+     * @param resourceId
+     *            the resource id.
+     * @return a new stream on the data of the resource, or {@code null}, if no such resource is cached.
+     */
+    default InputStream openStream(String resourceId) {
+        ByteBuffer buffer = readBuffer(resourceId);
+        if (Objects.isNull(buffer)) {
+            return null;
+        }
+        return new ByteBufferInputStream(buffer);
+    }
+
     /**
      * Remove a cache entry.
      * @param resourceId the resource identifier, not null.
@@ -20,35 +20,46 @@ import java.util.GregorianCalendar;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.javamoney.moneta.spi.MonetaryConfig;
+
 class ScheduledDataLoaderService {
 
 	private static final Logger LOG = Logger.getLogger(ScheduledDataLoaderService.class.getName());
 
-	private final Timer timer;
+	/**
+	 * Configuration key for the maximal random delay added to all schedules, e.g. {@code 00:10} for ten
+	 * minutes, so not all nodes reload at the same time. A resource can override it with its
+	 * {@code jitter} property.
+	 */
+	static final String JITTER_KEY = "loader.jitter";
+
+	private static final long DAY_MS = 3_600_000L * 24;
+
+	private final LoaderScheduler scheduler;
 	private final DefaultLoaderListener listener;
+	private final List<ScheduledFuture<?>> schedules = new CopyOnWriteArrayList<>();
 
-	ScheduledDataLoaderService(Timer timer, DefaultLoaderListener listener) {
-		this.timer = timer;
+	ScheduledDataLoaderService(LoaderScheduler scheduler, DefaultLoaderListener listener) {
+		this.scheduler = scheduler;
 		this.listener = listener;
 	}
 
 	public void execute(final LoadableResource load) {
 	        Objects.requireNonNull(load);
-	        TimerTask task = new TimerTask() {
-	            @Override
-	            public void run() {
-	                try {
-	                    if (load.load()) {
-	                        listener.trigger(load.getResourceId(), load.getDataStream());
-	                    }
-	                } catch (Exception e) {
-	                    LOG.log(Level.SEVERE, "Failed to update remote resource: " + load.getResourceId(), e);
+	        Runnable task = () -> {
+	            try {
+	                if (load.load()) {
+	                    listener.trigger(load.getResourceId(), load.getDataStream());
 	                }
+	            } catch (Exception e) {
+	                LOG.log(Level.SEVERE, "Failed to update remote resource: " + load.getResourceId(), e);
 	            }
 	        };
 	        Map<String, String> props = load.getProperties();
@@ -57,18 +68,34 @@ class ScheduledDataLoaderService {
 	            long periodMS = parseDuration(value);
 	            value = props.get("delay");
 	            long delayMS = parseDuration(value);
+	            long jitterMS = parseDuration(props.getOrDefault("jitter", MonetaryConfig.getConfig().get(JITTER_KEY)));
 	            if (periodMS > 0) {
-	                timer.scheduleAtFixedRate(task, delayMS, periodMS);
+	                schedule(load.getResourceId(), task, delayMS, periodMS, jitterMS);
 	            } else {
 	                value = props.get("at");
 	                if (Objects.nonNull(value)) {
 	                    List<GregorianCalendar> dates = parseDates(value);
-	                    dates.forEach(date -> timer.schedule(task, date.getTime(), 3_600_000 * 24 /* daily */));
+	                    dates.forEach(date -> schedule(load.getResourceId(), task,
+	                            Math.max(0L, date.getTimeInMillis() - System.currentTimeMillis()), DAY_MS, jitterMS));
 	                }
 	            }
 	        }
 	    }
 
+	private void schedule(String resourceId, Runnable task, long delayMS, long periodMS, long jitterMS) {
+		long jitter = jitterMS > 0 ? ThreadLocalRandom.current().nextLong(jitterMS) : 0L;
+		schedules.add(scheduler.scheduleAtFixedRate(resourceId, task, delayMS + jitter, periodMS,
+				TimeUnit.MILLISECONDS));
+	}
+
+	/**
+	 * Cancels all schedules created by this instance.
+	 */
+	public void cancel() {
+		schedules.forEach(schedule -> schedule.cancel(false));
+		schedules.clear();
+	}
+
 	 /**
 	     * Parse the dates of type HH:mm:ss:nnn, whereas minutes and smaller are
 	     * optional.
@@ -141,7 +168,7 @@ class ScheduledDataLoaderService {
 
 	@Override
 	public String toString() {
-		return ScheduledDataLoaderService.class.getName() + '{' + " timer: "
-				+ timer + '}';
+		return ScheduledDataLoaderService.class.getName() + '{' + " scheduler: "
+				+ scheduler + '}';
 	}
 }
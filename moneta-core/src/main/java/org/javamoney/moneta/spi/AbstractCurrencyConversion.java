@@ -28,7 +28,13 @@ import org.javamoney.moneta.function.MonetaryOperators;
 
 import java.math.MathContext;
 import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.IntStream;
 
 /**
  * Abstract base class used for implementing currency conversion.
@@ -103,7 +109,61 @@ public abstract class AbstractCurrencyConversion implements CurrencyConversion {
         if (termCurrency.equals(Objects.requireNonNull(amount).getCurrency())) {
             return amount;
         }
-        ExchangeRate rate = getExchangeRate(amount);
+        return convert(amount, getExchangeRate(amount));
+    }
+
+    /**
+     * Converts all amounts given. The exchange rate is evaluated only once for every distinct source
+     * currency, using the first amount of that currency, and then reused for all amounts of the
+     * currency. Otherwise the amounts are converted like by {@link #apply(MonetaryAmount)}.
+     *
+     * @param amounts the amounts, not null and not containing null.
+     * @return the converted amounts, in iteration order of the amounts given.
+     * @throws CurrencyConversionException if an amount can not be converted.
+     * @see #convertAll(Collection, boolean)
+     */
+    public List<MonetaryAmount> convertAll(Collection<? extends MonetaryAmount> amounts) {
+        return convertAll(amounts, false);
+    }
+
+    /**
+     * Converts all amounts given, optionally in parallel using the fork join common pool. The exchange
+     * rates are still evaluated once per distinct source currency on the calling thread, before any
+     * amount is converted, so the rate provider is never accessed concurrently.
+     *
+     * @param amounts  the amounts, not null and not containing null.
+     * @param parallel true, to convert the amounts in parallel, which pays off for large batches only.
+     * @return the converted amounts, in iteration order of the amounts given.
+     * @throws CurrencyConversionException if an amount can not be converted.
+     */
+    public List<MonetaryAmount> convertAll(Collection<? extends MonetaryAmount> amounts, boolean parallel) {
+        MonetaryAmount[] source = Objects.requireNonNull(amounts).toArray(new MonetaryAmount[amounts.size()]);
+        Map<CurrencyUnit, ExchangeRate> rates = new HashMap<>();
+        for (MonetaryAmount amount : source) {
+            CurrencyUnit currency = Objects.requireNonNull(amount).getCurrency();
+            if (!termCurrency.equals(currency) && !rates.containsKey(currency)) {
+                rates.put(currency, getExchangeRate(amount));
+            }
+        }
+        MonetaryAmount[] result = new MonetaryAmount[source.length];
+        IntStream indices = IntStream.range(0, source.length);
+        (parallel ? indices.parallel() : indices).forEach(i -> {
+            MonetaryAmount amount = source[i];
+            result[i] = termCurrency.equals(amount.getCurrency()) ? amount
+                    : convert(amount, rates.get(amount.getCurrency()));
+        });
+        return Arrays.asList(result);
+    }
+
+    /**
+     * Converts the amount using the given rate.
+     *
+     * @param amount the amount, not null.
+     * @param rate   the rate evaluated for the amount, null, if not available.
+     * @return The converted amount, never null.
+     * @throws CurrencyConversionException if the rate does not match the amount.
+     */
+    private MonetaryAmount convert(MonetaryAmount amount, ExchangeRate rate) {
         if (Objects.isNull(rate) || !amount.getCurrency().equals(rate.getBaseCurrency())) {
             throw new CurrencyConversionException(amount.getCurrency(),
                     this.termCurrency, null);
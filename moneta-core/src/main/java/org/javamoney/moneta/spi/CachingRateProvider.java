@@ -0,0 +1,417 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.spi;
+
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.money.convert.ConversionQuery;
+import javax.money.convert.ExchangeRate;
+import javax.money.convert.ExchangeRateProvider;
+import javax.money.convert.RateType;
+import javax.money.spi.Bootstrap;
+
+import org.javamoney.moneta.spi.LoaderService.LoaderListener;
+
+/**
+ * {@link ExchangeRateProvider} decorator, which memoizes the rates returned by another provider. Rates
+ * are cached by base currency, term currency, the dates queried ({@link LocalDate},
+ * {@link LocalDateTime} or {@code LocalDate[]}) and the rate types. Other query attributes are not part
+ * of the key, so queries only differing in those share the same rate.
+ * <p>
+ * The number of cached rates is bounded, the least recently used rates are evicted first. Optionally
+ * rates also expire after a given time. All rates are invalidated, when the {@link LoaderService}
+ * signals that new data was loaded for one of the resources read by the decorated provider. By default
+ * this is the resource named like the provider's class, following the convention of the providers of
+ * this library. Since the loader keeps a reference to the cache, {@link #close()} must be called, when
+ * the cache is not used anymore.
+ * </p>
+ * <p>
+ * Cached rates are read without locking: a hit only records its access time. When a rate read from the
+ * decorated provider exceeds the maximal size, one scan evicts the rates accessed least recently in a
+ * batch, making room for further misses, so only some misses of a full cache pay for it and concurrent
+ * misses do not wait for each other. Concurrent hits might not all be taken into account, so the order of
+ * eviction is approximate under contention.
+ * </p>
+ * The cache can be enabled for providers accessed by {@link javax.money.convert.MonetaryConversions}
+ * with the following configuration entries:
+ * <pre>
+ * conversion.cache.providers=ECB,ECB-HIST,IMF
+ * conversion.cache.max-size=1000
+ * conversion.cache.ttl=3600
+ * conversion.cache.resources.ECB-HIST=ECBHistoricRateProvider,ECBCurrentRateProvider
+ * </pre>
+ * where {@code conversion.cache.ttl} is given in seconds, {@code 0} meaning rates do not expire, and
+ * {@code conversion.cache.resources.<provider name>} lists the resources read by a provider, if they
+ * differ from the default.
+ */
+public class CachingRateProvider extends AbstractRateProvider implements LoaderListener, AutoCloseable {
+
+    private static final Logger LOG = Logger.getLogger(CachingRateProvider.class.getName());
+
+    /**
+     * Configuration key for the comma separated names of the providers to be cached.
+     */
+    public static final String CACHED_PROVIDERS_KEY = "conversion.cache.providers";
+
+    /**
+     * Configuration key for the maximal number of rates cached per provider.
+     */
+    public static final String MAX_SIZE_KEY = "conversion.cache.max-size";
+
+    /**
+     * Configuration key for the time in seconds, after which a cached rate expires.
+     */
+    public static final String TTL_KEY = "conversion.cache.ttl";
+
+    /**
+     * Prefix of the configuration keys for the comma separated ids of the resources read by a provider,
+     * followed by the provider name.
+     */
+    public static final String RESOURCES_KEY_PREFIX = "conversion.cache.resources.";
+
+    private static final int DEFAULT_MAX_SIZE = 1000;
+
+    /**
+     * The provider decorated.
+     */
+    private final ExchangeRateProvider delegate;
+
+    /**
+     * The time to live in nanoseconds, or 0 for no expiry.
+     */
+    private final long timeToLiveNanos;
+
+    /**
+     * The maximal number of rates cached.
+     */
+    private final int maxSize;
+
+    /**
+     * The cached rates.
+     */
+    private final Map<RateKey, CachedRate> cache = new ConcurrentHashMap<>();
+
+    /**
+     * The number of rates evicted in addition, when the maximal size is exceeded.
+     */
+    private final int evictionBatch;
+
+    /**
+     * Lock held by the thread evicting, hits do not lock and misses do not wait for it.
+     */
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    /**
+     * The ids of the resources, whose loads invalidate the cache.
+     */
+    private final String[] resourceIds;
+
+    /**
+     * The loader notifying this cache, or null, if none is available.
+     */
+    private final LoaderService loader;
+
+    /**
+     * Incremented on each invalidation, so rates read from the delegate before are not cached anymore.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Creates a new instance, using the maximal size and time to live configured.
+     *
+     * @param delegate the provider to be decorated, not null.
+     * @see #MAX_SIZE_KEY
+     * @see #TTL_KEY
+     * @see #RESOURCES_KEY_PREFIX
+     */
+    public CachingRateProvider(ExchangeRateProvider delegate) {
+        this(delegate, getConfigValue(MAX_SIZE_KEY, DEFAULT_MAX_SIZE), getConfigValue(TTL_KEY, 0),
+                TimeUnit.SECONDS, getResourceIds(delegate));
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param delegate    the provider to be decorated, not null.
+     * @param maxSize     the maximal number of rates cached, greater than zero.
+     * @param timeToLive  the time after which a cached rate expires, 0 for no expiry.
+     * @param unit        the unit of {@code timeToLive}, not null.
+     * @param resourceIds the ids of the resources read by the delegate, if none are passed, the resource
+     *                    named like the delegate's class.
+     */
+    public CachingRateProvider(ExchangeRateProvider delegate, int maxSize, long timeToLive, TimeUnit unit,
+                               String... resourceIds) {
+        this(delegate, maxSize, timeToLive, unit, Bootstrap.getService(LoaderService.class), resourceIds);
+    }
+
+    CachingRateProvider(ExchangeRateProvider delegate, int maxSize, long timeToLive, TimeUnit unit,
+                        LoaderService loader, String... resourceIds) {
+        super(Objects.requireNonNull(delegate, "Delegate required.").getContext());
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be greater than zero: " + maxSize);
+        }
+        if (timeToLive < 0) {
+            throw new IllegalArgumentException("timeToLive must not be negative: " + timeToLive);
+        }
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+        this.timeToLiveNanos = unit.toNanos(timeToLive);
+        this.evictionBatch = maxSize / 8;
+        this.resourceIds = resourceIds.length > 0 ? resourceIds.clone()
+                : new String[]{delegate.getClass().getSimpleName()};
+        this.loader = loader;
+        if (Objects.nonNull(loader)) {
+            // registered after the providers, so the cache is cleared once the new data has been read
+            loader.addLoaderListener(this, this.resourceIds);
+        }
+    }
+
+    private static String[] getResourceIds(ExchangeRateProvider delegate) {
+        String value = MonetaryConfig.getConfig().get(RESOURCES_KEY_PREFIX + delegate.getContext().getProviderName());
+        if (Objects.isNull(value)) {
+            return new String[0];
+        }
+        return Arrays.stream(value.split(",")).map(String::trim).filter(id -> !id.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    private static int getConfigValue(String key, int defaultValue) {
+        String value = MonetaryConfig.getConfig().get(key);
+        if (Objects.isNull(value) || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            LOG.log(Level.WARNING, "Invalid value for " + key + ": " + value + ", using " + defaultValue, e);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Access the provider decorated.
+     *
+     * @return the delegate, never null.
+     */
+    public ExchangeRateProvider getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public ExchangeRate getExchangeRate(ConversionQuery conversionQuery) {
+        Objects.requireNonNull(conversionQuery);
+        RateKey key = new RateKey(conversionQuery);
+        long now = System.nanoTime();
+        CachedRate cached = cache.get(key);
+        if (Objects.nonNull(cached)) {
+            if (!cached.isExpired(now, timeToLiveNanos)) {
+                cached.lastAccess = now;
+                return cached.rate;
+            }
+            cache.remove(key, cached);
+        }
+        long currentGeneration = generation.get();
+        ExchangeRate rate = delegate.getExchangeRate(conversionQuery);
+        if (Objects.nonNull(rate)) {
+            cached = new CachedRate(rate, now);
+            cache.put(key, cached);
+            if (currentGeneration != generation.get()) {
+                // invalidated while loading, the rate might be outdated
+                cache.remove(key, cached);
+            } else if (cache.size() > maxSize) {
+                evict();
+            }
+        }
+        return rate;
+    }
+
+    /**
+     * Removes the rates accessed least recently, until the maximal size is not exceeded anymore. If another
+     * thread is evicting already, it is left to that thread, which checks the size again after evicting.
+     */
+    private void evict() {
+        while (cache.size() > maxSize && evictionLock.tryLock()) {
+            try {
+                evictBatch();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Removes the rates exceeding the maximal size plus {@link #evictionBatch} rates, all accessed least
+     * recently, with a single scan.
+     */
+    private void evictBatch() {
+        long now = System.nanoTime();
+        // access times relative to now, so they can be sorted even if nanoTime overflows
+        long[] accesses = new long[cache.size() + 1];
+        int count = 0;
+        for (CachedRate cached : cache.values()) {
+            if (count == accesses.length) {
+                accesses = Arrays.copyOf(accesses, count * 2);
+            }
+            accesses[count++] = cached.lastAccess - now;
+        }
+        if (count <= maxSize) {
+            return;
+        }
+        int evictions = Math.min(count, count - maxSize + evictionBatch);
+        Arrays.sort(accesses, 0, count);
+        long threshold = accesses[evictions - 1];
+        // rates accessed at the same time as the threshold are only evicted, until the batch is complete
+        int ties = evictions - 1;
+        while (ties > 0 && accesses[ties - 1] == threshold) {
+            ties--;
+        }
+        ties = evictions - ties;
+        Iterator<CachedRate> iterator = cache.values().iterator();
+        while (iterator.hasNext()) {
+            long access = iterator.next().lastAccess - now;
+            if (access < threshold || (access == threshold && ties-- > 0)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    @Override
+    public boolean isAvailable(ConversionQuery conversionQuery) {
+        return delegate.isAvailable(conversionQuery);
+    }
+
+    /**
+     * Removes all rates cached.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    @Override
+    public void newDataLoaded(String resourceId, InputStream is) {
+        invalidate();
+    }
+
+    /**
+     * Stops invalidating the cache on new data, e.g. when the cache is replaced by a new instance. Rates
+     * are still served, but may be outdated after the next load.
+     */
+    @Override
+    public void close() {
+        if (Objects.nonNull(loader)) {
+            loader.removeLoaderListener(this, resourceIds);
+        }
+    }
+
+    /**
+     * Access the number of rates currently cached.
+     *
+     * @return the number of rates cached.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    @Override
+    public String toString() {
+        return "CachingRateProvider{delegate=" + delegate + ", size=" + size() + '}';
+    }
+
+    private static final class CachedRate {
+
+        private final ExchangeRate rate;
+
+        private final long created;
+
+        /**
+         * The time of the last access, written by hits without locking.
+         */
+        private volatile long lastAccess;
+
+        CachedRate(ExchangeRate rate, long created) {
+            this.rate = rate;
+            this.created = created;
+            this.lastAccess = created;
+        }
+
+        boolean isExpired(long now, long timeToLiveNanos) {
+            return timeToLiveNanos > 0 && now - created >= timeToLiveNanos;
+        }
+    }
+
+    /**
+     * The cache key, built from the query's base and term currency, its dates and rate types.
+     */
+    private static final class RateKey {
+
+        private final String base;
+
+        private final String term;
+
+        private final Object date;
+
+        private final Set<RateType> rateTypes;
+
+        private final int hash;
+
+        RateKey(ConversionQuery query) {
+            this.base = query.getBaseCurrency() == null ? null : query.getBaseCurrency().getCurrencyCode();
+            this.term = query.getCurrency() == null ? null : query.getCurrency().getCurrencyCode();
+            LocalDate[] dates = query.get(LocalDate[].class);
+            if (Objects.nonNull(dates)) {
+                this.date = Arrays.asList(dates);
+            } else if (Objects.nonNull(query.get(LocalDate.class))) {
+                this.date = query.get(LocalDate.class);
+            } else {
+                this.date = query.get(LocalDateTime.class);
+            }
+            this.rateTypes = query.getRateTypes();
+            this.hash = Objects.hash(base, term, date, rateTypes);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (obj instanceof RateKey) {
+                RateKey other = (RateKey) obj;
+                return hash == other.hash && Objects.equals(base, other.base) && Objects.equals(term, other.term)
+                        && Objects.equals(date, other.date) && Objects.equals(rateTypes, other.rateTypes);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
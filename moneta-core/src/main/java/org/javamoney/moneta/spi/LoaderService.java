@@ -18,6 +18,7 @@ package org.javamoney.moneta.spi;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Future;
@@ -240,4 +241,29 @@ public interface LoaderService {
      */
     void resetData(String resourceId) throws IOException;
 
+    /**
+     * Reads data cached by {@link #writeCache(String, byte[])}, e.g. a snapshot derived from a resource, so it
+     * must not be derived again after a restart.
+     *
+     * @param cacheId The unique identifier of the data cached, not {@code null}.
+     * @return the data as read-only buffer, or {@code null}, if no data is cached with this id. By default no
+     * data is cached.
+     * @since 1.2
+     */
+    default ByteBuffer readCache(String cacheId) {
+        return null;
+    }
+
+    /**
+     * Caches data derived from a resource, e.g. a snapshot of the parsed data, along with the resources
+     * loaded. By default the data is not cached.
+     *
+     * @param cacheId The unique identifier of the data, not {@code null}.
+     * @param data    the data, not {@code null}.
+     * @throws IOException if the data could not be written.
+     * @since 1.2
+     */
+    default void writeCache(String cacheId, byte[] data) throws IOException {
+    }
+
 }
@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.spi;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Versioned registry of provider chains resolved from the services loaded by
+ * {@link javax.money.spi.Bootstrap} and the {@link org.javamoney.moneta.spi.MonetaryConfig}. The singleton
+ * SPIs resolve their chains once, e.g. as immutable arrays, using {@link #resolve(Supplier)}, instead of
+ * scanning the services and parsing the configuration on every query:
+ * <pre><code>
+ * private final ProviderRegistry.Resolved&lt;CurrencyProviderSpi[]&gt; chain =
+ *         ProviderRegistry.resolve(this::loadDefaultChain);
+ * ...
+ * for (CurrencyProviderSpi provider : chain.get()) { ... }
+ * </code></pre>
+ * All resolved values are computed again on first access after {@link #invalidate()} was called, which
+ * happens when services are loaded, currencies are registered, or the conversion providers are reloaded.
+ * <p>
+ * Only the default {@link javax.money.spi.ServiceProvider} of Moneta invalidates the registry, when it loads
+ * services. The JSR's {@link javax.money.spi.Bootstrap} does not publish, when another service provider is
+ * installed by {@code Bootstrap.init(ServiceProvider)}, e.g. one backed by an OSGi service registry. Such
+ * integrations must call {@link #invalidate()} after installing their service provider, and whenever the
+ * services it provides change, otherwise the SPIs keep using the chains resolved before.
+ * </p>
+ *
+ * @since 1.2
+ */
+public final class ProviderRegistry {
+
+    private static final AtomicInteger VERSION = new AtomicInteger();
+
+    private ProviderRegistry() {
+    }
+
+    /**
+     * Access the current version of the registry.
+     *
+     * @return the version, which changes on each {@link #invalidate()}.
+     */
+    public static int getVersion() {
+        return VERSION.get();
+    }
+
+    /**
+     * Invalidates all values resolved, e.g. after new services were registered, or another
+     * {@link javax.money.spi.ServiceProvider} was installed.
+     */
+    public static void invalidate() {
+        VERSION.incrementAndGet();
+    }
+
+    /**
+     * Creates a value resolved lazily and cached, until the registry is invalidated.
+     *
+     * @param resolver the function evaluating the value, not null. It should return immutable values, since
+     *                 the value is shared by all threads.
+     * @param <T>      the type of the value.
+     * @return the resolved value holder, never null.
+     */
+    public static <T> Resolved<T> resolve(Supplier<T> resolver) {
+        return new Resolved<>(Objects.requireNonNull(resolver));
+    }
+
+    /**
+     * Value resolved from the registry. The value is published through a volatile reference, so reading
+     * an up to date value does not lock. Concurrent readers might resolve the value more than once after an
+     * invalidation, the last one wins.
+     *
+     * @param <T> the type of the value.
+     */
+    public static final class Resolved<T> {
+
+        private final Supplier<T> resolver;
+
+        private volatile Entry<T> entry;
+
+        private Resolved(Supplier<T> resolver) {
+            this.resolver = resolver;
+        }
+
+        /**
+         * Access the value, resolving it, if the registry was invalidated since it was resolved.
+         *
+         * @return the value.
+         */
+        public T get() {
+            Entry<T> current = this.entry;
+            int version = VERSION.get();
+            if (current == null || current.version != version) {
+                current = new Entry<>(version, resolver.get());
+                this.entry = current;
+            }
+            return current.value;
+        }
+    }
+
+    private static final class Entry<T> {
+
+        private final int version;
+
+        private final T value;
+
+        Entry(int version, T value) {
+            this.version = version;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,343 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.spi;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import javax.money.spi.Bootstrap;
+
+/**
+ * Compact binary snapshot of parsed exchange rates, so providers can restore their rate tables without
+ * parsing the original feed again. The snapshot is stored by the {@link LoaderService} and read as
+ * {@link ByteBuffer}, see {@link LoaderService#readCache(String)}.
+ * <p>
+ * Layout, big endian:
+ * </p>
+ * <pre>
+ * int    magic ('JMRS')
+ * short  version
+ * long   checksum of the source data
+ * short  currency count, followed by the currency codes (byte length, US-ASCII chars)
+ * int    day count, followed per day by
+ *        int   epoch day
+ *        short rate count, followed per rate by
+ *              short base currency index, short term currency index, byte scale, long unscaled factor
+ * </pre>
+ * The source checksum allows a provider to detect, whether a snapshot still matches the data loaded.
+ */
+public final class RateSnapshot {
+
+    private static final Logger LOG = Logger.getLogger(RateSnapshot.class.getName());
+
+    private static final int MAGIC = 0x4A4D5253;
+
+    /**
+     * The current format version, snapshots of other versions are ignored.
+     */
+    static final short VERSION = 1;
+
+    private final long sourceChecksum;
+
+    private final String[] currencies;
+
+    private final int dayCount;
+
+    /**
+     * The data, positioned at the first day.
+     */
+    private final ByteBuffer days;
+
+    private RateSnapshot(ByteBuffer buffer) {
+        ByteBuffer data = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+        try {
+            if (data.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Not a rate snapshot.");
+            }
+            short version = data.getShort();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported rate snapshot version: " + version);
+            }
+            this.sourceChecksum = data.getLong();
+            this.currencies = new String[data.getShort()];
+            for (int i = 0; i < currencies.length; i++) {
+                byte[] code = new byte[data.get()];
+                data.get(code);
+                currencies[i] = new String(code, StandardCharsets.US_ASCII);
+            }
+            this.dayCount = data.getInt();
+        } catch (BufferUnderflowException | NegativeArraySizeException e) {
+            throw new IllegalArgumentException("Corrupt rate snapshot.", e);
+        }
+        this.days = data.slice();
+    }
+
+    /**
+     * Reads a snapshot from the given data. The rates are decoded lazily by {@link #forEach(RateConsumer)}.
+     *
+     * @param buffer the snapshot data, not null.
+     * @return the snapshot, never null.
+     * @throws IllegalArgumentException if the data is no snapshot of the current version.
+     */
+    public static RateSnapshot of(ByteBuffer buffer) {
+        return new RateSnapshot(Objects.requireNonNull(buffer));
+    }
+
+    /**
+     * Loads the snapshot stored with the given id by the {@link LoaderService}.
+     *
+     * @param snapshotId the id of the snapshot, not null.
+     * @return the snapshot, or null, if no valid snapshot is cached.
+     */
+    public static RateSnapshot load(String snapshotId) {
+        try {
+            ByteBuffer buffer = Bootstrap.getService(LoaderService.class).readCache(snapshotId);
+            return Objects.isNull(buffer) ? null : of(buffer);
+        } catch (Exception e) {
+            LOG.log(Level.FINE, "Ignoring unreadable rate snapshot: " + snapshotId, e);
+            return null;
+        }
+    }
+
+    /**
+     * Stores the snapshot written by the {@link LoaderService}.
+     *
+     * @param snapshotId the id of the snapshot, not null.
+     * @param writer     the writer containing the rates, not null.
+     */
+    public static void store(String snapshotId, Writer writer) {
+        try {
+            Bootstrap.getService(LoaderService.class).writeCache(snapshotId, writer.toByteArray());
+        } catch (Exception e) {
+            LOG.log(Level.WARNING, "Failed to store rate snapshot: " + snapshotId, e);
+        }
+    }
+
+    /**
+     * Calculates the checksum of source data, as stored with the snapshot.
+     *
+     * @param data the source data, not null.
+     * @return the checksum.
+     */
+    public static long checksum(byte[] data) {
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length);
+        return crc.getValue();
+    }
+
+    /**
+     * Reads the given stream completely, e.g. to calculate its {@link #checksum(byte[])}.
+     *
+     * @param inputStream the stream, not null.
+     * @return the data read.
+     * @throws IOException when an IO error occurs.
+     */
+    public static byte[] readFully(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(inputStream.available(), 8192));
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = inputStream.read(buffer)) > 0) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Access the checksum of the data, the snapshot was created from.
+     *
+     * @return the source checksum.
+     */
+    public long getSourceChecksum() {
+        return sourceChecksum;
+    }
+
+    /**
+     * Access the number of days contained.
+     *
+     * @return the number of days.
+     */
+    public int getDayCount() {
+        return dayCount;
+    }
+
+    /**
+     * Decodes all rates contained, ordered by day.
+     *
+     * @param consumer the consumer called for each rate, not null.
+     * @throws IllegalArgumentException if the snapshot data is corrupt.
+     */
+    public void forEach(RateConsumer consumer) {
+        ByteBuffer data = days.duplicate();
+        try {
+            for (int day = 0; day < dayCount; day++) {
+                LocalDate date = LocalDate.ofEpochDay(data.getInt());
+                int rateCount = data.getShort() & 0xFFFF;
+                for (int i = 0; i < rateCount; i++) {
+                    String base = currencies[data.getShort()];
+                    String term = currencies[data.getShort()];
+                    int scale = data.get();
+                    consumer.accept(date, base, term, BigDecimal.valueOf(data.getLong(), scale));
+                }
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Corrupt rate snapshot.", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RateSnapshot [sourceChecksum=" + sourceChecksum + ", currencies=" + currencies.length + ", days="
+                + dayCount + ']';
+    }
+
+    /**
+     * Consumer of the rates contained in a snapshot.
+     */
+    @FunctionalInterface
+    public interface RateConsumer {
+
+        /**
+         * Called for each rate.
+         *
+         * @param date   the date of the rate.
+         * @param base   the base currency code.
+         * @param term   the term currency code.
+         * @param factor the factor.
+         */
+        void accept(LocalDate date, String base, String term, BigDecimal factor);
+    }
+
+    /**
+     * Collects rates to be written as snapshot.
+     */
+    public static final class Writer {
+
+        private static final BigInteger MIN_LONG = BigInteger.valueOf(Long.MIN_VALUE);
+
+        private static final BigInteger MAX_LONG = BigInteger.valueOf(Long.MAX_VALUE);
+
+        private final long sourceChecksum;
+
+        private final Map<String, Short> currencyIndices = new HashMap<>();
+
+        private final List<String> currencies = new ArrayList<>();
+
+        private final TreeMap<LocalDate, List<long[]>> days = new TreeMap<>();
+
+        /**
+         * Creates a new writer.
+         *
+         * @param sourceChecksum the checksum of the source data, see {@link RateSnapshot#checksum(byte[])}.
+         */
+        public Writer(long sourceChecksum) {
+            this.sourceChecksum = sourceChecksum;
+        }
+
+        /**
+         * Adds a rate.
+         *
+         * @param date   the date of the rate, not null.
+         * @param base   the base currency code, not null.
+         * @param term   the term currency code, not null.
+         * @param factor the factor, not null.
+         * @return this writer, for chaining.
+         * @throws IllegalArgumentException if the factor's unscaled value does not fit into a long.
+         */
+        public Writer add(LocalDate date, String base, String term, BigDecimal factor) {
+            Objects.requireNonNull(date);
+            BigInteger unscaled = factor.unscaledValue();
+            if (unscaled.compareTo(MIN_LONG) < 0 || unscaled.compareTo(MAX_LONG) > 0
+                    || factor.scale() < Byte.MIN_VALUE || factor.scale() > Byte.MAX_VALUE) {
+                throw new IllegalArgumentException("Factor exceeds snapshot precision: " + factor);
+            }
+            long[] rate = {indexOf(base), indexOf(term), factor.scale(), unscaled.longValue()};
+            List<long[]> rates = days.computeIfAbsent(date, d -> new ArrayList<>());
+            if (rates.size() == 0xFFFF) {
+                throw new IllegalArgumentException("Too many rates for " + date);
+            }
+            rates.add(rate);
+            return this;
+        }
+
+        private short indexOf(String currencyCode) {
+            Short index = currencyIndices.get(currencyCode);
+            if (Objects.isNull(index)) {
+                if (currencies.size() == Short.MAX_VALUE) {
+                    throw new IllegalArgumentException("Too many currencies for snapshot.");
+                }
+                if (currencyCode.length() > Byte.MAX_VALUE) {
+                    throw new IllegalArgumentException("Currency code too long: " + currencyCode);
+                }
+                index = (short) currencies.size();
+                currencies.add(currencyCode);
+                currencyIndices.put(currencyCode, index);
+            }
+            return index;
+        }
+
+        /**
+         * Encodes the rates added.
+         *
+         * @return the snapshot data.
+         */
+        public byte[] toByteArray() {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                out.writeInt(MAGIC);
+                out.writeShort(VERSION);
+                out.writeLong(sourceChecksum);
+                out.writeShort(currencies.size());
+                for (String currency : currencies) {
+                    byte[] code = currency.getBytes(StandardCharsets.US_ASCII);
+                    out.writeByte(code.length);
+                    out.write(code);
+                }
+                out.writeInt(days.size());
+                for (Map.Entry<LocalDate, List<long[]>> day : days.entrySet()) {
+                    out.writeInt((int) day.getKey().toEpochDay());
+                    out.writeShort(day.getValue().size());
+                    for (long[] rate : day.getValue()) {
+                        out.writeShort((int) rate[0]);
+                        out.writeShort((int) rate[1]);
+                        out.writeByte((int) rate[2]);
+                        out.writeLong(rate[3]);
+                    }
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to write rate snapshot.", e);
+            }
+            return bytes.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import java.math.BigDecimal;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryAmount;
+import javax.money.convert.ConversionContext;
+import javax.money.convert.ConversionQuery;
+import javax.money.convert.CurrencyConversion;
+import javax.money.convert.CurrencyConversionException;
+import javax.money.convert.ExchangeRate;
+import javax.money.convert.ProviderContext;
+import javax.money.convert.RateType;
+
+import org.javamoney.moneta.spi.AbstractRateProvider;
+import org.javamoney.moneta.spi.DefaultNumberValue;
+import org.testng.annotations.Test;
+
+public class BoundCurrencyConversionTest {
+
+    private static final CurrencyUnit EURO = Monetary.getCurrency("EUR");
+    private static final CurrencyUnit DOLLAR = Monetary.getCurrency("USD");
+
+    @Test
+    public void shouldResolveRateOnce() {
+        FixedRateProvider provider = new FixedRateProvider("1.0898");
+        BoundCurrencyConversion conversion = BoundCurrencyConversion.of(provider, EURO, DOLLAR);
+        for (int i = 0; i < 10; i++) {
+            conversion.apply(FastMoney.of(i, EURO));
+            conversion.apply(Money.of(i, EURO));
+        }
+        assertEquals(provider.calls, 1);
+        assertEquals(conversion.getCurrency(), DOLLAR);
+        assertSame(conversion.getExchangeRateProvider(), provider);
+    }
+
+    @Test
+    public void shouldConvertLikeLazyBoundConversion() {
+        for (String factor : new String[]{"1.0898", "129.61", "0.7210584210526316", "2", "1E+3"}) {
+            FixedRateProvider provider = new FixedRateProvider(factor);
+            CurrencyConversion lazy = provider.getCurrencyConversion(DOLLAR);
+            BoundCurrencyConversion bound = BoundCurrencyConversion.of(provider, EURO, DOLLAR);
+            for (String amount : new String[]{"0", "1", "-12.34567", "99999.99999", "0.00001"}) {
+                FastMoney fastMoney = FastMoney.of(new BigDecimal(amount), EURO);
+                MonetaryAmount converted = fastMoney.with(bound);
+                assertEquals(converted, fastMoney.with(lazy));
+                assertEquals(converted.getClass(), FastMoney.class);
+                Money money = Money.of(new BigDecimal(amount), EURO);
+                assertEquals(money.with(bound), money.with(lazy));
+            }
+        }
+    }
+
+    @Test
+    public void shouldRefreshRate() {
+        FixedRateProvider provider = new FixedRateProvider("1.1");
+        BoundCurrencyConversion conversion = BoundCurrencyConversion.of(provider, EURO, DOLLAR);
+        provider.factor = new BigDecimal("1.2");
+        assertEquals(conversion.apply(FastMoney.of(10, EURO)), FastMoney.of(11, DOLLAR));
+        conversion.refresh();
+        assertEquals(conversion.apply(FastMoney.of(10, EURO)), FastMoney.of(12, DOLLAR));
+        provider.factor = new BigDecimal("1.3");
+        conversion.newDataLoaded("test", null);
+        assertEquals(conversion.apply(Money.of(10, EURO)), Money.of(13, DOLLAR));
+    }
+
+    @Test
+    public void shouldKeepRateIfProviderHasNone() {
+        FixedRateProvider provider = new FixedRateProvider("1.1");
+        BoundCurrencyConversion conversion = BoundCurrencyConversion.of(provider, EURO, DOLLAR);
+        provider.factor = null;
+        conversion.newDataLoaded("test", null);
+        assertEquals(conversion.apply(FastMoney.of(10, EURO)), FastMoney.of(11, DOLLAR));
+    }
+
+    @Test
+    public void shouldBindToRate() {
+        ExchangeRate rate = new FixedRateProvider("1.5").getExchangeRate(EURO, DOLLAR);
+        BoundCurrencyConversion conversion = BoundCurrencyConversion.of(rate);
+        assertSame(conversion.getExchangeRate(), rate);
+        assertEquals(conversion.refresh().apply(FastMoney.of(2, EURO)), FastMoney.of(3, DOLLAR));
+    }
+
+    @Test(expectedExceptions = CurrencyConversionException.class)
+    public void shouldFailForOtherCurrency() {
+        BoundCurrencyConversion.of(new FixedRateProvider("1.1"), EURO, DOLLAR)
+                .apply(FastMoney.of(1, Monetary.getCurrency("CHF")));
+    }
+
+    @Test(expectedExceptions = CurrencyConversionException.class)
+    public void shouldFailWithoutRate() {
+        FixedRateProvider provider = new FixedRateProvider("1.1");
+        provider.factor = null;
+        BoundCurrencyConversion.of(provider, EURO, DOLLAR);
+    }
+
+    private static final class FixedRateProvider extends AbstractRateProvider {
+
+        private BigDecimal factor;
+
+        private int calls;
+
+        FixedRateProvider(String factor) {
+            super(ProviderContext.of("fixed", RateType.ANY));
+            this.factor = new BigDecimal(factor);
+        }
+
+        @Override
+        public ExchangeRate getExchangeRate(ConversionQuery conversionQuery) {
+            if (factor == null) {
+                return null;
+            }
+            calls++;
+            return new ExchangeRateBuilder(ConversionContext.of("fixed", RateType.ANY))
+                    .setBase(conversionQuery.getBaseCurrency()).setTerm(conversionQuery.getCurrency())
+                    .setFactor(DefaultNumberValue.of(factor)).build();
+        }
+    }
+}
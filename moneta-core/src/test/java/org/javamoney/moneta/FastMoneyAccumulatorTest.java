@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryException;
+
+import org.testng.annotations.Test;
+
+public class FastMoneyAccumulatorTest {
+
+    private static final CurrencyUnit EURO = Monetary.getCurrency("EUR");
+    private static final CurrencyUnit DOLLAR = Monetary.getCurrency("USD");
+
+    @Test
+    public void shouldStartWithZero() {
+        FastMoneyAccumulator accumulator = FastMoneyAccumulator.of(EURO);
+        assertTrue(accumulator.isZero());
+        assertEquals(accumulator.getCount(), 0L);
+        assertEquals(accumulator.toFastMoney(), FastMoney.zero(EURO));
+    }
+
+    @Test
+    public void shouldAddAndSubtract() {
+        FastMoneyAccumulator accumulator = FastMoneyAccumulator.of(EURO)
+                .add(FastMoney.of(new BigDecimal("10.12345"), EURO))
+                .add(FastMoney.of(5, EURO))
+                .subtract(FastMoney.of(new BigDecimal("0.12345"), EURO));
+        assertFalse(accumulator.isZero());
+        assertEquals(accumulator.getCount(), 3L);
+        assertEquals(accumulator.toFastMoney(), FastMoney.of(15, EURO));
+    }
+
+    @Test
+    public void shouldAcceptOtherAmountTypes() {
+        FastMoneyAccumulator accumulator = FastMoneyAccumulator.of(EURO)
+                .addAll(Arrays.asList(Money.of(new BigDecimal("1.5"), EURO), FastMoney.of(2, EURO),
+                        RoundedMoney.of(new BigDecimal("0.25"), EURO)));
+        assertEquals(accumulator.toFastMoney(), FastMoney.of(new BigDecimal("3.75"), EURO));
+    }
+
+    @Test
+    public void shouldMatchFastMoneyAdd() {
+        FastMoney expected = FastMoney.zero(EURO);
+        FastMoneyAccumulator accumulator = FastMoneyAccumulator.of(EURO);
+        for (int i = 0; i < 1000; i++) {
+            FastMoney line = FastMoney.of(new BigDecimal(i).movePointLeft(2), EURO);
+            expected = expected.add(line);
+            accumulator.add(line);
+        }
+        assertEquals(accumulator.toFastMoney(), expected);
+    }
+
+    @Test
+    public void shouldMergeAndReset() {
+        FastMoneyAccumulator first = FastMoneyAccumulator.of(EURO).add(FastMoney.of(1, EURO));
+        FastMoneyAccumulator second = FastMoneyAccumulator.of(EURO).add(FastMoney.of(2, EURO));
+        assertEquals(first.merge(second).toFastMoney(), FastMoney.of(3, EURO));
+        assertEquals(first.getCount(), 2L);
+        assertTrue(first.reset().isZero());
+        assertEquals(first.getCount(), 0L);
+    }
+
+    @Test(expectedExceptions = MonetaryException.class)
+    public void shouldRejectCurrencyMismatch() {
+        FastMoneyAccumulator.of(EURO).add(FastMoney.of(1, DOLLAR));
+    }
+
+    @Test(expectedExceptions = MonetaryException.class)
+    public void shouldRejectMergeWithCurrencyMismatch() {
+        FastMoneyAccumulator.of(EURO).merge(FastMoneyAccumulator.of(DOLLAR));
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void shouldRejectScaleNotRepresentable() {
+        FastMoneyAccumulator.of(EURO).add(Money.of(new BigDecimal("0.123456"), EURO));
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void shouldDetectOverflow() {
+        FastMoneyAccumulator.of(EURO).add(FastMoney.ofScaled(Long.MAX_VALUE, EURO)).add(FastMoney.of(1, EURO));
+    }
+}
@@ -30,12 +30,14 @@ import java.io.ObjectOutputStream;
 import java.lang.invoke.MethodHandles;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.RoundingMode;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javax.money.CurrencyUnit;
 import javax.money.Monetary;
 import javax.money.MonetaryAmount;
+import javax.money.MonetaryException;
 import javax.money.MonetaryOperator;
 import javax.money.MonetaryQuery;
 
@@ -363,6 +365,121 @@ public class FastMoneyTest {
         assertEquals(FastMoney.of(BigDecimal.valueOf(20), "CHF"), m.divide(5.0d));
     }
 
+    /**
+     * Test method for {@link org.javamoney.moneta.FastMoney#multiply(double)} and
+     * {@link org.javamoney.moneta.FastMoney#divide(double)} rounding half up, also for amounts exceeding the
+     * precision of a double.
+     */
+    @Test
+    public void testDoubleOperationsRoundingOnLargeAmounts() {
+        long odd = (1L << 54) + 1;
+        FastMoney m = FastMoney.ofScaled(odd, Monetary.getCurrency("CHF"));
+        FastMoney expected = FastMoney.ofScaled((1L << 53) + 1, Monetary.getCurrency("CHF"));
+        assertEquals(m.multiply(0.5d), expected);
+        assertEquals(m.divide(2.0d), expected);
+        assertEquals(FastMoney.ofScaled(5, Monetary.getCurrency("CHF")).divide(2.0d),
+                FastMoney.ofScaled(3, Monetary.getCurrency("CHF")));
+        for (double divisor : new double[]{Double.NaN, 0.0d}) {
+            try {
+                m.divide(divisor);
+                fail("dividing by " + divisor + " should fail");
+            } catch (ArithmeticException e) {
+                LOG.log(Level.FINE, "dividing by " + divisor + " fails as expected", e);
+            }
+        }
+    }
+
+    /**
+     * Test method for {@link org.javamoney.moneta.FastMoney#divide(Number)} rounding floating point divisors
+     * half up, but decimal divisors half even.
+     */
+    @Test
+    public void testDivideNumberRounding() {
+        FastMoney m = FastMoney.of(new BigDecimal("0.00005"), "CHF");
+        assertEquals(m.divide(Double.valueOf(2)), FastMoney.of(new BigDecimal("0.00003"), "CHF"));
+        assertEquals(m.divide(Float.valueOf(2)), m.divide(2.0d));
+        assertEquals(m.divide(BigDecimal.valueOf(2)), FastMoney.of(new BigDecimal("0.00002"), "CHF"));
+    }
+
+    /**
+     * Test method for {@link org.javamoney.moneta.FastMoney#divide(long, RoundingMode)}.
+     */
+    @Test
+    public void testDivideLongRoundingMode() {
+        FastMoney m = FastMoney.of(new BigDecimal("0.00005"), "CHF");
+        assertEquals(m.divide(2L, RoundingMode.DOWN), FastMoney.of(new BigDecimal("0.00002"), "CHF"));
+        assertEquals(m.divide(2L, RoundingMode.UP), FastMoney.of(new BigDecimal("0.00003"), "CHF"));
+        assertEquals(m.divide(2L, RoundingMode.HALF_EVEN), FastMoney.of(new BigDecimal("0.00002"), "CHF"));
+        assertEquals(m.negate().divide(2L, RoundingMode.FLOOR), FastMoney.of(new BigDecimal("-0.00003"), "CHF"));
+        assertEquals(m.divide(2L), m.divide(2L, RoundingMode.HALF_EVEN));
+        assertEquals(FastMoney.of(100, "CHF").divide(3L, RoundingMode.UP),
+                FastMoney.of(new BigDecimal("33.33334"), "CHF"));
+        try {
+            m.divide(2L, RoundingMode.UNNECESSARY);
+            fail("rounding required should raise ArithmeticException");
+        } catch (ArithmeticException e) {
+            // should happen
+        }
+    }
+
+    /**
+     * Test method for {@link org.javamoney.moneta.FastMoney#divide(Number, RoundingMode)}, where the
+     * exact result differs from the result calculated with doubles.
+     */
+    @Test
+    public void testDivideNumberExact() {
+        FastMoney m = FastMoney.of(new BigDecimal("92233720368547.75807"), "CHF");
+        assertEquals(m.divide(new BigDecimal("1.1")), FastMoney.of(
+                new BigDecimal("92233720368547.75807").divide(new BigDecimal("1.1"), 5, RoundingMode.HALF_EVEN), "CHF"));
+        assertEquals(m.divide(new BigDecimal("3"), RoundingMode.DOWN), FastMoney.of(
+                new BigDecimal("92233720368547.75807").divide(new BigDecimal("3"), 5, RoundingMode.DOWN), "CHF"));
+        try {
+            m.divide(BigDecimal.ZERO);
+            fail("division by zero should raise ArithmeticException");
+        } catch (ArithmeticException e) {
+            // should happen
+        }
+    }
+
+    /**
+     * Test method for {@link org.javamoney.moneta.FastMoney#multiply(Number, RoundingMode)}, where the
+     * intermediate product exceeds the range of a long.
+     */
+    @Test
+    public void testMultiplyNumberExact() {
+        FastMoney m = FastMoney.of(new BigDecimal("90000000000000"), "CHF");
+        assertEquals(m.multiply(new BigDecimal("0.5")), FastMoney.of(new BigDecimal("45000000000000"), "CHF"));
+        assertEquals(m.multiply(new BigDecimal("1.000000000000001"), RoundingMode.DOWN),
+                FastMoney.of(new BigDecimal("90000000000000.09"), "CHF"));
+        m = FastMoney.of(new BigDecimal("0.00003"), "CHF");
+        assertEquals(m.multiply(new BigDecimal("0.5"), RoundingMode.HALF_UP),
+                FastMoney.of(new BigDecimal("0.00002"), "CHF"));
+        assertEquals(m.multiply(new BigDecimal("0.5"), RoundingMode.HALF_DOWN),
+                FastMoney.of(new BigDecimal("0.00001"), "CHF"));
+        assertEquals(m.multiply(new BigDecimal("0.5"), RoundingMode.DOWN),
+                FastMoney.of(new BigDecimal("0.00001"), "CHF"));
+    }
+
+    /**
+     * Test method for {@link org.javamoney.moneta.FastMoney#divideAndRemainder(long)} and
+     * {@link org.javamoney.moneta.FastMoney#divideToIntegralValue(long)}.
+     */
+    @Test
+    public void testDivideAndRemainderLong() {
+        FastMoney[] moneys = new FastMoney[]{FastMoney.of(100, "CHF"), FastMoney.of(new BigDecimal("-723527.36532"), "CHF"),
+                FastMoney.of(new BigDecimal("1.5"), "CHF"), FastMoney.of(0, "CHF")};
+        for (FastMoney m : moneys) {
+            for (long divisor : new long[]{1L, 3L, -7L}) {
+                BigDecimal[] expected = m.getNumber().numberValue(BigDecimal.class)
+                        .divideAndRemainder(BigDecimal.valueOf(divisor));
+                FastMoney[] result = m.divideAndRemainder(divisor);
+                assertEquals(result[0], FastMoney.of(expected[0], "CHF"));
+                assertEquals(result[1], FastMoney.of(expected[1], "CHF"));
+                assertEquals(m.divideToIntegralValue(divisor), FastMoney.of(expected[0], "CHF"));
+            }
+        }
+    }
+
     /**
      * Test method for {@link org.javamoney.moneta.FastMoney#divideAndRemainder(java.lang.Number)} .
      */
@@ -1051,6 +1168,38 @@ public class FastMoneyTest {
                 FastMoney.of(new BigDecimal("1.0000"), "CHF").isEqualTo(FastMoney.of(new BigDecimal("1.00"), "CHF")));
     }
 
+    /**
+     * Test comparisons and arithmetic give the same results, regardless of the other amount being a
+     * {@link FastMoney} or another {@link MonetaryAmount} implementation.
+     */
+    @Test
+    public void testFastMoneyAndMoneyOperandsAreEquivalent() {
+        FastMoney m = FastMoney.of(new BigDecimal("12.34567"), "CHF");
+        FastMoney fast = FastMoney.of(new BigDecimal("2.5"), "CHF");
+        Money money = Money.of(new BigDecimal("2.5"), "CHF");
+        assertEquals(m.add(fast), m.add(money));
+        assertEquals(m.subtract(fast), m.subtract(money));
+        assertEquals(m.compareTo(fast), m.compareTo(money));
+        assertEquals(m.isEqualTo(fast), m.isEqualTo(money));
+        assertEquals(m.isGreaterThan(fast), m.isGreaterThan(money));
+        assertEquals(m.isGreaterThanOrEqualTo(fast), m.isGreaterThanOrEqualTo(money));
+        assertEquals(m.isLessThan(fast), m.isLessThan(money));
+        assertEquals(m.isLessThanOrEqualTo(fast), m.isLessThanOrEqualTo(money));
+        assertTrue(fast.isEqualTo(money));
+        assertTrue(m.add(FastMoney.zero(m.getCurrency())) == m);
+        assertTrue(m.subtract(FastMoney.zero(m.getCurrency())) == m);
+    }
+
+    @Test(expectedExceptions = MonetaryException.class)
+    public void testAddFastMoneyCurrencyMismatch() {
+        FastMoney.of(1, "CHF").add(FastMoney.of(1, "EUR"));
+    }
+
+    @Test(expectedExceptions = MonetaryException.class)
+    public void testIsEqualToFastMoneyCurrencyMismatch() {
+        FastMoney.of(1, "CHF").isEqualTo(FastMoney.of(1, "EUR"));
+    }
+
 
     /**
      * Test method for {@link org.javamoney.moneta.FastMoney#getNumber()}.
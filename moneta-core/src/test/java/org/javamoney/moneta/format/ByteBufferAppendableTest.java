@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.format;
+
+import static org.testng.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import javax.money.format.AmountFormatQueryBuilder;
+import javax.money.format.MonetaryAmountFormat;
+import javax.money.format.MonetaryFormats;
+
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.Money;
+import org.testng.annotations.Test;
+
+public class ByteBufferAppendableTest {
+
+    @Test
+    public void shouldEncodeUtf8() {
+        String text = "12,50 € £ 💰";
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        ByteBufferAppendable appendable = ByteBufferAppendable.of(buffer);
+        appendable.append(text, 0, 11).append(text.charAt(11));
+        assertEquals(decode(buffer), text);
+        assertEquals(buffer.position(), text.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    public void shouldReplaceUnpairedSurrogates() {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        ByteBufferAppendable.of(buffer).append('\uD83D').append('1').append('\uDCB0');
+        assertEquals(decode(buffer), "?1?");
+    }
+
+    @Test
+    public void shouldNotWritePartialCharacters() {
+        ByteBuffer buffer = ByteBuffer.allocate(4);
+        ByteBufferAppendable appendable = ByteBufferAppendable.of(buffer).append("12");
+        try {
+            appendable.append('€');
+        } catch (BufferOverflowException e) {
+            assertEquals(decode(buffer), "12");
+            return;
+        }
+        throw new AssertionError("BufferOverflowException expected.");
+    }
+
+    @Test
+    public void shouldKeepPendingSurrogateOnOverflow() {
+        ByteBuffer buffer = ByteBuffer.allocate(4);
+        ByteBufferAppendable appendable = ByteBufferAppendable.of(buffer).append("12").append('\uD83D');
+        try {
+            appendable.append('\uDCB0');
+            throw new AssertionError("BufferOverflowException expected.");
+        } catch (BufferOverflowException e) {
+            assertEquals(decode(buffer), "12");
+        }
+        buffer.clear();
+        appendable.append('\uDCB0');
+        assertEquals(decode(buffer), "\uD83D\uDCB0");
+    }
+
+    @Test
+    public void shouldWriteTrailingSurrogateOnFlush() {
+        ByteBuffer buffer = ByteBuffer.allocate(4);
+        ByteBufferAppendable appendable = ByteBufferAppendable.of(buffer).append("1").append('\uD83D');
+        assertEquals(decode(buffer), "1");
+        appendable.flush().flush();
+        assertEquals(decode(buffer), "1?");
+    }
+
+    @Test
+    public void shouldPrintAmounts() throws IOException {
+        MonetaryAmountFormat format = MonetaryFormats.getAmountFormat(
+                AmountFormatQueryBuilder.of(Locale.GERMANY).set(CurrencyStyle.SYMBOL).build());
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        ByteBufferAppendable appendable = ByteBufferAppendable.of(buffer);
+        format.print(appendable, Money.of(1234.5, "EUR"));
+        appendable.append(';');
+        format.print(appendable, FastMoney.of(-0.5, "EUR"));
+        assertEquals(decode(buffer), "1.234,50 €;-0,50 €");
+    }
+
+    private static String decode(ByteBuffer buffer) {
+        return new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+    }
+}
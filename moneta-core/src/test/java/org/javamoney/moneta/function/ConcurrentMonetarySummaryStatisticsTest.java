@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.function;
+
+import static org.javamoney.moneta.function.StreamFactory.BRAZILIAN_REAL;
+import static org.javamoney.moneta.function.StreamFactory.DOLLAR;
+import static org.testng.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.Money;
+import org.testng.annotations.Test;
+
+public class ConcurrentMonetarySummaryStatisticsTest {
+
+    @Test
+    public void shouldAcceptFromManyThreads() throws Exception {
+        ConcurrentMonetarySummaryStatistics summary = ConcurrentMonetarySummaryStatistics.of(BRAZILIAN_REAL, 3);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 1; i <= 10_000; i++) {
+                        summary.accept(FastMoney.of(i, BRAZILIAN_REAL));
+                        summary.accept(Money.of(i, DOLLAR));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        MonetarySummaryStatistics snapshot = summary.snapshot();
+        assertEquals(snapshot.getCount(), 80_000L);
+        assertEquals(snapshot.getMin(), FastMoney.of(1, BRAZILIAN_REAL));
+        assertEquals(snapshot.getMax(), FastMoney.of(10_000, BRAZILIAN_REAL));
+        assertEquals(snapshot.getSum(), FastMoney.of(8L * 50_005_000L, BRAZILIAN_REAL));
+        assertEquals(summary.getAverage(), FastMoney.of(5000.5, BRAZILIAN_REAL));
+    }
+
+    @Test
+    public void shouldCombine() {
+        ConcurrentMonetarySummaryStatistics summary = ConcurrentMonetarySummaryStatistics.of(BRAZILIAN_REAL);
+        summary.accept(Money.of(2, BRAZILIAN_REAL));
+        ConcurrentMonetarySummaryStatistics other = ConcurrentMonetarySummaryStatistics.of(BRAZILIAN_REAL);
+        other.accept(Money.of(4, BRAZILIAN_REAL));
+        summary.combine(other);
+        summary.combine(summary);
+        assertEquals(summary.getCount(), 2L);
+        assertEquals(summary.getSum(), Money.of(6, BRAZILIAN_REAL));
+        assertEquals(other.getCount(), 1L);
+    }
+
+    @Test
+    public void shouldCollectConcurrently() {
+        MonetarySummaryStatistics summary = IntStream.rangeClosed(1, 100_000).parallel()
+                .mapToObj(i -> FastMoney.of(i, BRAZILIAN_REAL))
+                .collect(MonetaryFunctions.summarizingMonetaryConcurrent(BRAZILIAN_REAL));
+        assertEquals(summary.getCount(), 100_000L);
+        assertEquals(summary.getSum(), FastMoney.of(5_000_050_000L, BRAZILIAN_REAL));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldRejectInvalidStripes() {
+        ConcurrentMonetarySummaryStatistics.of(BRAZILIAN_REAL, 0);
+    }
+}
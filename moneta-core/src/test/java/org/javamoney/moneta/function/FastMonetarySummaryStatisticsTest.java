@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.function;
+
+import static org.javamoney.moneta.function.StreamFactory.BRAZILIAN_REAL;
+import static org.javamoney.moneta.function.StreamFactory.DOLLAR;
+import static org.javamoney.moneta.function.StreamFactory.EURO;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import javax.money.CurrencyUnit;
+import javax.money.MonetaryAmount;
+
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.Money;
+import org.testng.annotations.Test;
+
+public class FastMonetarySummaryStatisticsTest {
+
+    @Test
+    public void shouldBeEmpty() {
+        FastMonetarySummaryStatistics summary = FastMonetarySummaryStatistics.of(BRAZILIAN_REAL);
+        summary.accept(Money.of(10, DOLLAR));
+        assertEquals(summary.getCount(), 0L);
+        assertEquals(summary.getMin(), FastMoney.zero(BRAZILIAN_REAL));
+        assertEquals(summary.getMax(), FastMoney.zero(BRAZILIAN_REAL));
+        assertEquals(summary.getSum(), FastMoney.zero(BRAZILIAN_REAL));
+        assertEquals(summary.getAverage(), FastMoney.zero(BRAZILIAN_REAL));
+    }
+
+    @Test
+    public void shouldSummarizeFastMoney() {
+        FastMonetarySummaryStatistics summary = FastMonetarySummaryStatistics.of(BRAZILIAN_REAL);
+        FastMoney min = FastMoney.of(-2.5, BRAZILIAN_REAL);
+        FastMoney max = FastMoney.of(12, BRAZILIAN_REAL);
+        summary.accept(FastMoney.of(10, BRAZILIAN_REAL));
+        summary.accept(min);
+        summary.accept(max);
+        summary.accept(FastMoney.of(0.5, BRAZILIAN_REAL));
+        assertEquals(summary.getCount(), 4L);
+        assertSame(summary.getMin(), min);
+        assertSame(summary.getMax(), max);
+        assertEquals(summary.getSum(), FastMoney.of(20, BRAZILIAN_REAL));
+        assertEquals(summary.getAverage(), FastMoney.of(5, BRAZILIAN_REAL));
+    }
+
+    @Test
+    public void shouldSumOtherAmountsExactly() {
+        FastMonetarySummaryStatistics summary = FastMonetarySummaryStatistics.of(BRAZILIAN_REAL);
+        summary.accept(FastMoney.of(1, BRAZILIAN_REAL));
+        summary.accept(Money.of(new BigDecimal("0.0000001"), BRAZILIAN_REAL));
+        MonetaryAmount sum = summary.getSum();
+        assertEquals(sum.getClass(), Money.class);
+        assertEquals(sum.getNumber().numberValue(BigDecimal.class), new BigDecimal("1.0000001"));
+    }
+
+    @Test
+    public void shouldSumBeyondFastMoney() {
+        FastMonetarySummaryStatistics summary = FastMonetarySummaryStatistics.of(BRAZILIAN_REAL);
+        summary.accept(FastMoney.MAX_VALUE.getFactory().setCurrency(BRAZILIAN_REAL).create());
+        summary.accept(FastMoney.MAX_VALUE.getFactory().setCurrency(BRAZILIAN_REAL).create());
+        assertEquals(summary.getSum().getNumber().numberValue(BigDecimal.class),
+                FastMoney.MAX_VALUE.getNumber().numberValue(BigDecimal.class).multiply(BigDecimal.valueOf(2)));
+    }
+
+    @Test
+    public void shouldCombine() {
+        FastMonetarySummaryStatistics summary = FastMonetarySummaryStatistics.of(BRAZILIAN_REAL);
+        summary.accept(FastMoney.of(10, BRAZILIAN_REAL));
+        DefaultMonetarySummaryStatistics other = DefaultMonetarySummaryStatistics.of(BRAZILIAN_REAL);
+        other.accept(Money.of(-4, BRAZILIAN_REAL));
+        FastMonetarySummaryStatistics fast = FastMonetarySummaryStatistics.of(BRAZILIAN_REAL);
+        fast.accept(FastMoney.of(12, BRAZILIAN_REAL));
+        summary.combine(other).combine(fast).combine(FastMonetarySummaryStatistics.of(DOLLAR));
+        assertEquals(summary.getCount(), 3L);
+        assertEquals(summary.getMin().getNumber().intValue(), -4);
+        assertEquals(summary.getMax().getNumber().intValue(), 12);
+        assertEquals(summary.getSum(), Money.of(18, BRAZILIAN_REAL));
+        assertEquals(summary.getAverage(), Money.of(6, BRAZILIAN_REAL));
+    }
+
+    @Test
+    public void shouldCollectInParallel() {
+        MonetarySummaryStatistics summary = IntStream.rangeClosed(1, 100_000).parallel()
+                .mapToObj(i -> FastMoney.of(i, BRAZILIAN_REAL))
+                .collect(MonetaryFunctions.summarizingMonetaryParallel(BRAZILIAN_REAL));
+        assertEquals(summary.getCount(), 100_000L);
+        assertEquals(summary.getMin(), FastMoney.of(1, BRAZILIAN_REAL));
+        assertEquals(summary.getMax(), FastMoney.of(100_000, BRAZILIAN_REAL));
+        assertEquals(summary.getSum(), FastMoney.of(5_000_050_000L, BRAZILIAN_REAL));
+    }
+
+    @Test
+    public void shouldCollectByCurrencyInParallel() {
+        Map<CurrencyUnit, MonetarySummaryStatistics> summaries = IntStream.rangeClosed(1, 100_000).parallel()
+                .mapToObj(i -> i % 2 == 0 ? FastMoney.of(i, BRAZILIAN_REAL) : Money.of(i, DOLLAR))
+                .collect(MonetaryFunctions.groupBySummarizingMonetaryParallel());
+        assertEquals(summaries.size(), 2);
+        MonetarySummaryStatistics reals = summaries.get(BRAZILIAN_REAL);
+        assertEquals(reals.getCount(), 50_000L);
+        assertEquals(reals.getMin(), FastMoney.of(2, BRAZILIAN_REAL));
+        assertEquals(reals.getMax(), FastMoney.of(100_000, BRAZILIAN_REAL));
+        assertEquals(reals.getSum(), FastMoney.of(2_500_050_000L, BRAZILIAN_REAL));
+        MonetarySummaryStatistics dollars = summaries.get(DOLLAR);
+        assertEquals(dollars.getCount(), 50_000L);
+        assertEquals(dollars.getSum(), Money.of(2_500_000_000L, DOLLAR));
+        assertEquals(summaries.get(EURO).getCount(), 0L);
+    }
+}
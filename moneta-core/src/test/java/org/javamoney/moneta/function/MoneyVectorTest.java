@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.function;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryAmount;
+import javax.money.convert.ConversionContext;
+import javax.money.convert.CurrencyConversion;
+import javax.money.convert.ExchangeRate;
+import javax.money.convert.ExchangeRateProvider;
+import javax.money.convert.RateType;
+
+import org.javamoney.moneta.ExchangeRateBuilder;
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.Money;
+import org.javamoney.moneta.spi.AbstractCurrencyConversion;
+import org.javamoney.moneta.spi.DefaultNumberValue;
+import org.testng.annotations.Test;
+
+public class MoneyVectorTest {
+
+    private static final CurrencyUnit EURO = Monetary.getCurrency("EUR");
+    private static final CurrencyUnit DOLLAR = Monetary.getCurrency("USD");
+    private static final CurrencyUnit FRANC = Monetary.getCurrency("CHF");
+
+    @Test
+    public void shouldRoundTripAmounts() {
+        MoneyVector vector = MoneyVector.from(FastMoney.of(new BigDecimal("1.23456"), EURO),
+                Money.of(10, DOLLAR), FastMoney.of(-5, EURO));
+        assertEquals(vector.size(), 3);
+        assertFalse(vector.isEmpty());
+        assertEquals(vector.getCurrencies(), Arrays.asList(EURO, DOLLAR));
+        assertEquals(vector.getScaledValue(0), 123456L);
+        assertEquals(vector.getCurrency(1), DOLLAR);
+        assertEquals(vector.toFastMoneyArray(), new FastMoney[]{FastMoney.of(new BigDecimal("1.23456"), EURO),
+                FastMoney.of(10, DOLLAR), FastMoney.of(-5, EURO)});
+        assertEquals(vector.toMoneyArray(), new Money[]{Money.of(new BigDecimal("1.23456"), EURO),
+                Money.of(10, DOLLAR), Money.of(-5, EURO)});
+        assertEquals(MoneyVector.from(Arrays.asList(vector.toMoneyArray())), vector);
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void shouldRejectScaleExceedingFastMoney() {
+        MoneyVector.from(Money.of(new BigDecimal("0.000001"), EURO));
+    }
+
+    @Test
+    public void shouldSumMinMaxPerCurrency() {
+        MoneyVector vector = MoneyVector.from(Money.of(3, EURO), Money.of(100, DOLLAR), Money.of(-2, EURO),
+                Money.of(new BigDecimal("7.5"), EURO));
+        assertEquals(vector.sum(EURO), FastMoney.of(new BigDecimal("8.5"), EURO));
+        assertEquals(vector.sum(DOLLAR), FastMoney.of(100, DOLLAR));
+        assertEquals(vector.sum(FRANC), FastMoney.zero(FRANC));
+        assertEquals(vector.min(EURO).get(), FastMoney.of(-2, EURO));
+        assertEquals(vector.max(EURO).get(), FastMoney.of(new BigDecimal("7.5"), EURO));
+        assertFalse(vector.min(FRANC).isPresent());
+        assertFalse(vector.max(FRANC).isPresent());
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void shouldFailOnSumOverflow() {
+        MoneyVector.ofScaled(EURO, Long.MAX_VALUE, 1L).sum(EURO);
+    }
+
+    @Test
+    public void shouldScaleAndRound() {
+        MoneyVector vector = MoneyVector.ofScaled(EURO, 100_000L, 333L, -333L);
+        assertEquals(vector.scale(new BigDecimal("0.5"), RoundingMode.HALF_UP),
+                MoneyVector.ofScaled(EURO, 50_000L, 167L, -167L));
+        assertEquals(vector.scale(3, RoundingMode.UNNECESSARY), MoneyVector.ofScaled(EURO, 300_000L, 999L, -999L));
+        assertEquals(vector.round(RoundingMode.HALF_EVEN), MoneyVector.ofScaled(EURO, 100_000L, 0L, 0L));
+        assertEquals(vector.round(3, RoundingMode.UP), MoneyVector.ofScaled(EURO, 100_000L, 400L, -400L));
+        MoneyVector yen = MoneyVector.from(Money.of(new BigDecimal("12.5"), Monetary.getCurrency("JPY")));
+        assertEquals(yen.round(RoundingMode.HALF_EVEN).get(0), FastMoney.of(12, Monetary.getCurrency("JPY")));
+    }
+
+    @Test
+    public void shouldConvertWithOneRatePerCurrency() {
+        Map<CurrencyUnit, BigDecimal> factors = new HashMap<>();
+        factors.put(EURO, new BigDecimal("1.1"));
+        factors.put(DOLLAR, new BigDecimal("0.9"));
+        TestConversion conversion = new TestConversion(FRANC, factors);
+        MoneyVector vector = MoneyVector.from(Money.of(10, EURO), Money.of(10, DOLLAR), Money.of(1, FRANC),
+                Money.of(new BigDecimal("0.00001"), EURO));
+        MoneyVector converted = vector.convert(conversion, RoundingMode.HALF_EVEN);
+        assertEquals(conversion.calls, 2);
+        assertEquals(converted.getCurrencies(), Arrays.asList(FRANC));
+        assertEquals(converted.toFastMoneyArray(), new FastMoney[]{FastMoney.of(11, FRANC), FastMoney.of(9, FRANC),
+                FastMoney.of(1, FRANC), FastMoney.of(new BigDecimal("0.00001"), FRANC)});
+        assertTrue(converted.sum(FRANC).isEqualTo(FastMoney.of(new BigDecimal("21.00001"), FRANC)));
+    }
+
+    private static final class TestConversion extends AbstractCurrencyConversion {
+
+        private final Map<CurrencyUnit, BigDecimal> factors;
+        private int calls;
+
+        TestConversion(CurrencyUnit termCurrency, Map<CurrencyUnit, BigDecimal> factors) {
+            super(termCurrency, ConversionContext.of("test", RateType.ANY));
+            this.factors = factors;
+        }
+
+        @Override
+        public ExchangeRate getExchangeRate(MonetaryAmount sourceAmount) {
+            calls++;
+            return new ExchangeRateBuilder(getContext()).setBase(sourceAmount.getCurrency()).setTerm(getCurrency())
+                    .setFactor(DefaultNumberValue.of(factors.get(sourceAmount.getCurrency()))).build();
+        }
+
+        @Override
+        public CurrencyConversion with(ConversionContext conversionContext) {
+            return this;
+        }
+
+        @Override
+        public ExchangeRateProvider getExchangeRateProvider() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.internal;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import javax.money.CurrencyUnit;
+import javax.money.UnknownCurrencyException;
+
+import org.javamoney.moneta.CurrencyUnitBuilder;
+import org.testng.annotations.Test;
+
+public class DefaultMonetaryCurrenciesSingletonSpiTest {
+
+    @Test
+    public void shouldReturnIndexedCurrency() {
+        DefaultMonetaryCurrenciesSingletonSpi spi = new DefaultMonetaryCurrenciesSingletonSpi();
+        CurrencyUnit euro = spi.getCurrency("EUR");
+        assertEquals(euro.getCurrencyCode(), "EUR");
+        assertSame(spi.getCurrency("EUR"), euro);
+        assertTrue(spi.isCurrencyAvailable("EUR"));
+        assertFalse(spi.isCurrencyAvailable("EU"));
+    }
+
+    @Test(expectedExceptions = UnknownCurrencyException.class)
+    public void shouldFailForUnknownCode() {
+        new DefaultMonetaryCurrenciesSingletonSpi().getCurrency("eur");
+    }
+
+    @Test
+    public void shouldInvalidateOnRegistration() {
+        DefaultMonetaryCurrenciesSingletonSpi spi = new DefaultMonetaryCurrenciesSingletonSpi();
+        assertFalse(spi.isCurrencyAvailable("QQZ"));
+        CurrencyUnit registered = CurrencyUnitBuilder.of("QQZ", "test").build(true);
+        try {
+            assertSame(spi.getCurrency("QQZ"), registered);
+            assertTrue(spi.isCurrencyAvailable("QQZ"));
+        } finally {
+            ConfigurableCurrencyUnitProvider.removeCurrencyUnit("QQZ");
+        }
+        assertFalse(spi.isCurrencyAvailable("QQZ"));
+        CurrencyUnit other = CurrencyUnitBuilder.of("Q-1", "test").build(true);
+        try {
+            assertSame(spi.getCurrency("Q-1"), other);
+        } finally {
+            ConfigurableCurrencyUnitProvider.removeCurrencyUnit("Q-1");
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.internal;
+
+import static org.testng.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+public class FastMoneyMathTest {
+
+    @Test
+    public void shouldMatchBigDecimalArithmetic() {
+        Random random = new Random(42L);
+        long[] specials = {0L, 1L, -1L, 3L, 100_000L, Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + 1,
+                1L << 32, (1L << 32) - 1};
+        for (int i = 0; i < 100_000; i++) {
+            long value = pick(random, specials);
+            long multiplier = pick(random, specials);
+            long divisor = pick(random, specials);
+            if (divisor == 0L) {
+                continue;
+            }
+            RoundingMode roundingMode = RoundingMode.values()[random.nextInt(RoundingMode.values().length)];
+            Long expected;
+            try {
+                expected = new BigDecimal(BigInteger.valueOf(value).multiply(BigInteger.valueOf(multiplier)))
+                        .divide(BigDecimal.valueOf(divisor), 0, roundingMode).longValueExact();
+            } catch (ArithmeticException e) {
+                expected = null;
+            }
+            Long result;
+            try {
+                result = FastMoneyMath.multiplyAndDivide(value, multiplier, divisor, roundingMode);
+            } catch (ArithmeticException e) {
+                result = null;
+            }
+            assertEquals(result, expected, value + " * " + multiplier + " / " + divisor + ", " + roundingMode);
+        }
+    }
+
+    @Test
+    public void shouldRoundHalfModes() {
+        assertEquals(FastMoneyMath.divide(5L, 2L, RoundingMode.HALF_UP), 3L);
+        assertEquals(FastMoneyMath.divide(5L, 2L, RoundingMode.HALF_DOWN), 2L);
+        assertEquals(FastMoneyMath.divide(5L, 2L, RoundingMode.HALF_EVEN), 2L);
+        assertEquals(FastMoneyMath.divide(7L, 2L, RoundingMode.HALF_EVEN), 4L);
+        assertEquals(FastMoneyMath.divide(-5L, 2L, RoundingMode.HALF_UP), -3L);
+        assertEquals(FastMoneyMath.divide(-5L, 2L, RoundingMode.CEILING), -2L);
+        assertEquals(FastMoneyMath.divide(-5L, 2L, RoundingMode.FLOOR), -3L);
+    }
+
+    @Test
+    public void shouldNotOverflowIntermediateProduct() {
+        assertEquals(FastMoneyMath.multiplyAndDivide(Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE,
+                RoundingMode.UNNECESSARY), Long.MAX_VALUE);
+        assertEquals(FastMoneyMath.multiplyAndDivide(Long.MIN_VALUE, 3L, 3L, RoundingMode.UNNECESSARY),
+                Long.MIN_VALUE);
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void shouldFailOnOverflow() {
+        FastMoneyMath.multiplyAndDivide(Long.MAX_VALUE, 2L, 1L, RoundingMode.DOWN);
+    }
+
+    @Test(expectedExceptions = ArithmeticException.class)
+    public void shouldFailOnDivisionByZero() {
+        FastMoneyMath.divide(1L, 0L, RoundingMode.DOWN);
+    }
+
+    private static long pick(Random random, long[] specials) {
+        switch (random.nextInt(4)) {
+            case 0:
+                return specials[random.nextInt(specials.length)];
+            case 1:
+                return random.nextInt();
+            case 2:
+                return random.nextLong() >> random.nextInt(64);
+            default:
+                return random.nextLong();
+        }
+    }
+}
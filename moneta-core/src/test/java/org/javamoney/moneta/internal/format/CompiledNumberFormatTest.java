@@ -0,0 +1,166 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.internal.format;
+
+import static org.testng.Assert.assertEquals;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.money.MonetaryAmount;
+import javax.money.format.AmountFormatContext;
+import javax.money.format.AmountFormatContextBuilder;
+import javax.money.format.MonetaryParseException;
+
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.Money;
+import org.javamoney.moneta.format.AmountFormatParams;
+import org.testng.annotations.Test;
+
+public class CompiledNumberFormatTest {
+
+    private static final String[] NUMBERS = {"0", "0.5", "12.5", "-12.5", "0.004", "1E+3", "1.005", "-1234567.895",
+            "123456789101112.123456", "99999999999999999999999.995"};
+
+    @Test
+    public void shouldPrintLikeDecimalFormat() throws IOException {
+        for (Locale locale : new Locale[]{Locale.GERMANY, Locale.US, new Locale("fr", "CH")}) {
+            for (String pattern : new String[]{"#,##0.00", "#,##0.00### ", " #,##0.###", "00000.0#", "#.##",
+                    "#,##0;(#,##0)"}) {
+                DecimalFormat expected = (DecimalFormat) DecimalFormat.getInstance(locale);
+                expected.applyPattern(pattern);
+                CompiledNumberFormat format = new CompiledNumberFormat(context(locale).build(), pattern);
+                for (String number : NUMBERS) {
+                    MonetaryAmount amount = Money.of(new BigDecimal(number), "EUR");
+                    assertEquals(print(format, amount),
+                            expected.format(amount.getNumber().numberValue(BigDecimal.class)),
+                            pattern + " " + locale + " " + number);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldPrintFastMoney() throws IOException {
+        CompiledNumberFormat format = new CompiledNumberFormat(context(Locale.GERMANY).build(), "#,##0.00");
+        assertEquals(print(format, FastMoney.of(new BigDecimal("1234567.895"), "EUR")), "1.234.567,90");
+        assertEquals(print(format, FastMoney.of(new BigDecimal("-0.5"), "EUR")), "-0,50");
+        assertEquals(print(format, FastMoney.MAX_VALUE), "92.233.720.368.547,76");
+        assertEquals(print(format, FastMoney.MIN_VALUE), "-92.233.720.368.547,76");
+    }
+
+    @Test
+    public void shouldApplyGroupingSizesAndSeparators() throws IOException {
+        AmountFormatContext context = context(Locale.US)
+                .set(AmountFormatParams.GROUPING_SIZES, new int[]{3, 2})
+                .set(AmountFormatParams.GROUPING_GROUPING_SEPARATORS, new char[]{',', '\''}).build();
+        CompiledNumberFormat format = new CompiledNumberFormat(context, "#,##0.00");
+        assertEquals(print(format, Money.of(new BigDecimal("123456789101112.123456"), "INR")),
+                "12'34'56'78'91'01,112.12");
+        assertEquals(print(format, FastMoney.of(1234, "INR")), "1,234.00");
+        context = context(Locale.GERMANY).set(AmountFormatParams.GROUPING_SIZES, new int[]{2, 2, 3}).build();
+        format = new CompiledNumberFormat(context, "#,##0");
+        assertEquals(print(format, Money.of(1234567890, "EUR")), "123.456.78.90");
+    }
+
+    @Test
+    public void shouldFallBackForPercentPatterns() throws IOException {
+        CompiledNumberFormat format = new CompiledNumberFormat(context(Locale.US).build(), "#0.0%");
+        assertEquals(print(format, Money.of(new BigDecimal("0.125"), "USD")), "12.5%");
+    }
+
+    @Test
+    public void shouldBeSharedAcrossThreads() throws InterruptedException, ExecutionException {
+        CompiledNumberFormat format = new CompiledNumberFormat(context(Locale.GERMANY).build(), "#,##0.00");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                MonetaryAmount amount = i % 2 == 0 ? Money.of(i, "EUR") : FastMoney.of(i, "EUR");
+                results.add(executor.submit(() -> print(format, amount)));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(results.get(i).get(), String.format(Locale.GERMANY, "%,.2f", (double) i));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldParseWhatIsPrinted() throws IOException {
+        for (Locale locale : new Locale[]{Locale.GERMANY, Locale.US, new Locale("fr", "CH")}) {
+            for (String pattern : new String[]{"#,##0.00", "#,##0.00### ", "00000.0#", "#,##0;(#,##0)",
+                    "0.00;0.00-", "#0.0%"}) {
+                DecimalFormat expected = (DecimalFormat) DecimalFormat.getInstance(locale);
+                expected.applyPattern(pattern.trim());
+                expected.setParseBigDecimal(true);
+                CompiledNumberFormat format = new CompiledNumberFormat(context(locale).build(), pattern);
+                for (String number : NUMBERS) {
+                    String text = print(format, Money.of(new BigDecimal(number), "EUR"));
+                    ParseContext context = new ParseContext(" " + text + " EUR");
+                    format.parse(context);
+                    BigDecimal parsed = (BigDecimal) context.getParsedNumber();
+                    assertEquals(parsed.compareTo((BigDecimal) expected.parse(text.trim())), 0,
+                            pattern + " " + locale + " " + text + " -> " + parsed);
+                    assertEquals(context.getIndex(), text.trim().length() + 1);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldParseBeyondLongPrecision() {
+        CompiledNumberFormat format = new CompiledNumberFormat(context(Locale.GERMANY).build(), "#,##0.00");
+        ParseContext context = new ParseContext("-1.234.567.890.123.456.789.012,345EUR");
+        format.parse(context);
+        assertEquals(context.getParsedNumber(), new BigDecimal("-1234567890123456789012.345"));
+        assertEquals(context.getIndex(), 34);
+    }
+
+    @Test
+    public void shouldParseCustomGroupingSeparators() {
+        AmountFormatContext context = context(Locale.US)
+                .set(AmountFormatParams.GROUPING_SIZES, new int[]{3, 2})
+                .set(AmountFormatParams.GROUPING_GROUPING_SEPARATORS, new char[]{',', '\''}).build();
+        ParseContext parseContext = new ParseContext("12'34'56'78'91'01,112.12 INR");
+        new CompiledNumberFormat(context, "#,##0.00").parse(parseContext);
+        assertEquals(parseContext.getParsedNumber(), new BigDecimal("123456789101112.12"));
+    }
+
+    @Test(expectedExceptions = MonetaryParseException.class)
+    public void shouldRejectMissingDigits() {
+        new CompiledNumberFormat(context(Locale.GERMANY).build(), "#,##0.00").parse(new ParseContext(" -,EUR"));
+    }
+
+    private static AmountFormatContextBuilder context(Locale locale) {
+        return AmountFormatContextBuilder.of("default").setLocale(locale);
+    }
+
+    private static String print(CompiledNumberFormat format, MonetaryAmount amount) throws IOException {
+        StringBuilder builder = new StringBuilder();
+        format.print(builder, amount);
+        return builder.toString();
+    }
+}
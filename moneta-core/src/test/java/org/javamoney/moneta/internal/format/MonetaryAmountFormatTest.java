@@ -19,6 +19,7 @@ import static org.testng.Assert.assertEquals;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.CharBuffer;
 import java.text.ParseException;
 import java.util.Locale;
 
@@ -27,6 +28,7 @@ import javax.money.format.AmountFormatQueryBuilder;
 import javax.money.format.MonetaryAmountFormat;
 import javax.money.format.MonetaryFormats;
 
+import org.javamoney.moneta.FastMoney;
 import org.javamoney.moneta.Money;
 import org.javamoney.moneta.format.CurrencyStyle;
 import org.testng.annotations.Test;
@@ -131,6 +133,25 @@ public class MonetaryAmountFormatTest {
         // b.toString());
     }
 
+    /**
+     * Test method for
+     * {@link javax.money.format.MonetaryAmountFormat#print(java.lang.Appendable, javax.money.MonetaryAmount)}
+     * using a {@link CharBuffer}.
+     *
+     * @throws IOException
+     */
+    @Test
+    public void testPrintToCharBuffer() throws IOException {
+        CharBuffer buffer = CharBuffer.allocate(64);
+        MonetaryAmountFormat format = MonetaryFormats
+                .getAmountFormat(AmountFormatQueryBuilder.of(Locale.GERMANY).set(CurrencyStyle.NUMERIC_CODE).build());
+        format.print(buffer, FastMoney.of(12.5, "CHF"));
+        buffer.append(';');
+        format.print(buffer, Money.of(new BigDecimal("-1234567.891"), "EUR"));
+        buffer.flip();
+        assertEquals("12,50 756;-1.234.567,89 978", buffer.toString());
+    }
+
     /**
      * Test method for {@link javax.money.format.MonetaryAmountFormat#parse(java.lang.CharSequence)}
      * .
@@ -151,6 +172,34 @@ public class MonetaryAmountFormatTest {
     }
 
 
+    /**
+     * Test method for {@link javax.money.format.MonetaryAmountFormat#parse(java.lang.CharSequence)}
+     * with currency symbols, negative amounts and missing blanks.
+     */
+    @Test
+    public void testParseSymbolsAndSigns() {
+        MonetaryAmountFormat format = MonetaryFormats.getAmountFormat(
+                AmountFormatQueryBuilder.of(Locale.GERMANY).set(CurrencyStyle.SYMBOL).build());
+        assertEquals(Money.of(new BigDecimal("-1234.50"), "EUR"), format.parse("-1.234,50 €"));
+        assertEquals(Money.of(new BigDecimal("12.50"), "USD"), format.parse("12,50 $"));
+        assertEquals(Money.of(new BigDecimal("12.50"), "CHF"), format.parse("12,50 CHF"));
+        MonetaryAmountFormat defaultFormat = MonetaryFormats.getAmountFormat(Locale.GERMANY);
+        assertEquals(Money.of(new BigDecimal("1234567.5"), "EUR"), defaultFormat.parse("1.234.567,5EUR"));
+    }
+
+    /**
+     * Test method for {@link javax.money.format.MonetaryAmountFormat#parse(java.lang.CharSequence)}
+     * with the symbols '$', '€' and '£' falling back to USD, EUR and GBP.
+     */
+    @Test
+    public void testParseFallbackSymbols() {
+        MonetaryAmountFormat format = MonetaryFormats.getAmountFormat(
+                AmountFormatQueryBuilder.of(Locale.UK).set(CurrencyStyle.SYMBOL).build());
+        assertEquals(Money.of(new BigDecimal("12.50"), "USD"), format.parse("$12.50"));
+        assertEquals(Money.of(new BigDecimal("12.50"), "EUR"), format.parse("€12.50"));
+        assertEquals(Money.of(new BigDecimal("12.50"), "GBP"), format.parse("£12.50"));
+    }
+
     /**
      * Test related to {@link https://java.net/jira/browse/JAVAMONEY-92}.
      */
@@ -0,0 +1,171 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.internal.loader;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class DefaultLoaderSchedulerTest {
+
+    private ScheduledExecutorService executor;
+
+    private DefaultLoaderScheduler scheduler;
+
+    @BeforeMethod
+    public void setup() {
+        executor = new ScheduledThreadPoolExecutor(4);
+        scheduler = new DefaultLoaderScheduler(executor, 1);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldRunLoadsOnInjectedExecutor() throws Exception {
+        Future<Boolean> result = scheduler.submit("test", () -> Boolean.TRUE);
+        assertTrue(result.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void shouldCompleteFutureOfLoad() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> blocking = scheduler.submit("test", () -> release.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> queued = scheduler.submit("test", () -> Boolean.TRUE);
+        CompletableFuture<String> chained = blocking.thenApply(String::valueOf);
+        assertTrue(queued.cancel(false));
+        release.countDown();
+        assertEquals(chained.get(5, TimeUnit.SECONDS), "true");
+        CompletableFuture<Boolean> failing = scheduler.submit("test", () -> {
+            throw new IllegalStateException("failed");
+        });
+        try {
+            failing.get(5, TimeUnit.SECONDS);
+            throw new AssertionError("Load should fail.");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test
+    public void shouldLimitConcurrentLoadsPerResource() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        Future<?>[] results = new Future<?>[4];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = scheduler.submit("test", () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(20L);
+                return running.decrementAndGet();
+            });
+        }
+        for (Future<?> result : results) {
+            result.get(5, TimeUnit.SECONDS);
+        }
+        assertEquals(maxRunning.get(), 1);
+    }
+
+    @Test
+    public void shouldNotBlockWorkersWithQueuedLoads() throws Exception {
+        ScheduledExecutorService twoThreads = new ScheduledThreadPoolExecutor(2);
+        try {
+            DefaultLoaderScheduler limited = new DefaultLoaderScheduler(twoThreads, 1);
+            CountDownLatch release = new CountDownLatch(1);
+            Future<Boolean> slow = limited.submit("slow", () -> release.await(5, TimeUnit.SECONDS));
+            Future<Boolean> queued = limited.submit("slow", () -> release.await(5, TimeUnit.SECONDS));
+            Future<Boolean> other = limited.submit("other", () -> Boolean.TRUE);
+            assertTrue(other.get(5, TimeUnit.SECONDS));
+            assertFalse(queued.isDone());
+            release.countDown();
+            assertTrue(slow.get(5, TimeUnit.SECONDS));
+            assertTrue(queued.get(5, TimeUnit.SECONDS));
+        } finally {
+            twoThreads.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldRunScheduledLoadsOnLoadExecutor() throws Exception {
+        ExecutorService loadExecutor = Executors.newSingleThreadExecutor();
+        try {
+            Thread loadThread = loadExecutor.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+            DefaultLoaderScheduler separated = new DefaultLoaderScheduler(executor, loadExecutor, 1);
+            CountDownLatch runs = new CountDownLatch(1);
+            AtomicReference<Thread> thread = new AtomicReference<>();
+            ScheduledFuture<?> schedule = separated.scheduleAtFixedRate("test", () -> {
+                thread.set(Thread.currentThread());
+                runs.countDown();
+            }, 0L, 10L, TimeUnit.MILLISECONDS);
+            assertTrue(runs.await(5, TimeUnit.SECONDS));
+            schedule.cancel(false);
+            assertSame(thread.get(), loadThread);
+        } finally {
+            loadExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldSkipScheduledLoadWhileResourceIsLoading() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Boolean> blocking = scheduler.submit("test", () -> release.await(5, TimeUnit.SECONDS));
+        AtomicInteger runs = new AtomicInteger();
+        ScheduledFuture<?> schedule = scheduler.scheduleAtFixedRate("test", runs::incrementAndGet, 0L, 10L,
+                TimeUnit.MILLISECONDS);
+        Thread.sleep(100L);
+        assertEquals(runs.get(), 0);
+        release.countDown();
+        blocking.get(5, TimeUnit.SECONDS);
+        Thread.sleep(100L);
+        schedule.cancel(false);
+        assertTrue(runs.get() > 0);
+    }
+
+    @Test
+    public void shouldKeepScheduleOnFailingLoad() throws Exception {
+        CountDownLatch runs = new CountDownLatch(2);
+        ScheduledFuture<?> schedule = scheduler.scheduleAtFixedRate("test", () -> {
+            runs.countDown();
+            throw new IllegalStateException("Load failed.");
+        }, 0L, 10L, TimeUnit.MILLISECONDS);
+        assertTrue(runs.await(5, TimeUnit.SECONDS));
+        schedule.cancel(false);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldRequirePositiveConcurrencyLimit() {
+        new DefaultLoaderScheduler(executor, 0);
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.internal.loader;
+
+import static org.testng.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class DefaultResourceCacheTest {
+
+    private String previousDir;
+
+    private File dir;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        dir = Files.createTempDirectory("defaultResourceCache").toFile();
+        previousDir = System.setProperty("temp.dir", dir.getAbsolutePath());
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        if (previousDir == null) {
+            System.clearProperty("temp.dir");
+        } else {
+            System.setProperty("temp.dir", previousDir);
+        }
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    @Test
+    public void shouldKeepBufferReadWhenRewritten() {
+        DefaultResourceCache cache = new DefaultResourceCache();
+        cache.write("rates", "EUR;USD;1.0898".getBytes(StandardCharsets.US_ASCII));
+        ByteBuffer old = cache.readBuffer("rates");
+        cache.write("rates", "new".getBytes(StandardCharsets.US_ASCII));
+        assertEquals(old.remaining(), 14);
+        byte[] data = new byte[old.remaining()];
+        old.get(data);
+        assertEquals(new String(data, StandardCharsets.US_ASCII), "EUR;USD;1.0898");
+        ByteBuffer current = cache.readBuffer("rates");
+        assertEquals(current.remaining(), 3);
+        assertEquals(cache.read("rates"), "new".getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.internal.loader;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class MappedResourceCacheTest {
+
+    private File dir;
+
+    private MappedResourceCache cache;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        dir = Files.createTempDirectory("mappedResourceCache").toFile();
+        cache = new MappedResourceCache(dir);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    @Test
+    public void shouldReadWrittenResource() throws IOException {
+        assertFalse(cache.isCached("rates"));
+        assertNull(cache.read("rates"));
+        assertNull(cache.readBuffer("rates"));
+        assertNull(cache.openStream("rates"));
+        cache.write("rates", bytes("EUR;USD;1.0898"));
+        assertTrue(cache.isCached("rates"));
+        assertEquals(cache.read("rates"), bytes("EUR;USD;1.0898"));
+        ByteBuffer buffer = cache.readBuffer("rates");
+        assertTrue(buffer.isReadOnly());
+        assertEquals(buffer.remaining(), 14);
+        try (InputStream in = cache.openStream("rates")) {
+            assertEquals(in.available(), 14);
+            assertEquals(in.skip(4), 4L);
+            byte[] read = new byte[16];
+            assertEquals(in.read(read, 0, read.length), 10);
+            assertEquals(new String(read, 0, 10, StandardCharsets.US_ASCII), "USD;1.0898");
+            assertEquals(in.read(), -1);
+        }
+        assertTrue(new MappedResourceCache(dir).isCached("rates"));
+    }
+
+    @Test
+    public void shouldReplaceResourceAtomically() {
+        cache.write("rates", bytes("old"));
+        ByteBuffer old = cache.readBuffer("rates");
+        cache.write("rates", bytes("new data"));
+        assertEquals(cache.read("rates"), bytes("new data"));
+        assertEquals(old.remaining(), 3);
+        String[] names = dir.list();
+        assertEquals(names.length, 1);
+        assertEquals(names[0], "rates.dat");
+    }
+
+    @Test
+    public void shouldClearResource() {
+        cache.write("rates", bytes("EUR;USD;1.0898"));
+        cache.readBuffer("rates");
+        cache.clear("rates");
+        assertFalse(cache.isCached("rates"));
+        assertNull(cache.readBuffer("rates"));
+        assertFalse(new MappedResourceCache(dir).isCached("rates"));
+    }
+
+    private static byte[] bytes(String data) {
+        return data.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.spi;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.MonetaryAmount;
+import javax.money.convert.ConversionContext;
+import javax.money.convert.ConversionQuery;
+import javax.money.convert.CurrencyConversionException;
+import javax.money.convert.ExchangeRate;
+import javax.money.convert.ProviderContext;
+import javax.money.convert.RateType;
+
+import org.javamoney.moneta.ExchangeRateBuilder;
+import org.javamoney.moneta.Money;
+import org.testng.annotations.Test;
+
+/**
+ * Test for the bulk conversion of {@link AbstractCurrencyConversion}.
+ */
+public class AbstractCurrencyConversionTest {
+
+    private static final CurrencyUnit EURO = Monetary.getCurrency("EUR");
+    private static final CurrencyUnit DOLLAR = Monetary.getCurrency("USD");
+    private static final CurrencyUnit FRANC = Monetary.getCurrency("CHF");
+    private static final CurrencyUnit REAL = Monetary.getCurrency("BRL");
+
+    @Test
+    public void shouldEvaluateRateOncePerCurrency() {
+        CountingRateProvider provider = new CountingRateProvider();
+        List<MonetaryAmount> amounts = Arrays.asList(Money.of(10, EURO), Money.of(20, DOLLAR), Money.of(5, FRANC),
+                Money.of(30, DOLLAR), Money.of(1, FRANC));
+        List<MonetaryAmount> result = conversion(provider).convertAll(amounts);
+        assertEquals(provider.calls, 2);
+        assertEquals(result.size(), 5);
+        assertSame(result.get(0), amounts.get(0));
+        assertEquals(result.get(1), Money.of(new BigDecimal("18.0"), EURO));
+        assertEquals(result.get(2), Money.of(new BigDecimal("4.5"), EURO));
+        assertEquals(result.get(3), Money.of(new BigDecimal("27.0"), EURO));
+        assertEquals(result.get(4), Money.of(new BigDecimal("0.9"), EURO));
+    }
+
+    @Test
+    public void shouldConvertLikeApply() {
+        CountingRateProvider provider = new CountingRateProvider();
+        AbstractCurrencyConversion conversion = conversion(provider);
+        List<MonetaryAmount> amounts = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            amounts.add(Money.of(i, i % 2 == 0 ? DOLLAR : FRANC));
+        }
+        List<MonetaryAmount> result = conversion.convertAll(amounts, true);
+        assertEquals(provider.calls, 2);
+        for (int i = 0; i < amounts.size(); i++) {
+            assertEquals(result.get(i), conversion.apply(amounts.get(i)));
+        }
+    }
+
+    @Test(expectedExceptions = CurrencyConversionException.class)
+    public void shouldFailWithoutRate() {
+        conversion(new CountingRateProvider()).convertAll(Arrays.asList(Money.of(10, DOLLAR), Money.of(1, REAL)));
+    }
+
+    private static AbstractCurrencyConversion conversion(CountingRateProvider provider) {
+        return (AbstractCurrencyConversion) provider.getCurrencyConversion(EURO);
+    }
+
+    /**
+     * Provider knowing a rate of 0.9 to EUR for USD and CHF, counting the rates returned.
+     */
+    private static final class CountingRateProvider extends AbstractRateProvider {
+
+        private int calls;
+
+        CountingRateProvider() {
+            super(ProviderContext.of("counting", RateType.ANY));
+        }
+
+        @Override
+        public ExchangeRate getExchangeRate(ConversionQuery conversionQuery) {
+            if (REAL.equals(conversionQuery.getBaseCurrency())) {
+                return null;
+            }
+            calls++;
+            return new ExchangeRateBuilder(ConversionContext.of("counting", RateType.ANY))
+                    .setBase(conversionQuery.getBaseCurrency()).setTerm(conversionQuery.getCurrency())
+                    .setFactor(DefaultNumberValue.of(new BigDecimal("0.9"))).build();
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.spi;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import javax.money.convert.ConversionContext;
+import javax.money.convert.ConversionQuery;
+import javax.money.convert.ConversionQueryBuilder;
+import javax.money.convert.ExchangeRate;
+import javax.money.convert.ProviderContext;
+import javax.money.convert.RateType;
+
+import org.javamoney.moneta.ExchangeRateBuilder;
+import org.testng.annotations.Test;
+
+/**
+ * Test for the {@link org.javamoney.moneta.spi.CachingRateProvider} class.
+ */
+public class CachingRateProviderTest {
+
+    private static final CurrencyUnit EURO = Monetary.getCurrency("EUR");
+    private static final CurrencyUnit DOLLAR = Monetary.getCurrency("USD");
+    private static final CurrencyUnit FRANC = Monetary.getCurrency("CHF");
+
+    @Test
+    public void shouldReturnCachedRate() {
+        CountingRateProvider delegate = new CountingRateProvider();
+        CachingRateProvider provider = new CachingRateProvider(delegate, 10, 0, TimeUnit.SECONDS);
+        ExchangeRate rate = provider.getExchangeRate(EURO, DOLLAR);
+        assertSame(provider.getExchangeRate(EURO, DOLLAR), rate);
+        assertEquals(delegate.calls, 1);
+        assertEquals(provider.getContext(), delegate.getContext());
+    }
+
+    @Test
+    public void shouldKeyOnCurrenciesAndDate() {
+        CountingRateProvider delegate = new CountingRateProvider();
+        CachingRateProvider provider = new CachingRateProvider(delegate, 10, 0, TimeUnit.SECONDS);
+        provider.getExchangeRate(EURO, DOLLAR);
+        provider.getExchangeRate(DOLLAR, EURO);
+        provider.getExchangeRate(query(EURO, DOLLAR, LocalDate.of(2016, 1, 4)));
+        provider.getExchangeRate(query(EURO, DOLLAR, LocalDate.of(2016, 1, 5)));
+        provider.getExchangeRate(query(EURO, DOLLAR, LocalDate.of(2016, 1, 5)));
+        assertEquals(delegate.calls, 4);
+        assertEquals(provider.size(), 4);
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsed() {
+        CountingRateProvider delegate = new CountingRateProvider();
+        CachingRateProvider provider = new CachingRateProvider(delegate, 2, 0, TimeUnit.SECONDS);
+        ExchangeRate euroDollar = provider.getExchangeRate(EURO, DOLLAR);
+        provider.getExchangeRate(EURO, FRANC);
+        provider.getExchangeRate(EURO, DOLLAR);
+        provider.getExchangeRate(DOLLAR, FRANC);
+        assertEquals(provider.size(), 2);
+        assertSame(provider.getExchangeRate(EURO, DOLLAR), euroDollar);
+        assertEquals(delegate.calls, 3);
+        provider.getExchangeRate(EURO, FRANC);
+        assertEquals(delegate.calls, 4);
+    }
+
+    @Test
+    public void shouldStayBoundedUnderConcurrentAccess() throws Exception {
+        CachingRateProvider provider = new CachingRateProvider(new CountingRateProvider(), 2, 0, TimeUnit.SECONDS);
+        CurrencyUnit[] currencies = {EURO, DOLLAR, FRANC};
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                int offset = i;
+                results.add(executor.submit(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        provider.getExchangeRate(currencies[(j + offset) % 3], currencies[(j + offset + 1) % 3]);
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrue(provider.size() <= 2);
+    }
+
+    @Test
+    public void shouldExpireRates() throws InterruptedException {
+        CountingRateProvider delegate = new CountingRateProvider();
+        CachingRateProvider provider = new CachingRateProvider(delegate, 10, 1, TimeUnit.MILLISECONDS);
+        ExchangeRate rate = provider.getExchangeRate(EURO, DOLLAR);
+        Thread.sleep(5L);
+        assertNotSame(provider.getExchangeRate(EURO, DOLLAR), rate);
+        assertEquals(delegate.calls, 2);
+    }
+
+    @Test
+    public void shouldInvalidateOnNewData() {
+        CountingRateProvider delegate = new CountingRateProvider();
+        CachingRateProvider provider = new CachingRateProvider(delegate, 10, 0, TimeUnit.SECONDS);
+        provider.getExchangeRate(EURO, DOLLAR);
+        provider.newDataLoaded("test", null);
+        assertEquals(provider.size(), 0);
+        provider.getExchangeRate(EURO, DOLLAR);
+        assertEquals(delegate.calls, 2);
+    }
+
+    @Test
+    public void shouldEvictInBatches() {
+        CountingRateProvider delegate = new CountingRateProvider();
+        CachingRateProvider provider = new CachingRateProvider(delegate, 16, 0, TimeUnit.SECONDS);
+        for (int day = 1; day <= 16; day++) {
+            provider.getExchangeRate(query(EURO, DOLLAR, LocalDate.of(2016, 1, day)));
+        }
+        provider.getExchangeRate(query(EURO, DOLLAR, LocalDate.of(2016, 1, 1)));
+        assertEquals(provider.size(), 16);
+        provider.getExchangeRate(query(EURO, DOLLAR, LocalDate.of(2016, 1, 17)));
+        assertEquals(provider.size(), 14);
+        provider.getExchangeRate(query(EURO, DOLLAR, LocalDate.of(2016, 1, 1)));
+        assertEquals(delegate.calls, 17);
+    }
+
+    @Test
+    public void shouldListenToResourcesOfDelegateUntilClosed() {
+        List<String> calls = new ArrayList<>();
+        CachingRateProvider provider = new CachingRateProvider(new CountingRateProvider(), 10, 0,
+                TimeUnit.SECONDS, recordingLoader(calls), "current", "historic");
+        assertEquals(calls, Collections.singletonList("addLoaderListener[current, historic]"));
+        provider.close();
+        assertEquals(calls.get(1), "removeLoaderListener[current, historic]");
+    }
+
+    @Test
+    public void shouldListenToResourceNamedLikeDelegateByDefault() {
+        List<String> calls = new ArrayList<>();
+        new CachingRateProvider(new CountingRateProvider(), 10, 0, TimeUnit.SECONDS, recordingLoader(calls));
+        assertEquals(calls, Collections.singletonList("addLoaderListener[CountingRateProvider]"));
+    }
+
+    private static LoaderService recordingLoader(List<String> calls) {
+        return (LoaderService) Proxy.newProxyInstance(LoaderService.class.getClassLoader(),
+                new Class<?>[]{LoaderService.class}, (proxy, method, args) -> {
+                    calls.add(method.getName() + Arrays.toString((Object[]) args[1]));
+                    return null;
+                });
+    }
+
+    private static ConversionQuery query(CurrencyUnit base, CurrencyUnit term, LocalDate date) {
+        return ConversionQueryBuilder.of().setBaseCurrency(base).setTermCurrency(term).set(date).build();
+    }
+
+    private static final class CountingRateProvider extends AbstractRateProvider {
+
+        private int calls;
+
+        CountingRateProvider() {
+            super(ProviderContext.of("counting", RateType.ANY));
+        }
+
+        @Override
+        public ExchangeRate getExchangeRate(ConversionQuery conversionQuery) {
+            calls++;
+            return new ExchangeRateBuilder(ConversionContext.of("counting", RateType.ANY))
+                    .setBase(conversionQuery.getBaseCurrency()).setTerm(conversionQuery.getCurrency())
+                    .setFactor(DefaultNumberValue.of(BigDecimal.ONE)).build();
+        }
+    }
+}
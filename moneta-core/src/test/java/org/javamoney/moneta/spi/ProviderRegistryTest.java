@@ -0,0 +1,57 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.spi;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.money.MonetaryAmountFactory;
+import javax.money.MonetaryAmountFactoryQueryBuilder;
+
+import org.javamoney.moneta.FastMoney;
+import org.javamoney.moneta.internal.DefaultMonetaryAmountsSingletonQuerySpi;
+import org.testng.annotations.Test;
+
+public class ProviderRegistryTest {
+
+    @Test
+    public void shouldResolveOnceUntilInvalidated() {
+        AtomicInteger calls = new AtomicInteger();
+        ProviderRegistry.Resolved<Integer> resolved = ProviderRegistry.resolve(calls::incrementAndGet);
+        Integer first = resolved.get();
+        assertSame(resolved.get(), first);
+        assertEquals(calls.get(), 1);
+        int version = ProviderRegistry.getVersion();
+        ProviderRegistry.invalidate();
+        assertNotEquals(ProviderRegistry.getVersion(), version);
+        assertEquals(resolved.get(), Integer.valueOf(2));
+        assertEquals(calls.get(), 2);
+    }
+
+    @Test
+    public void shouldSelectAmountFactoriesFromResolvedProviders() {
+        DefaultMonetaryAmountsSingletonQuerySpi spi = new DefaultMonetaryAmountsSingletonQuerySpi();
+        for (int i = 0; i < 2; i++) {
+            MonetaryAmountFactory<?> factory = spi.getAmountFactories(
+                    MonetaryAmountFactoryQueryBuilder.of().setTargetType(FastMoney.class).build()).iterator().next();
+            assertEquals(factory.getAmountType(), FastMoney.class);
+            ProviderRegistry.invalidate();
+        }
+    }
+}
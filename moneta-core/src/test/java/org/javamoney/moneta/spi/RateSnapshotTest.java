@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2012, 2015, Credit Suisse (Anatole Tresch), Werner Keil and others by the @author tag.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.javamoney.moneta.spi;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+public class RateSnapshotTest {
+
+    @Test
+    public void shouldRoundTripRatesOrderedByDay() {
+        LocalDate day1 = LocalDate.of(2016, 1, 4);
+        LocalDate day2 = LocalDate.of(2016, 1, 5);
+        byte[] data = new RateSnapshot.Writer(42L)
+                .add(day2, "EUR", "USD", new BigDecimal("1.0746"))
+                .add(day1, "EUR", "USD", new BigDecimal("1.0898"))
+                .add(day1, "EUR", "JPY", new BigDecimal("129.61"))
+                .add(day1, "CHF", "SDR", new BigDecimal("0.7210584210526316"))
+                .toByteArray();
+        RateSnapshot snapshot = RateSnapshot.of(ByteBuffer.wrap(data));
+        assertEquals(snapshot.getSourceChecksum(), 42L);
+        assertEquals(snapshot.getDayCount(), 2);
+        List<String> rates = new ArrayList<>();
+        snapshot.forEach((date, base, term, factor) -> rates.add(date + " " + base + "/" + term + " " + factor));
+        assertEquals(rates.toString(), "[2016-01-04 EUR/USD 1.0898, 2016-01-04 EUR/JPY 129.61, "
+                + "2016-01-04 CHF/SDR 0.7210584210526316, 2016-01-05 EUR/USD 1.0746]");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldRejectForeignData() {
+        RateSnapshot.of(ByteBuffer.wrap("<Cube time=\"2016-01-04\"/>".getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldRejectTruncatedData() {
+        byte[] data = new RateSnapshot.Writer(1L).add(LocalDate.of(2016, 1, 4), "EUR", "USD", BigDecimal.ONE)
+                .toByteArray();
+        RateSnapshot.of(ByteBuffer.wrap(data, 0, data.length - 4).slice()).forEach((date, base, term, factor) -> {
+        });
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldRejectFactorsExceedingLong() {
+        new RateSnapshot.Writer(1L).add(LocalDate.of(2016, 1, 4), "EUR", "USD", new BigDecimal("1E+200"));
+    }
+
+    @Test
+    public void shouldChecksumSourceData() {
+        byte[] data = "EUR USD 1.0898".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(RateSnapshot.checksum(data), RateSnapshot.checksum(data.clone()));
+        data[0] = 'X';
+        assertNotEquals(RateSnapshot.checksum(data), RateSnapshot.checksum("EUR USD 1.0898".getBytes(
+                StandardCharsets.US_ASCII)));
+    }
+}